@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the construction of the {@link EasyModModelIndex} of a freshly loaded model, sequentially by the
+ * first service using it or in parallel when the editing context is loaded.
+ * <p>
+ * Each invocation builds the index of a new copy of the model, the copy itself is not measured.
+ * </p>
+ *
+ * @author ebausson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class EasyModIndexBenchmark {
+
+    @Param({ "10000", "100000" })
+    private int elementCount;
+
+    @Param({ "1", "4", "8" })
+    private int parallelism;
+
+    private GeneratedSEIMModel generatedModel;
+
+    private ForkJoinPool pool;
+
+    private ResourceSet resourceSet;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.generatedModel = new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(this.elementCount));
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        this.resourceSet = new ResourceSetImpl();
+        new SEIMResourceWriter().write(this.generatedModel, this.resourceSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public EasyModModelIndex buildSequentially() {
+        return EasyModModelIndex.getOrCreate(this.resourceSet);
+    }
+
+    @Benchmark
+    public EasyModModelIndex buildInParallel() {
+        return EasyModModelIndex.build(this.resourceSet, this.pool);
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.syson.easymod.diagram.fbs.services.EasymodFBSService;
+import org.eclipse.syson.easymod.diagram.pbs.services.EasymodPBSService;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PartUsage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the services called while rendering the FBS and PBS diagrams.
+ * <p>
+ * The services called once per diagram are measured on the root package, the services called once per node are
+ * measured on each function or logical constituent in turn.
+ * </p>
+ *
+ * @author ebausson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EasyModServicesBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private SEIMModelResource model;
+
+    private EasymodFBSService fbsService;
+
+    private EasymodPBSService pbsService;
+
+    private int functionCursor;
+
+    private int constituentCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SEIMModelConfiguration configuration = SEIMModelConfiguration.DEFAULT.ofSize(this.elementCount);
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(configuration), new ResourceSetImpl());
+        this.fbsService = new EasymodFBSService(EasyModServiceMetrics.DISABLED);
+        this.pbsService = new EasymodPBSService(new IObjectService.NoOp(), EasyModServiceMetrics.DISABLED);
+        // The index is built once per editing context, it is not part of the measured rendering
+        EasyModModelIndex.getOrCreate(this.model.functionalPackage());
+    }
+
+    @Benchmark
+    public List<ActionUsage> getFunctions() {
+        return this.fbsService.getFunctions(this.model.functionalPackage(), null);
+    }
+
+    @Benchmark
+    public List<PartUsage> getLogicalConstituents() {
+        return this.pbsService.getLogicalConstituents(this.model.logicalPackage(), null);
+    }
+
+    @Benchmark
+    public List<InterfaceUsage> getFunctionalFlows() {
+        return this.fbsService.getFunctionalFlows(this.model.functionalPackage(), null);
+    }
+
+    @Benchmark
+    public boolean isSEIMFunctionAllocated() {
+        return this.fbsService.isSEIMFunctionAllocated(this.nextFunction());
+    }
+
+    @Benchmark
+    public List<ActionUsage> getFunctionsAllocatedOnLogicalConstituent() {
+        return this.pbsService.getFunctionsAllocatedOnLogicalConstituent(this.nextLogicalConstituent());
+    }
+
+    private ActionUsage nextFunction() {
+        List<ActionUsage> functions = this.model.functions();
+        this.functionCursor = (this.functionCursor + 1) % functions.size();
+        return functions.get(this.functionCursor);
+    }
+
+    private PartUsage nextLogicalConstituent() {
+        List<PartUsage> logicalConstituents = this.model.logicalConstituents();
+        this.constituentCursor = (this.constituentCursor + 1) % logicalConstituents.size();
+        return logicalConstituents.get(this.constituentCursor);
+    }
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.builder.providers.IColorProvider;
+import org.eclipse.sirius.components.view.diagram.ConditionalNodeStyle;
+import org.eclipse.sirius.components.view.diagram.EdgeDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.syson.easymod.diagram.fbs.FunctionNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.fbs.FunctionPortNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.fbs.FunctionalFlowEdgeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.fbs.services.EasymodFBSService;
+import org.eclipse.syson.easymod.diagram.pbs.LogicalConstituentNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.pbs.LogicalConstituentPortNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.pbs.LogicalFlowEdgeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.pbs.services.EasymodPBSService;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionContext;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionInterpreter;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the evaluation of the expressions of the FBS and PBS diagrams with AQL and with java expressions.
+ * <p>
+ * Each benchmark evaluates the expressions of a whole diagram as a refresh does: the semantic candidates of the
+ * nodes and edges, then the labels, the conditional styles, the ports and the ends of the edges of each candidate.
+ * The expressions are read from the descriptions created in the benchmarked mode.
+ * </p>
+ *
+ * @author ebausson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionModeBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int elementCount;
+
+    @Param({ "AQL", "JAVA" })
+    private String expressionMode;
+
+    private SEIMModelResource model;
+
+    private AQLInterpreter interpreter;
+
+    private final Map<String, Object> variables = new HashMap<>();
+
+    private NodeDescription functionNode;
+
+    private NodeDescription functionPortNode;
+
+    private EdgeDescription functionalFlowEdge;
+
+    private NodeDescription logicalConstituentNode;
+
+    private NodeDescription logicalConstituentPortNode;
+
+    private EdgeDescription logicalFlowEdge;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SEIMModelConfiguration configuration = SEIMModelConfiguration.DEFAULT.ofSize(this.elementCount);
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(configuration), new ResourceSetImpl());
+        EasyModModelIndex.getOrCreate(this.model.functionalPackage());
+
+        List<Object> services = List.of(new EasymodFBSService(EasyModServiceMetrics.DISABLED), new EasymodPBSService(new IObjectService.NoOp(), EasyModServiceMetrics.DISABLED));
+        AQLInterpreter aqlInterpreter = new AQLInterpreter(List.of(), services, List.of(SysmlPackage.eINSTANCE));
+        this.interpreter = new EasyModExpressionInterpreter(aqlInterpreter, serviceType -> services.stream().filter(serviceType::isInstance).findFirst().orElseThrow());
+        // The services are called with a null editing context, as in the other benchmarks
+        this.variables.put(IEditingContext.EDITING_CONTEXT, null);
+
+        EasyModExpressionMode mode = EasyModExpressionMode.fromName(this.expressionMode);
+        IColorProvider colorProvider = colorName -> ViewFactory.eINSTANCE.createFixedColor();
+        this.functionNode = new FunctionNodeDescriptionProvider(colorProvider, mode).create();
+        this.functionPortNode = new FunctionPortNodeDescriptionProvider(colorProvider, mode).create();
+        this.functionalFlowEdge = new FunctionalFlowEdgeDescriptionProvider(colorProvider, mode).create();
+        this.logicalConstituentNode = new LogicalConstituentNodeDescriptionProvider(colorProvider, mode).create();
+        this.logicalConstituentPortNode = new LogicalConstituentPortNodeDescriptionProvider(colorProvider, mode).create();
+        this.logicalFlowEdge = new LogicalFlowEdgeDescriptionProvider(colorProvider, mode).create();
+    }
+
+    @Benchmark
+    public void refreshFunctionalFlowDiagram(Blackhole blackhole) {
+        this.refreshNodes(this.functionNode, this.functionPortNode, this.model.functionalPackage(), blackhole);
+        this.refreshEdges(this.functionalFlowEdge, this.model.functionalPackage(), blackhole);
+    }
+
+    @Benchmark
+    public void refreshLogicalFlowDiagram(Blackhole blackhole) {
+        this.refreshNodes(this.logicalConstituentNode, this.logicalConstituentPortNode, this.model.logicalPackage(), blackhole);
+        this.refreshEdges(this.logicalFlowEdge, this.model.logicalPackage(), blackhole);
+    }
+
+    private void refreshNodes(NodeDescription nodeDescription, NodeDescription portDescription, Object diagramTarget, Blackhole blackhole) {
+        for (Object node : this.evaluateObjects(nodeDescription.getSemanticCandidatesExpression(), diagramTarget)) {
+            blackhole.consume(this.evaluateString(nodeDescription.getInsideLabel().getLabelExpression(), node));
+            this.evaluateConditions(nodeDescription, node, blackhole);
+            for (Object port : this.evaluateObjects(portDescription.getSemanticCandidatesExpression(), node)) {
+                this.evaluateConditions(portDescription, port, blackhole);
+            }
+        }
+    }
+
+    private void refreshEdges(EdgeDescription edgeDescription, Object diagramTarget, Blackhole blackhole) {
+        for (Object edge : this.evaluateObjects(edgeDescription.getSemanticCandidatesExpression(), diagramTarget)) {
+            blackhole.consume(this.evaluateObjects(edgeDescription.getSourceNodesExpression(), edge));
+            blackhole.consume(this.evaluateObjects(edgeDescription.getTargetNodesExpression(), edge));
+            blackhole.consume(this.evaluateString(edgeDescription.getCenterLabelExpression(), edge));
+        }
+    }
+
+    private void evaluateConditions(NodeDescription nodeDescription, Object self, Blackhole blackhole) {
+        for (ConditionalNodeStyle conditionalStyle : nodeDescription.getConditionalStyles()) {
+            this.variables.put(EasyModExpressionContext.SELF, self);
+            blackhole.consume(this.interpreter.evaluateExpression(this.variables, conditionalStyle.getCondition()).asBoolean().orElse(false));
+        }
+    }
+
+    private List<Object> evaluateObjects(String expression, Object self) {
+        this.variables.put(EasyModExpressionContext.SELF, self);
+        return this.interpreter.evaluateExpression(this.variables, expression).asObjects().orElse(List.of());
+    }
+
+    private String evaluateString(String expression, Object self) {
+        this.variables.put(EasyModExpressionContext.SELF, self);
+        return this.interpreter.evaluateExpression(this.variables, expression).asString().orElse("");
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
+import org.eclipse.syson.easymod.form.fbstopbs.services.EasymodFBSToPBSService;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the services called while rendering the allocation cockpit.
+ * <p>
+ * The benchmark lives in the package of {@link EasymodTableDescriptionBuilderHelper} to reach its cell providers.
+ * </p>
+ *
+ * @author ebausson
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationTableBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int elementCount;
+
+    private SEIMModelResource model;
+
+    private EasymodFBSToPBSService service;
+
+    private BiFunction<VariableManager, Object, Object> cellValueProvider;
+
+    private int functionCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SEIMModelConfiguration configuration = SEIMModelConfiguration.DEFAULT.ofSize(this.elementCount);
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(configuration), new ResourceSetImpl());
+        this.service = new EasymodFBSToPBSService(EasyModServiceMetrics.DISABLED);
+        this.cellValueProvider = new EasymodTableDescriptionBuilderHelper(this.service).getCellValueProvider();
+    }
+
+    /**
+     * Compute the statistics from scratch, as after a semantic change.
+     *
+     * @return the pie chart data
+     */
+    @Benchmark
+    public List<Number> getAttributionPieChartDataAfterChange() {
+        return this.service.getAttributionPieChartData(AllocationStatistics.compute(this.model.functionalPackage()));
+    }
+
+    /**
+     * Reuse the statistics kept by the model index, as when several widgets are rendered for the same change.
+     *
+     * @return the pie chart data
+     */
+    @Benchmark
+    public List<Number> getAttributionPieChartData() {
+        return this.service.getAttributionPieChartData(this.service.getAllocationStatistics(this.model.functionalPackage()));
+    }
+
+    @Benchmark
+    public Object getProductCellValue() {
+        List<ActionUsage> functions = this.model.functions();
+        this.functionCursor = (this.functionCursor + 1) % functions.size();
+        ActionUsage function = functions.get(this.functionCursor);
+
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, function);
+        variableManager.put(AllocationStatistics.VARIABLE_NAME, this.service.getAllocationStatistics(function));
+        return this.cellValueProvider.apply(variableManager, EasymodTableDescriptionFactory.PRODUCTS_COLUMN_LABEL);
+    }
+}
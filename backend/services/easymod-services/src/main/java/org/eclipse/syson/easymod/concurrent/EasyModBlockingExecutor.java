@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Executor shared by the EasyMod operations blocking on I/O: uploads, exports, imports, database reads...
+ * <p>
+ * On a Java 21 runtime, each task runs on its own virtual thread, so that a task blocked on I/O does not hold a
+ * platform thread. The code is compiled for Java 17, the virtual thread executor is thus created by reflection; on
+ * older runtimes, a pool of {@code easymod.blocking.max-concurrency} platform threads is used instead.
+ * </p>
+ * <p>
+ * At most {@code easymod.blocking.max-concurrency} tasks run at the same time, the other ones wait for a permit on
+ * their own thread. Cancelling the future of a task interrupts it if it is running.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class EasyModBlockingExecutor implements DisposableBean {
+
+    /**
+     * The default maximum number of tasks running at the same time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EasyModBlockingExecutor.class);
+
+    private static final String THREAD_NAME_PREFIX = "easymod-blocking-";
+
+    private static final long SHUTDOWN_TIMEOUT = 5;
+
+    private final ExecutorService executorService;
+
+    private final Semaphore permits;
+
+    private final boolean virtualThreads;
+
+    public EasyModBlockingExecutor(@Value("${easymod.blocking.max-concurrency:" + DEFAULT_MAX_CONCURRENCY + "}") int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent blocking tasks must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+        this.virtualThreads = virtualThreadExecutor != null;
+        if (virtualThreadExecutor != null) {
+            this.executorService = virtualThreadExecutor;
+        } else {
+            this.executorService = Executors.newFixedThreadPool(maxConcurrency, new DaemonThreadFactory());
+        }
+        String threadKind = "platform threads";
+        if (this.virtualThreads) {
+            threadKind = "virtual threads";
+        }
+        LOGGER.debug("EasyMod blocking tasks run on {} with at most {} concurrent tasks", threadKind, maxConcurrency);
+    }
+
+    /**
+     * Create {@code Executors.newVirtualThreadPerTaskExecutor()} if the runtime supports virtual threads.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        ExecutorService virtualThreadExecutor = null;
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            virtualThreadExecutor = (ExecutorService) factoryMethod.invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+            LOGGER.debug("Virtual threads are not available: {}", exception.getMessage());
+        }
+        return virtualThreadExecutor;
+    }
+
+    public boolean usesVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    /**
+     * Run the given blocking task.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param name
+     *            the name of the task, used in the logs
+     * @param task
+     *            the task
+     * @return the future result of the task, cancelling it interrupts the task
+     */
+    public <T> CompletableFuture<T> submit(String name, Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FutureTask<T> futureTask = new FutureTask<>(() -> this.runWithPermit(name, task, result));
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                futureTask.cancel(true);
+            }
+        });
+        try {
+            this.executorService.execute(futureTask);
+        } catch (RejectedExecutionException exception) {
+            result.completeExceptionally(exception);
+        }
+        return result;
+    }
+
+    /**
+     * Run the given blocking task when the returned {@link Mono} is subscribed. Disposing the subscription cancels
+     * the task.
+     *
+     * @param <T>
+     *            the type of the result
+     * @param name
+     *            the name of the task, used in the logs
+     * @param task
+     *            the task
+     * @return the result of the task
+     */
+    public <T> Mono<T> mono(String name, Callable<T> task) {
+        return Mono.fromFuture(() -> this.submit(name, task), false);
+    }
+
+    private <T> T runWithPermit(String name, Callable<T> task, CompletableFuture<T> result) {
+        T value = null;
+        boolean acquired = false;
+        try {
+            this.permits.acquire();
+            acquired = true;
+            if (!result.isDone()) {
+                // The task runs on the current thread, the failures of the callable are wrapped in an ExecutionException
+                FutureTask<T> call = new FutureTask<>(task);
+                call.run();
+                value = call.get();
+                result.complete(value);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            result.cancel(false);
+        } catch (ExecutionException exception) {
+            LOGGER.debug("The blocking task {} failed: {}", name, exception.getCause().getMessage());
+            result.completeExceptionally(exception.getCause());
+        } finally {
+            if (acquired) {
+                this.permits.release();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        this.executorService.shutdownNow();
+        if (!this.executorService.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+            LOGGER.warn("Some EasyMod blocking tasks are still running");
+        }
+    }
+
+    /**
+     * Creates the daemon platform threads used when virtual threads are not available.
+     *
+     * @author ebausson
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + this.threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
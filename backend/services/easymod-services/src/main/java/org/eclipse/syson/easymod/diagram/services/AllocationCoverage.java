@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+/**
+ * The allocation coverage of a branch of a breakdown.
+ *
+ * @param functionCount
+ *            the number of functions of the branch, or of the whole model for a branch of logical constituents
+ * @param allocatedFunctionCount
+ *            the number of functions of the branch which are allocated, or the number of functions allocated on a
+ *            branch of logical constituents
+ * @author ebausson
+ */
+public record AllocationCoverage(int functionCount, int allocatedFunctionCount) {
+
+    /**
+     * The coverage of an empty branch.
+     */
+    public static final AllocationCoverage EMPTY = new AllocationCoverage(0, 0);
+
+    public int getUnallocatedFunctionCount() {
+        return Math.max(0, this.functionCount - this.allocatedFunctionCount);
+    }
+
+    /**
+     * Get the ratio of allocated functions.
+     *
+     * @return the ratio of allocated functions, between 0 and 1, 0 for an empty branch
+     */
+    public double getRatio() {
+        double ratio = 0;
+        if (this.functionCount > 0) {
+            ratio = Math.min(1, (double) this.allocatedFunctionCount / this.functionCount);
+        }
+        return ratio;
+    }
+
+    /**
+     * Get the label of the coverage, e.g. {@code 12/20 (60%)}.
+     *
+     * @return the label of the coverage
+     */
+    public String getLabel() {
+        return this.allocatedFunctionCount + "/" + this.functionCount + " (" + Math.round(this.getRatio() * 100) + "%)";
+    }
+}
@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PartUsage;
+
+/**
+ * Allocation coverage of every function subtree and every logical constituent subtree of a model.
+ * <p>
+ * The coverage of all the subtrees is computed with a single traversal of the model: the functions and the
+ * constituents are collected in pre-order, then their counters are summed in reverse order so that each subtree is
+ * complete before it is added to its parent. The rollup is then registered as a {@link EasyModModelIndex.Listener}:
+ * adding or removing an allocation only updates the counters of the ancestors of its source and target. The
+ * rollup is only recomputed when functions or constituents are added, removed or moved.
+ * </p>
+ * <p>
+ * As in the allocation cockpit, a function is allocated when it is the single source of an allocation with a single
+ * target.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class AllocationCoverageRollup implements EasyModModelIndex.Listener {
+
+    private final Notifier scope;
+
+    private final EasyModModelIndex index;
+
+    private final Map<ActionUsage, Node> functionNodes = new HashMap<>();
+
+    private final Map<PartUsage, Node> constituentNodes = new HashMap<>();
+
+    private int functionCount;
+
+    private int allocatedFunctionCount;
+
+    private boolean dirty = true;
+
+    private AllocationCoverageRollup(Notifier scope, EasyModModelIndex index) {
+        this.scope = scope;
+        this.index = index;
+    }
+
+    /**
+     * Get the rollup of the model containing the given element, creating it if needed.
+     *
+     * @param element
+     *            an element of the model
+     * @return the rollup of the model of the given element
+     */
+    public static AllocationCoverageRollup getOrCreate(EObject element) {
+        Notifier scope = element.eResource();
+        if (scope == null) {
+            scope = EcoreUtil.getRootContainer(element);
+        }
+        Notifier rollupScope = scope;
+        EasyModModelIndex index = EasyModModelIndex.getOrCreate(element);
+        return index.getOrCreateListener(List.of(AllocationCoverageRollup.class, rollupScope), () -> new AllocationCoverageRollup(rollupScope, index));
+    }
+
+    /**
+     * Get the coverage of the whole model.
+     *
+     * @return the coverage of all the functions of the model
+     */
+    public synchronized AllocationCoverage getModelCoverage() {
+        this.computeIfNeeded();
+        return new AllocationCoverage(this.functionCount, this.allocatedFunctionCount);
+    }
+
+    /**
+     * Get the coverage of the given function and of its sub-functions.
+     *
+     * @param function
+     *            a function of the model
+     * @return the coverage of the subtree of the given function, {@link AllocationCoverage#EMPTY} if the function is
+     *         not part of the model
+     */
+    public synchronized AllocationCoverage getFunctionCoverage(ActionUsage function) {
+        this.computeIfNeeded();
+        AllocationCoverage coverage = AllocationCoverage.EMPTY;
+        Node node = this.functionNodes.get(function);
+        if (node != null) {
+            coverage = new AllocationCoverage(node.subtreeSize, node.subtreeAllocationCount);
+        }
+        return coverage;
+    }
+
+    /**
+     * Get the number of functions allocated on the given logical constituent and on its sub-constituents, compared to
+     * the number of functions of the model.
+     *
+     * @param constituent
+     *            a logical constituent of the model
+     * @return the coverage of the subtree of the given constituent, {@link AllocationCoverage#EMPTY} if the
+     *         constituent is not part of the model
+     */
+    public synchronized AllocationCoverage getConstituentCoverage(PartUsage constituent) {
+        this.computeIfNeeded();
+        AllocationCoverage coverage = AllocationCoverage.EMPTY;
+        Node node = this.constituentNodes.get(constituent);
+        if (node != null) {
+            coverage = new AllocationCoverage(this.functionCount, node.subtreeAllocationCount);
+        }
+        return coverage;
+    }
+
+    @Override
+    public synchronized void allocationIndexed(AllocationUsage allocation, List<Element> sources, List<Element> targets) {
+        this.update(sources, targets, 1);
+    }
+
+    @Override
+    public synchronized void allocationUnindexed(AllocationUsage allocation, List<Element> sources, List<Element> targets) {
+        this.update(sources, targets, -1);
+    }
+
+    @Override
+    public synchronized void contentChanged(Notification notification) {
+        if (!this.dirty && this.isInScope(notification.getNotifier()) && (this.affectsBreakdown(notification.getOldValue()) || this.affectsBreakdown(notification.getNewValue()))) {
+            this.dirty = true;
+        }
+    }
+
+    private void update(List<Element> sources, List<Element> targets, int delta) {
+        if (this.dirty || sources.size() != 1 || targets.size() != 1 || !(sources.get(0) instanceof ActionUsage)) {
+            return;
+        }
+        Node functionNode = this.functionNodes.get(sources.get(0));
+        if (functionNode != null) {
+            boolean wasAllocated = functionNode.allocationCount > 0;
+            functionNode.allocationCount = Math.max(0, functionNode.allocationCount + delta);
+            boolean isAllocated = functionNode.allocationCount > 0;
+            if (wasAllocated != isAllocated) {
+                int allocatedDelta = Integer.signum(delta);
+                this.allocatedFunctionCount += allocatedDelta;
+                this.propagate(functionNode, allocatedDelta);
+            }
+        }
+        Node constituentNode = this.constituentNodes.get(targets.get(0));
+        if (constituentNode != null) {
+            constituentNode.allocationCount = Math.max(0, constituentNode.allocationCount + delta);
+            this.propagate(constituentNode, delta);
+        }
+    }
+
+    private void propagate(Node node, int delta) {
+        Node current = node;
+        while (current != null) {
+            current.subtreeAllocationCount += delta;
+            current = current.parent;
+        }
+    }
+
+    private boolean isInScope(Object notifier) {
+        boolean isInScope = true;
+        if (notifier instanceof EObject eObject) {
+            isInScope = eObject.eResource() == this.scope || EcoreUtil.getRootContainer(eObject) == this.scope;
+        }
+        return isInScope;
+    }
+
+    /**
+     * Check if the given value of a containment change is, or contains, a function or a logical constituent.
+     */
+    private boolean affectsBreakdown(Object value) {
+        boolean affectsBreakdown = false;
+        if (value instanceof Collection<?> values) {
+            Iterator<?> iterator = values.iterator();
+            while (iterator.hasNext() && !affectsBreakdown) {
+                affectsBreakdown = this.affectsBreakdown(iterator.next());
+            }
+        } else if (value instanceof EObject eObject) {
+            affectsBreakdown = this.isBreakdownElement(eObject) || EasyModTraversal.of(eObject).anyMatch(this::isBreakdownElement);
+        }
+        return affectsBreakdown;
+    }
+
+    private boolean isBreakdownElement(EObject eObject) {
+        return eObject instanceof ActionUsage || eObject instanceof PartUsage && !(eObject instanceof ConnectionUsage);
+    }
+
+    private void computeIfNeeded() {
+        if (this.dirty) {
+            this.compute();
+            this.dirty = false;
+        }
+    }
+
+    private void compute() {
+        this.functionNodes.clear();
+        this.constituentNodes.clear();
+        List<Node> functionOrder = new ArrayList<>();
+        List<Node> constituentOrder = new ArrayList<>();
+        EasyModTraversal.of(this.scope).skippingStandardLibraries().forEach(content -> {
+            if (content instanceof ActionUsage function) {
+                Node node = new Node(this.getParentNode(function, this.functionNodes));
+                this.functionNodes.put(function, node);
+                functionOrder.add(node);
+                node.allocationCount = this.countAllocations(this.index.getAllocationsFrom(function), function, null);
+            } else if (content instanceof PartUsage constituent && !(content instanceof ConnectionUsage)) {
+                Node node = new Node(this.getParentNode(constituent, this.constituentNodes));
+                this.constituentNodes.put(constituent, node);
+                constituentOrder.add(node);
+                node.allocationCount = this.countAllocations(this.index.getAllocationsTo(constituent), null, constituent);
+            }
+        });
+
+        // Post-order: the children of a node are after it in the pre-order list
+        this.allocatedFunctionCount = 0;
+        for (int i = functionOrder.size() - 1; i >= 0; i--) {
+            Node node = functionOrder.get(i);
+            node.subtreeSize += 1;
+            if (node.allocationCount > 0) {
+                node.subtreeAllocationCount += 1;
+                this.allocatedFunctionCount++;
+            }
+            if (node.parent != null) {
+                node.parent.subtreeSize += node.subtreeSize;
+                node.parent.subtreeAllocationCount += node.subtreeAllocationCount;
+            }
+        }
+        for (int i = constituentOrder.size() - 1; i >= 0; i--) {
+            Node node = constituentOrder.get(i);
+            node.subtreeSize += 1;
+            node.subtreeAllocationCount += node.allocationCount;
+            if (node.parent != null) {
+                node.parent.subtreeSize += node.subtreeSize;
+                node.parent.subtreeAllocationCount += node.subtreeAllocationCount;
+            }
+        }
+        this.functionCount = functionOrder.size();
+    }
+
+    private <T extends Element> Node getParentNode(T element, Map<T, Node> nodes) {
+        Node parentNode = null;
+        EObject container = element.eContainer();
+        while (container != null && parentNode == null) {
+            parentNode = nodes.get(container);
+            container = container.eContainer();
+        }
+        return parentNode;
+    }
+
+    private int countAllocations(Collection<AllocationUsage> allocations, ActionUsage source, PartUsage target) {
+        int count = 0;
+        for (AllocationUsage allocation : allocations) {
+            List<Element> sources = allocation.getSource();
+            List<Element> targets = allocation.getTarget();
+            if (sources.size() == 1 && targets.size() == 1 && sources.get(0) instanceof ActionUsage && (source == null || sources.get(0) == source) && (target == null || targets.get(0) == target)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The counters of a function or of a logical constituent.
+     * <p>
+     * For a function, {@code allocationCount} is the number of allocations of the function and
+     * {@code subtreeAllocationCount} the number of allocated functions of its subtree. For a constituent, they are the
+     * number of allocations on the constituent and on its subtree.
+     * </p>
+     *
+     * @author ebausson
+     */
+    private static final class Node {
+
+        private final Node parent;
+
+        private int allocationCount;
+
+        private int subtreeSize;
+
+        private int subtreeAllocationCount;
+
+        Node(Node parent) {
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+
+/**
+ * Find the parts of the EasyMod models impacted by a semantic change.
+ * <p>
+ * Before an input is handled, the journal of the {@link EasyModModelIndex} of its editing context is reset. The
+ * elements changed by the input are then classified the first time a representation asks for the scopes of the
+ * resulting {@link ChangeDescription}, the result is shared by all the other representations:
+ * </p>
+ * <ul>
+ * <li>a change inside a function impacts the FBS diagrams, and the PBS diagrams if the function is allocated,</li>
+ * <li>a change inside a logical constituent impacts the PBS diagrams,</li>
+ * <li>a change of a flow or of an allocation impacts both,</li>
+ * <li>a change inside a definition, e.g. the name of a port definition, may be displayed by both and impacts both,</li>
+ * <li>a change of a package or of an element of a package, e.g. the name of the package, impacts both too, but the
+ * elements added to or removed from the content of a package are classified separately and the package itself is
+ * then ignored,</li>
+ * <li>a change outside of any package impacts none of them.</li>
+ * </ul>
+ * <p>
+ * When the changes are unknown (e.g. the change description has not been produced by an input of an editing context
+ * or too many elements have been changed), all the scopes are considered as impacted.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class EasyModChangeClassifier implements IInputPreProcessor {
+
+    private final Map<IInput, EasyModModelIndex> pendingInputs = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<IInput, Set<EasyModChangeScope>> classifiedInputs = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public IInput preProcess(IEditingContext editingContext, IInput input, Many<ChangeDescription> changeDescriptionSink) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            EasyModModelIndex index = EasyModModelIndex.getOrCreate(emfEditingContext.getDomain().getResourceSet());
+            index.resetChanges();
+            this.pendingInputs.put(input, index);
+        }
+        return input;
+    }
+
+    /**
+     * Get the parts of the models impacted by the given change.
+     *
+     * @param changeDescription
+     *            a change description
+     * @return the impacted scopes
+     */
+    public Set<EasyModChangeScope> getImpactedScopes(ChangeDescription changeDescription) {
+        IInput input = changeDescription.getInput();
+        if (input == null) {
+            return EnumSet.allOf(EasyModChangeScope.class);
+        }
+        synchronized (this.classifiedInputs) {
+            return this.classifiedInputs.computeIfAbsent(input, this::classify);
+        }
+    }
+
+    private Set<EasyModChangeScope> classify(IInput input) {
+        Set<EasyModChangeScope> scopes = EnumSet.noneOf(EasyModChangeScope.class);
+        EasyModModelIndex index = this.pendingInputs.remove(input);
+        if (index == null) {
+            scopes = EnumSet.allOf(EasyModChangeScope.class);
+        } else {
+            EasyModModelIndex.Changes changes = index.drainChanges();
+            if (changes.globalChange()) {
+                scopes = EnumSet.allOf(EasyModChangeScope.class);
+            } else {
+                for (EObject changedElement : changes.changedElements()) {
+                    scopes.addAll(this.classifyElement(changedElement, index, true));
+                }
+                for (EObject changedContainer : changes.changedContainers()) {
+                    scopes.addAll(this.classifyElement(changedContainer, index, false));
+                }
+                for (EObject changedContent : changes.changedContents()) {
+                    scopes.addAll(this.classifyContent(changedContent, index));
+                }
+            }
+        }
+        return Collections.unmodifiableSet(scopes);
+    }
+
+    /**
+     * Classify a changed element with its closest container of interest.
+     *
+     * @param changedElement
+     *            the changed element
+     * @param index
+     *            the index of the model
+     * @param withPackages
+     *            {@code true} if a package containing the changed element is impacted, {@code false} if the change
+     *            is only a change of the content of a package, classified separately
+     * @return the impacted scopes
+     */
+    private Set<EasyModChangeScope> classifyElement(EObject changedElement, EasyModModelIndex index, boolean withPackages) {
+        Set<EasyModChangeScope> scopes = EnumSet.noneOf(EasyModChangeScope.class);
+        EObject current = changedElement;
+        while (scopes.isEmpty() && current != null) {
+            scopes = this.getScopes(current, index, withPackages);
+            current = current.eContainer();
+        }
+        return scopes;
+    }
+
+    /**
+     * Classify an element added to or removed from the model. When it is not located inside a function, a logical
+     * constituent or a relationship of interest, its content is classified instead.
+     *
+     * @param changedContent
+     *            the added or removed element
+     * @param index
+     *            the index of the model
+     * @return the impacted scopes
+     */
+    private Set<EasyModChangeScope> classifyContent(EObject changedContent, EasyModModelIndex index) {
+        Set<EasyModChangeScope> scopes = this.classifyElement(changedContent, index, false);
+        TreeIterator<EObject> contents = changedContent.eAllContents();
+        while (scopes.size() < EasyModChangeScope.values().length && contents.hasNext()) {
+            EObject content = contents.next();
+            Set<EasyModChangeScope> contentScopes = this.getScopes(content, index, false);
+            if (!contentScopes.isEmpty()) {
+                scopes.addAll(contentScopes);
+                contents.prune();
+            }
+        }
+        return scopes;
+    }
+
+    private Set<EasyModChangeScope> getScopes(EObject element, EasyModModelIndex index, boolean withPackages) {
+        Set<EasyModChangeScope> scopes = EnumSet.noneOf(EasyModChangeScope.class);
+        if (element instanceof AllocationUsage || element instanceof InterfaceUsage || element instanceof Definition) {
+            scopes = EnumSet.allOf(EasyModChangeScope.class);
+        } else if (element instanceof ActionUsage function) {
+            scopes.add(EasyModChangeScope.FUNCTIONAL);
+            if (!index.getAllocationsFrom(function).isEmpty()) {
+                scopes.add(EasyModChangeScope.LOGICAL);
+            }
+        } else if (element instanceof PartUsage) {
+            scopes.add(EasyModChangeScope.LOGICAL);
+        } else if (withPackages && element instanceof Package) {
+            scopes = EnumSet.allOf(EasyModChangeScope.class);
+        }
+        return scopes;
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+/**
+ * The parts of an EasyMod model which can be impacted by a semantic change.
+ *
+ * @author ebausson
+ */
+public enum EasyModChangeScope {
+    /**
+     * The functions, their ports and the functional flows displayed by the FBS diagrams.
+     */
+    FUNCTIONAL,
+
+    /**
+     * The logical constituents, their ports, the logical flows and the allocated functions displayed by the PBS
+     * diagrams.
+     */
+    LOGICAL,
+}
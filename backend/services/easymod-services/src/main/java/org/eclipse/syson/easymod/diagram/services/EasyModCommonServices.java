@@ -12,20 +12,23 @@
  *******************************************************************************/
 package org.eclipse.syson.easymod.diagram.services;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
 import org.eclipse.syson.services.ElementInitializerSwitch;
 import org.eclipse.syson.sysml.ActionDefinition;
+import org.eclipse.syson.sysml.AllocationDefinition;
 import org.eclipse.syson.sysml.AttributeUsage;
 import org.eclipse.syson.sysml.Definition;
 import org.eclipse.syson.sysml.Element;
@@ -54,6 +57,18 @@ public class EasyModCommonServices {
 
     protected final ElementInitializerSwitch elementInitializerSwitch = new ElementInitializerSwitch();
 
+    private final EasyModServiceMetrics serviceMetrics;
+
+    /**
+     * Constructor.
+     *
+     * @param serviceMetrics
+     *            the instrumentation of the calls of the services
+     */
+    public EasyModCommonServices(EasyModServiceMetrics serviceMetrics) {
+        this.serviceMetrics = Objects.requireNonNull(serviceMetrics);
+    }
+
     /**
      * Delete the given {@link InterfaceUsage} and its container if it's a {@link Membership}. Also delete related
      * ports.
@@ -63,27 +78,29 @@ public class EasyModCommonServices {
      * @return the deleted element.
      */
     public EObject deleteFlow(InterfaceUsage interfaceUsage) {
-        Set<EObject> elementsToDelete = new HashSet<>();
-        elementsToDelete.add(interfaceUsage);
-        if (interfaceUsage.eContainer() instanceof Membership membership) {
-            elementsToDelete.add(membership);
-        }
-        EList<Element> sources = interfaceUsage.getSource();
-        elementsToDelete.addAll(sources);
-        for (Element source : sources) {
-            if (source.eContainer() instanceof Membership membership) {
+        return this.measure("deleteFlow", () -> {
+            Set<EObject> elementsToDelete = new HashSet<>();
+            elementsToDelete.add(interfaceUsage);
+            if (interfaceUsage.eContainer() instanceof Membership membership) {
                 elementsToDelete.add(membership);
             }
-        }
-        EList<Element> targets = interfaceUsage.getTarget();
-        elementsToDelete.addAll(targets);
-        for (Element target : targets) {
-            if (target.eContainer() instanceof Membership membership) {
-                elementsToDelete.add(membership);
+            EList<Element> sources = interfaceUsage.getSource();
+            elementsToDelete.addAll(sources);
+            for (Element source : sources) {
+                if (source.eContainer() instanceof Membership membership) {
+                    elementsToDelete.add(membership);
+                }
             }
-        }
-        EcoreUtil.removeAll(elementsToDelete);
-        return interfaceUsage;
+            EList<Element> targets = interfaceUsage.getTarget();
+            elementsToDelete.addAll(targets);
+            for (Element target : targets) {
+                if (target.eContainer() instanceof Membership membership) {
+                    elementsToDelete.add(membership);
+                }
+            }
+            EcoreUtil.removeAll(elementsToDelete);
+            return interfaceUsage;
+        });
     }
 
     /**
@@ -96,8 +113,10 @@ public class EasyModCommonServices {
      * @return the element with the new label.
      */
     public Element directEditEasyModNode(Element element, String newLabel) {
-        element.setDeclaredName(newLabel);
-        return element;
+        return this.measure("directEditEasyModNode", () -> {
+            element.setDeclaredName(newLabel);
+            return element;
+        });
     }
 
     /**
@@ -108,7 +127,7 @@ public class EasyModCommonServices {
      * @return the label to display when user activate direct edit.
      */
     public String getDefaultEasyModInitialDirectEditLabel(Element element) {
-        return element.getDeclaredName();
+        return this.measure("getDefaultEasyModInitialDirectEditLabel", element::getDeclaredName);
     }
 
     /**
@@ -119,7 +138,7 @@ public class EasyModCommonServices {
      * @return {@code true} if the feature has as a direction and this direction is IN, {@code false} otherwise.
      */
     public boolean isInFeature(Feature feature) {
-        return FeatureDirectionKind.IN.equals(feature.getDirection());
+        return this.measure("isInFeature", () -> FeatureDirectionKind.IN.equals(feature.getDirection()));
     }
 
     /**
@@ -130,7 +149,7 @@ public class EasyModCommonServices {
      * @return {@code true} if the feature has as a direction and this direction is OUT, {@code false} otherwise.
      */
     public boolean isOutFeature(Feature feature) {
-        return FeatureDirectionKind.OUT.equals(feature.getDirection());
+        return this.measure("isOutFeature", () -> FeatureDirectionKind.OUT.equals(feature.getDirection()));
     }
 
     /**
@@ -141,7 +160,7 @@ public class EasyModCommonServices {
      * @return {@code true} if the feature has as a direction and this direction is INOUT, {@code false} otherwise.
      */
     public boolean isInOutFeature(Feature feature) {
-        return FeatureDirectionKind.INOUT.equals(feature.getDirection());
+        return this.measure("isInOutFeature", () -> FeatureDirectionKind.INOUT.equals(feature.getDirection()));
     }
 
     protected Element elementInitializer(Element element) {
@@ -149,19 +168,82 @@ public class EasyModCommonServices {
     }
 
     protected Predicate<? super org.eclipse.syson.sysml.Feature> isTypedWith(String qualifiedName) {
-        return element -> element.getType().stream().anyMatch(t -> t != null && qualifiedName != null && qualifiedName.equals(t.getQualifiedName()));
+        return element -> SEIMTypeMatcher.isTypedWith(element, qualifiedName);
+    }
+
+    /**
+     * Get a lazy traversal of the model containing the given element, standard libraries excluded.
+     * 
+     * @param eObject
+     *            an element of the model to traverse
+     * @return the traversal of the model of the given element
+     */
+    public EasyModTraversal<EObject> traverseModel(EObject eObject) {
+        return this.measure("traverseModel", () -> EasyModTraversal.ofModel(eObject).skippingStandardLibraries());
+    }
+
+    /**
+     * Record a call of a service with the {@link EasyModServiceMetrics}, the call is directly performed when the
+     * metrics are disabled.
+     *
+     * @param <T>
+     *            the type of the result of the call
+     * @param operation
+     *            the name of the called service
+     * @param call
+     *            the call of the service
+     * @return the result of the call
+     */
+    protected <T> T measure(String operation, Supplier<T> call) {
+        if (!this.serviceMetrics.isEnabled()) {
+            return call.get();
+        }
+        return this.serviceMetrics.record(this.getClass().getSimpleName(), operation, call);
     }
 
-    public List<Notifier> extractNotifier(EObject eObject) {
-        ArrayList<Notifier> notifiersList = new ArrayList<>();
-        eObject.eResource().getAllContents().forEachRemaining(notifiersList::add);
-        return notifiersList;
+    /**
+     * Record the number of elements visited by a service with the {@link EasyModServiceMetrics}.
+     *
+     * @param operation
+     *            the name of the service
+     * @param elementCount
+     *            the number of visited elements
+     */
+    protected void measureVisitedElements(String operation, int elementCount) {
+        if (this.serviceMetrics.isEnabled()) {
+            this.serviceMetrics.recordElements(this.getClass().getSimpleName(), operation, elementCount);
+        }
     }
 
-    protected List<Notifier> extractGlobalNotifier(EObject eObject) {
-        ArrayList<Notifier> notifiersList = new ArrayList<>();
-        eObject.eResource().getResourceSet().getAllContents().forEachRemaining(notifiersList::add);
-        return notifiersList;
+    /**
+     * Get the flows typed by the given SEIM element connecting ports of the given elements. Only the flows whose source
+     * and target ports are all owned by the given elements are returned, the flows are found from the ports with the
+     * {@link EasyModModelIndex}.
+     * 
+     * @param context
+     *            an element of the model
+     * @param visibleElements
+     *            the elements owning the ports, usually the elements displayed on a diagram
+     * @param flowQualifiedName
+     *            the qualified name of the type of the flows, e.g. {@code SEIM::FunctionalFlow}
+     * @return the flows connecting ports of the given elements
+     */
+    protected List<InterfaceUsage> getFlowsBetween(EObject context, Collection<? extends Usage> visibleElements, String flowQualifiedName) {
+        Set<PortUsage> visiblePorts = new LinkedHashSet<>();
+        visibleElements.forEach(element -> visiblePorts.addAll(element.getNestedPort()));
+        this.measureVisitedElements("getFlowsBetween", visiblePorts.size());
+
+        EasyModModelIndex index = EasyModModelIndex.getOrCreate(context);
+        Predicate<? super Feature> isFlow = this.isTypedWith(flowQualifiedName);
+        Set<InterfaceUsage> flows = new LinkedHashSet<>();
+        for (PortUsage port : visiblePorts) {
+            for (InterfaceUsage flow : index.getInterfacesOn(port)) {
+                if (!flows.contains(flow) && visiblePorts.containsAll(flow.getSource()) && visiblePorts.containsAll(flow.getTarget()) && isFlow.test(flow)) {
+                    flows.add(flow);
+                }
+            }
+        }
+        return List.copyOf(flows);
     }
 
     protected Namespace getClosestContainingDefinitionOrPackageFrom(Element element) {
@@ -205,58 +287,34 @@ public class EasyModCommonServices {
 
     // Element Definition object helpers
     protected Optional<PartDefinition> getOptionalSeimLogicalConstituentDefinition(EObject sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof PartDefinition)
-                .map(PartDefinition.class::cast)
-                .filter(functionDef -> EasyModConstants.LOGICAL_CONSTITUENT_QUALIFIED_NAME.equals(functionDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_QUALIFIED_NAME, PartDefinition.class);
     }
 
     protected Optional<PortDefinition> getOptionalLogicalConstituentPortDefinition(Element sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof PortDefinition)
-                .map(PortDefinition.class::cast)
-                .filter(portDef -> EasyModConstants.LOGICAL_CONSTITUENT_PORT_QUALIFIED_NAME.equals(portDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_PORT_QUALIFIED_NAME, PortDefinition.class);
     }
 
     protected Optional<InterfaceDefinition> getOptionalLogicalConstituentFlowDefinition(Element sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof InterfaceDefinition)
-                .map(InterfaceDefinition.class::cast)
-                .filter(portDef -> EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME.equals(portDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME, InterfaceDefinition.class);
     }
 
     protected Optional<ActionDefinition> getOptionalSeimFunctionDefinition(EObject sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof ActionDefinition)
-                .map(ActionDefinition.class::cast)
-                .filter(functionDef -> EasyModConstants.FUNCTION_QUALIFIED_NAME.equals(functionDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.FUNCTION_QUALIFIED_NAME, ActionDefinition.class);
     }
 
     protected Optional<PortDefinition> getOptionalSeimFunctionPortDefinition(Element sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof PortDefinition)
-                .map(PortDefinition.class::cast)
-                .filter(portDef -> EasyModConstants.FUNCTION_PORT_QUALIFIED_NAME.equals(portDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.FUNCTION_PORT_QUALIFIED_NAME, PortDefinition.class);
     }
 
     protected Optional<InterfaceDefinition> getOptionalSeimFunctionalFlowDefinition(Element sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof InterfaceDefinition)
-                .map(InterfaceDefinition.class::cast)
-                .filter(portDef -> EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME.equals(portDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME, InterfaceDefinition.class);
+    }
+
+    protected Optional<AllocationDefinition> getOptionalSeimAllocatedFunctionDefinition(EObject sourceElement) {
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME, AllocationDefinition.class);
     }
 
     protected Optional<AttributeUsage> getOptionalSeimSystemOfInterest(EObject sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof AttributeUsage)
-                .map(AttributeUsage.class::cast)
-                .filter(functionDef -> EasyModConstants.SEIM_ATTRIBUTE_OF_INTEREST_QUALIFIED_NAME.equals(functionDef.getQualifiedName()))
-                .findFirst();
+        return SEIMDefinitionRegistry.getOrCreate(sourceElement).getDefinition(EasyModConstants.SEIM_ATTRIBUTE_OF_INTEREST_QUALIFIED_NAME, AttributeUsage.class);
     }
 }
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PortUsage;
+
+/**
+ * The entries of the {@link EasyModModelIndex} computed by an {@link EasyModParallelIndexer}, used by the index
+ * instead of recomputing them while it is attached to the models.
+ *
+ * @author ebausson
+ */
+final class EasyModIndexSnapshot {
+
+    private final Map<ConnectionUsage, EasyModModelIndex.IndexedEnds> connectionEnds = new HashMap<>();
+
+    private final Map<Element, SEIMKind> kinds = new HashMap<>();
+
+    private final Map<PortUsage, Element> portOwners = new HashMap<>();
+
+    EasyModModelIndex.IndexedEnds getEnds(ConnectionUsage connectionUsage) {
+        return this.connectionEnds.get(connectionUsage);
+    }
+
+    SEIMKind getKind(Element element) {
+        return this.kinds.get(element);
+    }
+
+    Element getPortOwner(PortUsage port) {
+        return this.portOwners.get(port);
+    }
+
+    int size() {
+        return this.connectionEnds.size() + this.kinds.size() + this.portOwners.size();
+    }
+
+    void putEnds(ConnectionUsage connectionUsage, EasyModModelIndex.IndexedEnds ends) {
+        this.connectionEnds.put(connectionUsage, ends);
+    }
+
+    void putKind(Element element, SEIMKind kind) {
+        this.kinds.put(element, kind);
+    }
+
+    void putPortOwner(PortUsage port, Element owner) {
+        this.portOwners.put(port, owner);
+    }
+
+    /**
+     * Add the entries of the given snapshot, computed on another part of the models, to this snapshot.
+     *
+     * @param other
+     *            the other snapshot
+     * @return this snapshot
+     */
+    EasyModIndexSnapshot merge(EasyModIndexSnapshot other) {
+        this.connectionEnds.putAll(other.connectionEnds);
+        this.kinds.putAll(other.kinds);
+        this.portOwners.putAll(other.portOwners);
+        return this;
+    }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Build the {@link EasyModModelIndex} of an editing context when it is loaded.
+ * <p>
+ * Without this processor, the index is built by the first service using it, i.e. during the first refresh of a
+ * diagram. The models are scanned in parallel with a dedicated {@link ForkJoinPool}, whose parallelism is the number
+ * of available processors unless {@code easymod.indexing.parallelism} is set.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class EasyModIndexingEditingContextProcessor implements IEditingContextProcessor, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EasyModIndexingEditingContextProcessor.class);
+
+    private final boolean enabled;
+
+    private final ForkJoinPool pool;
+
+    public EasyModIndexingEditingContextProcessor(@Value("${easymod.indexing.on-load:true}") boolean enabled, @Value("${easymod.indexing.parallelism:0}") int parallelism) {
+        this.enabled = enabled;
+        int poolParallelism = parallelism;
+        if (poolParallelism <= 0) {
+            poolParallelism = Runtime.getRuntime().availableProcessors();
+        }
+        this.pool = new ForkJoinPool(poolParallelism);
+    }
+
+    @Override
+    public void preProcess(IEditingContext editingContext) {
+        if (this.enabled && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            long start = System.nanoTime();
+            EasyModModelIndex.build(emfEditingContext.getDomain().getResourceSet(), this.pool);
+            LOGGER.debug("EasyMod index of the editing context {} built in {}ms", editingContext.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        this.pool.shutdown();
+    }
+}
@@ -0,0 +1,630 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Relationship;
+
+/**
+ * Indexes of the user models of a resource set, kept up to date while the models are edited.
+ * <p>
+ * The index is attached as a content adapter on the resource set of an editing context. It is built with a single
+ * traversal of the user resources when it is attached, standard library resources are not adapted. It then follows
+ * the EMF notifications to update the {@link AllocationUsage} and {@link InterfaceUsage} entries incrementally, which
+ * allows services to answer "which allocations start from / end on this element" or "which flows are connected to
+ * this port" without walking the model. The elements typed by the SEIM definitions are indexed by {@link SEIMKind}
+ * and the ports by owner the same way.
+ * </p>
+ * <p>
+ * The index is usually built when an editing context is loaded, see {@link #build(ResourceSet, ForkJoinPool)}: the
+ * entries are then computed on several threads by an {@link EasyModParallelIndexer} before the adapter is attached.
+ * </p>
+ * <p>
+ * The index also holds values derived from the models, see {@link #getDerivedValue(Object, Supplier)}, which are
+ * dropped on every semantic change.
+ * </p>
+ * <p>
+ * Finally, the index keeps a journal of the elements changed since the last call to {@link #resetChanges()}, it is
+ * used to find the representations impacted by a command, see {@link EasyModChangeClassifier}.
+ * </p>
+ * <p>
+ * Computations which are cheaper to update than to recompute register a {@link Listener} instead of a derived
+ * value, they are notified of the allocations indexed and unindexed and of the containment changes of the models.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class EasyModModelIndex extends EContentAdapter {
+
+    /**
+     * The maximum number of changed elements kept in the journal, larger changes are considered as global changes.
+     */
+    public static final int MAX_JOURNAL_SIZE = 1024;
+
+    private final Map<ConnectionUsage, IndexedEnds> indexedConnections = new HashMap<>();
+
+    private final Map<Element, Set<AllocationUsage>> allocationsBySource = new HashMap<>();
+
+    private final Map<Element, Set<AllocationUsage>> allocationsByTarget = new HashMap<>();
+
+    private final Map<Element, Set<InterfaceUsage>> interfacesByEnd = new HashMap<>();
+
+    private final Map<SEIMKind, Set<Element>> elementsByKind = new EnumMap<>(SEIMKind.class);
+
+    private final Map<Element, SEIMKind> kindByElement = new HashMap<>();
+
+    private final Map<PortUsage, Element> ownerByPort = new HashMap<>();
+
+    private final Map<Object, Object> derivedValues = new HashMap<>();
+
+    private final Map<Object, Listener> listeners = new LinkedHashMap<>();
+
+    private final Set<EObject> changedElements = new LinkedHashSet<>();
+
+    private final Set<EObject> changedContainers = new LinkedHashSet<>();
+
+    private final Set<EObject> changedContents = new LinkedHashSet<>();
+
+    private boolean globalChange;
+
+    private EasyModIndexSnapshot snapshot;
+
+    /**
+     * Get the index of the resource set containing the given element, creating and attaching it if needed.
+     *
+     * @param eObject
+     *            an element of the editing context
+     * @return the index of the resource set of the given element
+     */
+    public static EasyModModelIndex getOrCreate(EObject eObject) {
+        return getOrCreate(getScope(eObject));
+    }
+
+    /**
+     * Get the index of the given resource set, creating and attaching it if needed.
+     *
+     * @param resourceSet
+     *            the resource set of an editing context
+     * @return the index of the given resource set
+     */
+    public static EasyModModelIndex getOrCreate(ResourceSet resourceSet) {
+        return getOrCreate((Notifier) resourceSet);
+    }
+
+    /**
+     * Tell if the given allocation allocates a function on a product: it must have a single source and a single
+     * target. This is the rule used by {@link #getAllocatedElements(Element)}, the allocation cockpit and the
+     * allocation export, the allocations with several sources or targets are ignored.
+     *
+     * @param allocation
+     *            an allocation
+     * @return {@code true} if the allocation has a single source and a single target
+     */
+    public static boolean isSingleAllocation(AllocationUsage allocation) {
+        return allocation.getSource().size() == 1 && allocation.getTarget().size() == 1;
+    }
+
+    /**
+     * Get the index of the given resource set, building it with the given pool and attaching it if needed.
+     * <p>
+     * The entries of the index are computed in parallel on the current state of the models, which must not be
+     * modified until this method returns.
+     * </p>
+     *
+     * @param resourceSet
+     *            the resource set of an editing context
+     * @param pool
+     *            the pool used to scan the models
+     * @return the index of the given resource set
+     */
+    public static EasyModModelIndex build(ResourceSet resourceSet, ForkJoinPool pool) {
+        Adapter existingAdapter = EcoreUtil.getExistingAdapter(resourceSet, EasyModModelIndex.class);
+        if (existingAdapter instanceof EasyModModelIndex index) {
+            return index;
+        }
+        EasyModModelIndex index = new EasyModModelIndex();
+        index.snapshot = new EasyModParallelIndexer(pool).scan(resourceSet);
+        try {
+            resourceSet.eAdapters().add(index);
+        } finally {
+            index.snapshot = null;
+        }
+        return index;
+    }
+
+    private static EasyModModelIndex getOrCreate(Notifier scope) {
+        Adapter existingAdapter = EcoreUtil.getExistingAdapter(scope, EasyModModelIndex.class);
+        if (existingAdapter instanceof EasyModModelIndex index) {
+            return index;
+        }
+        EasyModModelIndex index = new EasyModModelIndex();
+        scope.eAdapters().add(index);
+        return index;
+    }
+
+    private static Notifier getScope(EObject eObject) {
+        Notifier scope = EcoreUtil.getRootContainer(eObject);
+        Resource resource = eObject.eResource();
+        if (resource != null && resource.getResourceSet() != null) {
+            scope = resource.getResourceSet();
+        } else if (resource != null) {
+            scope = resource;
+        }
+        return scope;
+    }
+
+    /**
+     * Get the {@link AllocationUsage} having the given element as source.
+     *
+     * @param source
+     *            the allocated element
+     * @return the allocations starting from the given element
+     */
+    public Set<AllocationUsage> getAllocationsFrom(Element source) {
+        return Collections.unmodifiableSet(this.allocationsBySource.getOrDefault(source, Set.of()));
+    }
+
+    /**
+     * Get the {@link AllocationUsage} having the given element as target.
+     *
+     * @param target
+     *            the element on which elements are allocated
+     * @return the allocations ending on the given element
+     */
+    public Set<AllocationUsage> getAllocationsTo(Element target) {
+        return Collections.unmodifiableSet(this.allocationsByTarget.getOrDefault(target, Set.of()));
+    }
+
+    /**
+     * Get the elements allocated on the given element, i.e. the source of the {@link AllocationUsage} having the given
+     * element as their only target and a single source. This is answered from the allocations indexed by target, in
+     * the order in which they have been indexed, without walking the model.
+     *
+     * @param target
+     *            the element on which elements are allocated, usually a logical constituent
+     * @return the elements allocated on the given element
+     */
+    public List<Element> getAllocatedElements(Element target) {
+        Set<AllocationUsage> allocations = this.allocationsByTarget.get(target);
+        if (allocations == null) {
+            return List.of();
+        }
+        List<Element> allocatedElements = new ArrayList<>(allocations.size());
+        for (AllocationUsage allocation : allocations) {
+            IndexedEnds ends = this.indexedConnections.get(allocation);
+            if (ends != null && ends.sources().size() == 1 && ends.targets().size() == 1) {
+                allocatedElements.add(ends.sources().get(0));
+            }
+        }
+        return allocatedElements;
+    }
+
+    /**
+     * Get the {@link InterfaceUsage} having the given element as source or as target.
+     *
+     * @param end
+     *            the connected element, usually a port
+     * @return the interfaces connected to the given element
+     */
+    public Set<InterfaceUsage> getInterfacesOn(Element end) {
+        return Collections.unmodifiableSet(this.interfacesByEnd.getOrDefault(end, Set.of()));
+    }
+
+    /**
+     * Get the elements of the given kind, in the order in which they have been indexed.
+     *
+     * @param kind
+     *            a kind of SEIM element
+     * @return the elements of the indexed models typed by the SEIM definition of the given kind
+     */
+    public Set<Element> getElementsOfKind(SEIMKind kind) {
+        return Collections.unmodifiableSet(this.elementsByKind.getOrDefault(kind, Set.of()));
+    }
+
+    /**
+     * Get the kind of the given element.
+     *
+     * @param element
+     *            an element of the indexed models
+     * @return the kind of the element, if it is typed by a SEIM definition
+     */
+    public Optional<SEIMKind> getKind(Element element) {
+        return Optional.ofNullable(this.kindByElement.get(element));
+    }
+
+    /**
+     * Get the owner of the given port, e.g. the function or the logical constituent at the end of a flow.
+     *
+     * @param port
+     *            a port of the indexed models
+     * @return the owner of the port, if any
+     */
+    public Optional<Element> getPortOwner(PortUsage port) {
+        return Optional.ofNullable(this.ownerByPort.get(port));
+    }
+
+    /**
+     * Get a value computed from the indexed models, computing it if needed.
+     * <p>
+     * Derived values are kept until the next semantic change of an indexed model, they allow services to share the
+     * result of an expensive computation between several representations or several parts of the same representation.
+     * </p>
+     *
+     * @param <V>
+     *            the type of the value
+     * @param key
+     *            the key of the value, it should identify both the kind of value and its scope
+     * @param computation
+     *            the computation of the value
+     * @return the derived value
+     */
+    public synchronized <V> V getDerivedValue(Object key, Supplier<V> computation) {
+        @SuppressWarnings("unchecked")
+        V value = (V) this.derivedValues.get(key);
+        if (value == null) {
+            value = computation.get();
+            this.derivedValues.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Get the listener registered with the given key, creating and registering it if needed.
+     * <p>
+     * Unlike derived values, listeners are kept when the models change: they are expected to update their state from
+     * the notifications they receive.
+     * </p>
+     *
+     * @param <L>
+     *            the type of the listener
+     * @param key
+     *            the key of the listener, it should identify both the kind of listener and its scope
+     * @param factory
+     *            the creation of the listener
+     * @return the listener registered with the given key
+     */
+    public synchronized <L extends Listener> L getOrCreateListener(Object key, Supplier<L> factory) {
+        @SuppressWarnings("unchecked")
+        L listener = (L) this.listeners.get(key);
+        if (listener == null) {
+            listener = factory.get();
+            this.listeners.put(key, listener);
+        }
+        return listener;
+    }
+
+    /**
+     * Start a new journal of the changed elements.
+     */
+    public synchronized void resetChanges() {
+        this.changedElements.clear();
+        this.changedContainers.clear();
+        this.changedContents.clear();
+        this.globalChange = false;
+    }
+
+    /**
+     * Get the elements changed since the last call to {@link #resetChanges()} and start a new journal.
+     *
+     * @return the changes recorded in the journal
+     */
+    public synchronized Changes drainChanges() {
+        Changes changes = new Changes(Set.copyOf(this.changedElements), Set.copyOf(this.changedContainers), Set.copyOf(this.changedContents), this.globalChange);
+        this.resetChanges();
+        return changes;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EasyModModelIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.clearDerivedValues();
+            this.record(notification);
+            if (this.isContainmentChange(notification)) {
+                this.getListeners().forEach(listener -> listener.contentChanged(notification));
+            }
+            this.reclassify(notification.getNotifier());
+            if (notification.getNotifier() instanceof ConnectionUsage connectionUsage && this.indexedConnections.containsKey(connectionUsage)) {
+                this.index(connectionUsage);
+            }
+        }
+    }
+
+    @Override
+    protected void addAdapter(Notifier notifier) {
+        if (notifier instanceof Resource && EasyModTraversal.isStandardLibrary(notifier)) {
+            return;
+        }
+        super.addAdapter(notifier);
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        super.setTarget(target);
+        if (target instanceof AllocationUsage || target instanceof InterfaceUsage) {
+            this.index((ConnectionUsage) target);
+        }
+        if (SEIMKind.isCandidate(target)) {
+            this.classify((Element) target);
+        }
+        if (target instanceof PortUsage port) {
+            this.indexOwner(port);
+        }
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        if (target instanceof ConnectionUsage connectionUsage) {
+            this.unindex(connectionUsage);
+        }
+        if (SEIMKind.isCandidate(target)) {
+            this.setKind((Element) target, null);
+        }
+        if (target instanceof PortUsage port) {
+            this.ownerByPort.remove(port);
+        }
+    }
+
+    /**
+     * Classify again the feature whose typing may have been changed by the given notifier.
+     */
+    private void reclassify(Object notifier) {
+        if (SEIMKind.isCandidate(notifier)) {
+            this.classify((Element) notifier);
+        } else if (notifier instanceof Relationship relationship && SEIMKind.isCandidate(relationship.getOwningRelatedElement())) {
+            this.classify(relationship.getOwningRelatedElement());
+        }
+    }
+
+    private void classify(Element element) {
+        SEIMKind kind;
+        if (this.snapshot != null) {
+            kind = this.snapshot.getKind(element);
+        } else {
+            kind = SEIMKind.of(element).orElse(null);
+        }
+        this.setKind(element, kind);
+    }
+
+    private void setKind(Element element, SEIMKind kind) {
+        SEIMKind previousKind = this.kindByElement.get(element);
+        if (previousKind != kind) {
+            if (previousKind != null) {
+                Set<Element> elements = this.elementsByKind.get(previousKind);
+                elements.remove(element);
+                if (elements.isEmpty()) {
+                    this.elementsByKind.remove(previousKind);
+                }
+                this.kindByElement.remove(element);
+            }
+            if (kind != null) {
+                this.elementsByKind.computeIfAbsent(kind, key -> new LinkedHashSet<>()).add(element);
+                this.kindByElement.put(element, kind);
+            }
+        }
+    }
+
+    private void indexOwner(PortUsage port) {
+        Element owner = null;
+        if (this.snapshot != null) {
+            owner = this.snapshot.getPortOwner(port);
+        }
+        if (owner == null) {
+            owner = port.getOwner();
+        }
+        if (owner != null) {
+            this.ownerByPort.put(port, owner);
+        }
+    }
+
+    private boolean isContainmentChange(Notification notification) {
+        return !(notification.getNotifier() instanceof EObject) || notification.getFeature() instanceof EReference reference && reference.isContainment();
+    }
+
+    private synchronized List<Listener> getListeners() {
+        List<Listener> currentListeners = List.of();
+        if (!this.listeners.isEmpty()) {
+            currentListeners = List.copyOf(this.listeners.values());
+        }
+        return currentListeners;
+    }
+
+    private synchronized void clearDerivedValues() {
+        this.derivedValues.clear();
+    }
+
+    private synchronized void record(Notification notification) {
+        if (notification.getNotifier() instanceof EObject notifier) {
+            if (notification.getFeature() instanceof EReference reference && reference.isContainment()) {
+                this.record(this.changedContainers, notifier);
+                this.recordContent(notification.getOldValue());
+                this.recordContent(notification.getNewValue());
+            } else {
+                this.record(this.changedElements, notifier);
+            }
+        } else {
+            // Resources loaded, unloaded or whose content is replaced
+            this.globalChange = true;
+        }
+    }
+
+    private void recordContent(Object value) {
+        if (value instanceof EObject eObject) {
+            this.record(this.changedContents, eObject);
+        } else if (value instanceof Collection<?> values) {
+            values.forEach(this::recordContent);
+        }
+    }
+
+    private void record(Set<EObject> journal, EObject changedElement) {
+        if (!this.globalChange) {
+            journal.add(changedElement);
+            if (this.changedElements.size() + this.changedContainers.size() + this.changedContents.size() > MAX_JOURNAL_SIZE) {
+                this.changedElements.clear();
+                this.changedContainers.clear();
+                this.changedContents.clear();
+                this.globalChange = true;
+            }
+        }
+    }
+
+    private void index(ConnectionUsage connectionUsage) {
+        this.unindex(connectionUsage);
+        IndexedEnds ends = null;
+        if (this.snapshot != null) {
+            ends = this.snapshot.getEnds(connectionUsage);
+        }
+        if (ends == null) {
+            ends = new IndexedEnds(List.copyOf(connectionUsage.getSource()), List.copyOf(connectionUsage.getTarget()));
+        }
+        this.indexedConnections.put(connectionUsage, ends);
+        if (connectionUsage instanceof AllocationUsage allocationUsage) {
+            ends.sources().forEach(source -> this.allocationsBySource.computeIfAbsent(source, key -> new LinkedHashSet<>()).add(allocationUsage));
+            ends.targets().forEach(target -> this.allocationsByTarget.computeIfAbsent(target, key -> new LinkedHashSet<>()).add(allocationUsage));
+            this.getListeners().forEach(listener -> listener.allocationIndexed(allocationUsage, ends.sources(), ends.targets()));
+        } else if (connectionUsage instanceof InterfaceUsage interfaceUsage) {
+            ends.sources().forEach(source -> this.interfacesByEnd.computeIfAbsent(source, key -> new LinkedHashSet<>()).add(interfaceUsage));
+            ends.targets().forEach(target -> this.interfacesByEnd.computeIfAbsent(target, key -> new LinkedHashSet<>()).add(interfaceUsage));
+        }
+    }
+
+    private void unindex(ConnectionUsage connectionUsage) {
+        IndexedEnds ends = this.indexedConnections.remove(connectionUsage);
+        if (ends != null) {
+            if (connectionUsage instanceof AllocationUsage allocationUsage) {
+                ends.sources().forEach(source -> this.removeFrom(this.allocationsBySource, source, allocationUsage));
+                ends.targets().forEach(target -> this.removeFrom(this.allocationsByTarget, target, allocationUsage));
+                this.getListeners().forEach(listener -> listener.allocationUnindexed(allocationUsage, ends.sources(), ends.targets()));
+            } else if (connectionUsage instanceof InterfaceUsage interfaceUsage) {
+                ends.sources().forEach(source -> this.removeFrom(this.interfacesByEnd, source, interfaceUsage));
+                ends.targets().forEach(target -> this.removeFrom(this.interfacesByEnd, target, interfaceUsage));
+            }
+        }
+    }
+
+    private <T extends ConnectionUsage> void removeFrom(Map<Element, Set<T>> index, Element key, T connectionUsage) {
+        Set<T> connections = index.get(key);
+        if (connections != null) {
+            connections.remove(connectionUsage);
+            if (connections.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Listener of the changes of the indexed models, see {@link EasyModModelIndex#getOrCreateListener(Object, Supplier)}.
+     * The methods are called while the models are notified, they should only update the state of the listener.
+     *
+     * @author ebausson
+     */
+    public interface Listener {
+
+        /**
+         * Called when an allocation is indexed, i.e. added to a model or whose ends have changed.
+         *
+         * @param allocation
+         *            the allocation
+         * @param sources
+         *            the sources of the allocation
+         * @param targets
+         *            the targets of the allocation
+         */
+        default void allocationIndexed(AllocationUsage allocation, List<Element> sources, List<Element> targets) {
+            // Nothing by default
+        }
+
+        /**
+         * Called when an allocation is unindexed, i.e. removed from a model or whose ends are about to be reindexed.
+         *
+         * @param allocation
+         *            the allocation
+         * @param sources
+         *            the sources of the allocation when it has been indexed
+         * @param targets
+         *            the targets of the allocation when it has been indexed
+         */
+        default void allocationUnindexed(AllocationUsage allocation, List<Element> sources, List<Element> targets) {
+            // Nothing by default
+        }
+
+        /**
+         * Called when elements are added to or removed from a containment reference of a model, or when the content of
+         * a resource or of the resource set changes.
+         *
+         * @param notification
+         *            the notification of the change
+         */
+        default void contentChanged(Notification notification) {
+            // Nothing by default
+        }
+    }
+
+    /**
+     * The source and target elements of a relationship at the time it has been indexed.
+     *
+     * @author ebausson
+     */
+    record IndexedEnds(List<Element> sources, List<Element> targets) {
+    }
+
+    /**
+     * The elements changed since the start of a journal.
+     *
+     * @param changedElements
+     *            the elements whose attributes or non containment references have been changed
+     * @param changedContainers
+     *            the elements whose containment references have been changed
+     * @param changedContents
+     *            the elements added to or removed from a containment reference, with their content
+     * @param globalChange
+     *            {@code true} if the changes cannot be described by a list of elements, e.g. a resource has been
+     *            loaded or too many elements have been changed
+     * @author ebausson
+     */
+    public record Changes(Set<EObject> changedElements, Set<EObject> changedContainers, Set<EObject> changedContents, boolean globalChange) {
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Type;
+
+/**
+ * Compute the entries of the {@link EasyModModelIndex} of a resource set on several threads.
+ * <p>
+ * The user resources are split in partitions, starting from their top-level packages and going down a few levels
+ * until there are enough partitions to keep the threads of the {@link ForkJoinPool} busy. Each partition is scanned
+ * independently and the resulting {@link EasyModIndexSnapshot}s are merged.
+ * </p>
+ * <p>
+ * The scan only reads the models. Resolving an EMF proxy modifies the list holding the reference, may load a resource
+ * in the resource set and notifies the adapters, none of which is thread-safe. All the proxies of the resource set are
+ * thus resolved on the calling thread before the scan, like the SEIM definitions, so that the source and target of the
+ * connections and the types of the features read by the workers are already resolved. The supertypes of the types are
+ * cached in a concurrent map owned by the scan. The models must not be modified during the scan, which is the case
+ * while an editing context is being loaded.
+ * </p>
+ *
+ * @author ebausson
+ */
+final class EasyModParallelIndexer {
+
+    /**
+     * The maximum number of levels of the models split in partitions.
+     */
+    private static final int MAX_PARTITION_DEPTH = 3;
+
+    /**
+     * The number of partitions per thread, more partitions balance the work between threads better.
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    EasyModParallelIndexer(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Scan the user resources of the given resource set.
+     *
+     * @param resourceSet
+     *            the resource set of an editing context
+     * @return the entries of the index of the resource set
+     */
+    EasyModIndexSnapshot scan(ResourceSet resourceSet) {
+        // The sequential construction of the index resolves the same proxies while it visits the models
+        EcoreUtil.resolveAll(resourceSet);
+        List<Partition> partitions = this.split(resourceSet);
+        if (partitions.isEmpty()) {
+            return new EasyModIndexSnapshot();
+        }
+        Map<SEIMKind, Type> seimTypes = new EnumMap<>(SEIMKind.class);
+        SEIMDefinitionRegistry registry = SEIMDefinitionRegistry.getOrCreate(partitions.get(0).root());
+        for (SEIMKind kind : SEIMKind.values()) {
+            registry.getDefinition(kind.getQualifiedName(), Type.class).ifPresent(type -> seimTypes.put(kind, type));
+        }
+        return this.pool.invoke(new ScanTask(partitions, 0, partitions.size(), seimTypes, new ConcurrentHashMap<>()));
+    }
+
+    private List<Partition> split(ResourceSet resourceSet) {
+        List<Partition> partitions = new ArrayList<>();
+        for (Resource resource : List.copyOf(resourceSet.getResources())) {
+            if (!EasyModTraversal.isStandardLibrary(resource)) {
+                resource.getContents().forEach(root -> partitions.add(new Partition(root, true)));
+            }
+        }
+        int expectedPartitionCount = this.pool.getParallelism() * PARTITIONS_PER_THREAD;
+        int depth = 0;
+        List<Partition> currentPartitions = partitions;
+        while (currentPartitions.size() < expectedPartitionCount && depth < MAX_PARTITION_DEPTH) {
+            List<Partition> splitPartitions = new ArrayList<>();
+            for (Partition partition : currentPartitions) {
+                if (partition.withContent() && !partition.root().eContents().isEmpty()) {
+                    // The root of the partition is scanned alone, each of its children becomes a partition
+                    splitPartitions.add(new Partition(partition.root(), false));
+                    partition.root().eContents().forEach(child -> splitPartitions.add(new Partition(child, true)));
+                } else {
+                    splitPartitions.add(partition);
+                }
+            }
+            if (splitPartitions.size() == currentPartitions.size()) {
+                break;
+            }
+            currentPartitions = splitPartitions;
+            depth++;
+        }
+        return currentPartitions;
+    }
+
+    /**
+     * A part of a model: an element, with or without its content.
+     *
+     * @param root
+     *            the root of the partition
+     * @param withContent
+     *            {@code true} if the content of the root is part of the partition
+     * @author ebausson
+     */
+    private record Partition(EObject root, boolean withContent) {
+    }
+
+    /**
+     * Scan a range of partitions, splitting the range in two until it contains a single partition.
+     *
+     * @author ebausson
+     */
+    private static final class ScanTask extends RecursiveTask<EasyModIndexSnapshot> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Partition> partitions;
+
+        private final int start;
+
+        private final int end;
+
+        private final transient Map<SEIMKind, Type> seimTypes;
+
+        private final transient Map<Type, Set<Type>> supertypesCache;
+
+        ScanTask(List<Partition> partitions, int start, int end, Map<SEIMKind, Type> seimTypes, Map<Type, Set<Type>> supertypesCache) {
+            this.partitions = partitions;
+            this.start = start;
+            this.end = end;
+            this.seimTypes = seimTypes;
+            this.supertypesCache = supertypesCache;
+        }
+
+        @Override
+        protected EasyModIndexSnapshot compute() {
+            if (this.end - this.start == 1) {
+                return this.scan(this.partitions.get(this.start));
+            }
+            int middle = (this.start + this.end) >>> 1;
+            ScanTask left = new ScanTask(this.partitions, this.start, middle, this.seimTypes, this.supertypesCache);
+            ScanTask right = new ScanTask(this.partitions, middle, this.end, this.seimTypes, this.supertypesCache);
+            left.fork();
+            EasyModIndexSnapshot rightSnapshot = right.compute();
+            EasyModIndexSnapshot leftSnapshot = left.join();
+            return leftSnapshot.merge(rightSnapshot);
+        }
+
+        private EasyModIndexSnapshot scan(Partition partition) {
+            EasyModIndexSnapshot snapshot = new EasyModIndexSnapshot();
+            this.scan(partition.root(), snapshot);
+            if (partition.withContent()) {
+                partition.root().eAllContents().forEachRemaining(content -> this.scan(content, snapshot));
+            }
+            return snapshot;
+        }
+
+        private void scan(EObject eObject, EasyModIndexSnapshot snapshot) {
+            if (eObject instanceof AllocationUsage || eObject instanceof InterfaceUsage) {
+                ConnectionUsage connectionUsage = (ConnectionUsage) eObject;
+                snapshot.putEnds(connectionUsage, new EasyModModelIndex.IndexedEnds(List.copyOf(connectionUsage.getSource()), List.copyOf(connectionUsage.getTarget())));
+            }
+            if (SEIMKind.isCandidate(eObject)) {
+                Feature feature = (Feature) eObject;
+                for (SEIMKind kind : SEIMKind.values()) {
+                    if (kind.getFeatureType().isInstance(feature)
+                            && SEIMTypeMatcher.isTypedWith(feature, kind.getQualifiedName(), this.seimTypes.get(kind), () -> this.supertypesCache)) {
+                        snapshot.putKind(feature, kind);
+                        break;
+                    }
+                }
+            }
+            if (eObject instanceof PortUsage port) {
+                Element owner = port.getOwner();
+                if (owner != null) {
+                    snapshot.putPortOwner(port, owner);
+                }
+            }
+        }
+    }
+}
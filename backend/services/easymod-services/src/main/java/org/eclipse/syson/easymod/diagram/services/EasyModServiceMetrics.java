@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer instrumentation of the EasyMod services called by the representations.
+ * <p>
+ * When the {@code easymod.metrics.enabled} property is set, each call of an instrumented service is recorded by the
+ * {@value #CALLS_METER_NAME} timer, with a latency histogram, and the number of elements returned or visited by the
+ * call is recorded by the {@value #ELEMENTS_METER_NAME} distribution summary. Both meters are tagged with the name of
+ * the service class and of the operation, and can be read with the {@code metrics} actuator endpoint. When the
+ * property is not set, the calls are directly delegated to the services.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class EasyModServiceMetrics {
+
+    /**
+     * The name of the timer recording the calls of the services.
+     */
+    public static final String CALLS_METER_NAME = "easymod.service.calls";
+
+    /**
+     * The name of the distribution summary recording the number of elements returned or visited by the services.
+     */
+    public static final String ELEMENTS_METER_NAME = "easymod.service.elements";
+
+    /**
+     * The instrumentation used when the metrics are disabled, e.g. outside of the application.
+     */
+    public static final EasyModServiceMetrics DISABLED = new EasyModServiceMetrics(Metrics.globalRegistry, false);
+
+    private static final String SERVICE_TAG = "service";
+
+    private static final String OPERATION_TAG = "operation";
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private final Map<MeterKey, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public EasyModServiceMetrics(MeterRegistry meterRegistry, @Value("${easymod.metrics.enabled:false}") boolean enabled) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Record a call of a service. If the result of the call is a collection, its size is recorded as the number of
+     * elements returned by the call.
+     *
+     * @param <T>
+     *            the type of the result of the call
+     * @param service
+     *            the name of the service
+     * @param operation
+     *            the name of the operation
+     * @param call
+     *            the call of the service
+     * @return the result of the call
+     */
+    public <T> T record(String service, String operation, Supplier<T> call) {
+        if (!this.enabled) {
+            return call.get();
+        }
+        MeterKey key = new MeterKey(service, operation);
+        Timer timer = this.timers.computeIfAbsent(key, this::createTimer);
+        T result = timer.record(call);
+        if (result instanceof Collection<?> elements) {
+            this.recordElements(key, elements.size());
+        }
+        return result;
+    }
+
+    /**
+     * Record the number of elements visited by a call of a service.
+     *
+     * @param service
+     *            the name of the service
+     * @param operation
+     *            the name of the operation
+     * @param elementCount
+     *            the number of visited elements
+     */
+    public void recordElements(String service, String operation, int elementCount) {
+        if (this.enabled) {
+            this.recordElements(new MeterKey(service, operation), elementCount);
+        }
+    }
+
+    private void recordElements(MeterKey key, int elementCount) {
+        this.summaries.computeIfAbsent(key, this::createSummary).record(elementCount);
+    }
+
+    private Timer createTimer(MeterKey key) {
+        return Timer.builder(CALLS_METER_NAME)
+                .description("The calls of the EasyMod services")
+                .tag(SERVICE_TAG, key.service())
+                .tag(OPERATION_TAG, key.operation())
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private DistributionSummary createSummary(MeterKey key) {
+        return DistributionSummary.builder(ELEMENTS_METER_NAME)
+                .description("The number of elements returned or visited by the calls of the EasyMod services")
+                .baseUnit("elements")
+                .tag(SERVICE_TAG, key.service())
+                .tag(OPERATION_TAG, key.operation())
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    /**
+     * The service and operation identifying the meters of a call.
+     *
+     * @author ebausson
+     */
+    private record MeterKey(String service, String operation) {
+    }
+}
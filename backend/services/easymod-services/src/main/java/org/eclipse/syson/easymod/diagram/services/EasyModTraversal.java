@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.sysml.LibraryPackage;
+
+/**
+ * Lazy traversal of the content of a model.
+ * <p>
+ * The traversal works directly on the {@link TreeIterator} of its root: nothing is copied, terminal operations such
+ * as {@link #findFirst()} or {@link #anyMatch(Predicate)} stop as soon as they have their answer, and subtrees
+ * matching a pruning predicate (e.g. standard libraries) are not visited at all.
+ * </p>
+ *
+ * <pre>
+ * EasyModTraversal.of(resource)
+ *         .skippingStandardLibraries()
+ *         .ofType(InterfaceUsage.class)
+ *         .matching(isTypedWith(EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME))
+ *         .toList();
+ * </pre>
+ *
+ * @param <T>
+ *            the type of the visited elements
+ * @author ebausson
+ */
+public final class EasyModTraversal<T> {
+
+    private final Notifier root;
+
+    private final Predicate<Object> pruningPredicate;
+
+    private final Class<T> type;
+
+    private final Predicate<? super T> predicate;
+
+    private EasyModTraversal(Notifier root, Predicate<Object> pruningPredicate, Class<T> type, Predicate<? super T> predicate) {
+        this.root = Objects.requireNonNull(root);
+        this.pruningPredicate = Objects.requireNonNull(pruningPredicate);
+        this.type = Objects.requireNonNull(type);
+        this.predicate = Objects.requireNonNull(predicate);
+    }
+
+    /**
+     * Create a traversal of the content of the given {@link EObject}, {@link Resource} or {@link ResourceSet}. The
+     * root itself is not visited.
+     *
+     * @param root
+     *            the root of the traversal
+     * @return a traversal of all the elements contained by the given root
+     */
+    public static EasyModTraversal<EObject> of(Notifier root) {
+        return new EasyModTraversal<>(root, object -> false, EObject.class, object -> true);
+    }
+
+    /**
+     * Create a traversal of the resource containing the given element, or of its root container if it is not
+     * contained by a resource.
+     *
+     * @param eObject
+     *            an element of the model to traverse
+     * @return a traversal of all the elements of the model of the given element
+     */
+    public static EasyModTraversal<EObject> ofModel(EObject eObject) {
+        Notifier root = eObject.eResource();
+        if (root == null) {
+            root = EcoreUtil.getRootContainer(eObject);
+        }
+        return of(root);
+    }
+
+    /**
+     * Check if the given object is a standard library resource or a standard library package.
+     *
+     * @param object
+     *            the object to check
+     * @return {@code true} if the given object is part of the standard libraries, {@code false} otherwise
+     */
+    public static boolean isStandardLibrary(Object object) {
+        boolean isStandardLibrary = false;
+        if (object instanceof Resource resource && resource.getURI() != null) {
+            String scheme = resource.getURI().scheme();
+            isStandardLibrary = EasyModConstants.KERML_LIBRARY_SCHEME.equals(scheme) || EasyModConstants.SYSML_LIBRARY_SCHEME.equals(scheme);
+        } else if (object instanceof LibraryPackage libraryPackage) {
+            isStandardLibrary = libraryPackage.isIsStandard();
+        }
+        return isStandardLibrary;
+    }
+
+    /**
+     * Do not visit the objects matching the given predicate nor their content.
+     *
+     * @param prunePredicate
+     *            the predicate of the subtrees to skip
+     * @return a new traversal skipping the given subtrees
+     */
+    public EasyModTraversal<T> pruning(Predicate<Object> prunePredicate) {
+        return new EasyModTraversal<>(this.root, this.pruningPredicate.or(prunePredicate), this.type, this.predicate);
+    }
+
+    /**
+     * Do not visit the standard library resources and packages.
+     *
+     * @return a new traversal skipping the standard libraries
+     */
+    public EasyModTraversal<T> skippingStandardLibraries() {
+        return this.pruning(EasyModTraversal::isStandardLibrary);
+    }
+
+    /**
+     * Only visit the elements of the given type.
+     *
+     * @param <U>
+     *            the type of the elements to visit
+     * @param elementType
+     *            the type of the elements to visit
+     * @return a new traversal only visiting the elements of the given type
+     */
+    public <U extends T> EasyModTraversal<U> ofType(Class<U> elementType) {
+        Predicate<? super T> currentPredicate = this.predicate;
+        return new EasyModTraversal<>(this.root, this.pruningPredicate, elementType, currentPredicate::test);
+    }
+
+    /**
+     * Only visit the elements matching the given predicate.
+     *
+     * @param elementPredicate
+     *            the predicate of the elements to visit
+     * @return a new traversal only visiting the elements matching the given predicate
+     */
+    public EasyModTraversal<T> matching(Predicate<? super T> elementPredicate) {
+        Predicate<? super T> currentPredicate = this.predicate;
+        Predicate<T> combinedPredicate = element -> currentPredicate.test(element) && elementPredicate.test(element);
+        return new EasyModTraversal<>(this.root, this.pruningPredicate, this.type, combinedPredicate);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    public Optional<T> findFirst() {
+        Iterator<T> iterator = this.iterator();
+        if (iterator.hasNext()) {
+            return Optional.of(iterator.next());
+        }
+        return Optional.empty();
+    }
+
+    public boolean anyMatch(Predicate<? super T> elementPredicate) {
+        return this.matching(elementPredicate).iterator().hasNext();
+    }
+
+    public List<T> toList() {
+        return this.stream().toList();
+    }
+
+    public void forEach(Consumer<? super T> consumer) {
+        this.iterator().forEachRemaining(consumer);
+    }
+
+    private Iterator<T> iterator() {
+        return new PruningIterator<>(this.getTreeIterator(), this.pruningPredicate, this.type, this.predicate);
+    }
+
+    private TreeIterator<?> getTreeIterator() {
+        TreeIterator<?> treeIterator;
+        if (this.root instanceof ResourceSet resourceSet) {
+            treeIterator = resourceSet.getAllContents();
+        } else if (this.root instanceof Resource resource) {
+            treeIterator = resource.getAllContents();
+        } else {
+            treeIterator = ((EObject) this.root).eAllContents();
+        }
+        return treeIterator;
+    }
+
+    /**
+     * Iterator over the elements of a {@link TreeIterator} matching a type and a predicate, pruning the subtrees of
+     * the objects matching the pruning predicate.
+     *
+     * @param <T>
+     *            the type of the returned elements
+     * @author ebausson
+     */
+    private static final class PruningIterator<T> implements Iterator<T> {
+
+        private final TreeIterator<?> treeIterator;
+
+        private final Predicate<Object> pruningPredicate;
+
+        private final Class<T> type;
+
+        private final Predicate<? super T> predicate;
+
+        private T next;
+
+        PruningIterator(TreeIterator<?> treeIterator, Predicate<Object> pruningPredicate, Class<T> type, Predicate<? super T> predicate) {
+            this.treeIterator = treeIterator;
+            this.pruningPredicate = pruningPredicate;
+            this.type = type;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null && this.treeIterator.hasNext()) {
+                Object candidate = this.treeIterator.next();
+                if (this.pruningPredicate.test(candidate)) {
+                    this.treeIterator.prune();
+                } else if (this.type.isInstance(candidate)) {
+                    T element = this.type.cast(candidate);
+                    if (this.predicate.test(element)) {
+                        this.next = element;
+                    }
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = this.next;
+            this.next = null;
+            return element;
+        }
+    }
+}
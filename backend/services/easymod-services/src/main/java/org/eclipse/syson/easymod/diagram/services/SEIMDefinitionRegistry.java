@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.Package;
+
+/**
+ * Registry of the SEIM library definitions available in a {@link ResourceSet}.
+ * <p>
+ * The registry is attached as an adapter on the resource set of an editing context. The {@code SEIM::*} elements are
+ * resolved once from the SEIM library package and then served from a map. The cache is dropped when a resource is
+ * added to or removed from the resource set, or when the content of the SEIM library resource changes.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class SEIMDefinitionRegistry extends AdapterImpl {
+
+    private final Adapter libraryContentAdapter = new EContentAdapter() {
+        @Override
+        public void notifyChanged(Notification notification) {
+            super.notifyChanged(notification);
+            if (!notification.isTouch()) {
+                SEIMDefinitionRegistry.this.invalidate();
+            }
+        }
+    };
+
+    private volatile Map<String, Element> definitions;
+
+    private Resource libraryResource;
+
+    /**
+     * Get the registry of the resource set containing the given element, creating and attaching it if needed.
+     *
+     * @param eObject
+     *            an element of the editing context
+     * @return the registry of the resource set of the given element
+     */
+    public static SEIMDefinitionRegistry getOrCreate(EObject eObject) {
+        Notifier scope = getScope(eObject);
+        if (scope == null) {
+            return new SEIMDefinitionRegistry();
+        }
+        Adapter existingAdapter = EcoreUtil.getExistingAdapter(scope, SEIMDefinitionRegistry.class);
+        if (existingAdapter instanceof SEIMDefinitionRegistry registry) {
+            return registry;
+        }
+        SEIMDefinitionRegistry registry = new SEIMDefinitionRegistry();
+        scope.eAdapters().add(registry);
+        return registry;
+    }
+
+    private static Notifier getScope(EObject eObject) {
+        Notifier scope = null;
+        if (eObject != null && eObject.eResource() != null) {
+            Resource resource = eObject.eResource();
+            if (resource.getResourceSet() != null) {
+                scope = resource.getResourceSet();
+            } else {
+                scope = resource;
+            }
+        }
+        return scope;
+    }
+
+    /**
+     * Get the SEIM element with the given qualified name.
+     *
+     * @param <T>
+     *            the expected type of the element
+     * @param qualifiedName
+     *            the qualified name of the element, e.g. {@code SEIM::Function}
+     * @param type
+     *            the expected type of the element
+     * @return the SEIM element if it exists and has the expected type, an empty {@link Optional} otherwise
+     */
+    public <T extends Element> Optional<T> getDefinition(String qualifiedName, Class<T> type) {
+        return Optional.ofNullable(this.getDefinitions().get(qualifiedName))
+                .filter(type::isInstance)
+                .map(type::cast);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == SEIMDefinitionRegistry.class;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        if (notification.getNotifier() instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            this.invalidate();
+        }
+    }
+
+    @Override
+    public void unsetTarget(Notifier oldTarget) {
+        super.unsetTarget(oldTarget);
+        this.invalidate();
+    }
+
+    private Map<String, Element> getDefinitions() {
+        Map<String, Element> resolvedDefinitions = this.definitions;
+        if (resolvedDefinitions == null) {
+            synchronized (this) {
+                resolvedDefinitions = this.definitions;
+                if (resolvedDefinitions == null) {
+                    resolvedDefinitions = this.resolve();
+                    this.definitions = resolvedDefinitions;
+                }
+            }
+        }
+        return resolvedDefinitions;
+    }
+
+    private Map<String, Element> resolve() {
+        Map<String, Element> resolvedDefinitions = new HashMap<>();
+        for (Resource resource : this.getResources()) {
+            for (EObject root : resource.getContents()) {
+                if (root instanceof Namespace namespace) {
+                    namespace.getOwnedMember().stream()
+                            .filter(Package.class::isInstance)
+                            .map(Package.class::cast)
+                            .filter(pkg -> EasyModConstants.SEIM_PACKAGE_NAME.equals(pkg.getDeclaredName()))
+                            .forEach(pkg -> {
+                                this.register(pkg, resolvedDefinitions);
+                                this.watch(resource);
+                            });
+                }
+            }
+        }
+        return resolvedDefinitions;
+    }
+
+    private List<Resource> getResources() {
+        List<Resource> resources = List.of();
+        Notifier target = this.getTarget();
+        if (target instanceof ResourceSet resourceSet) {
+            resources = List.copyOf(resourceSet.getResources());
+        } else if (target instanceof Resource resource) {
+            resources = List.of(resource);
+        }
+        return resources;
+    }
+
+    private void register(Package seimPackage, Map<String, Element> resolvedDefinitions) {
+        seimPackage.eAllContents().forEachRemaining(content -> {
+            if ((content instanceof Definition || content instanceof AttributeUsage) && ((Element) content).getDeclaredName() != null) {
+                Element element = (Element) content;
+                resolvedDefinitions.putIfAbsent(element.getQualifiedName(), element);
+            }
+        });
+    }
+
+    private void watch(Resource resource) {
+        if (this.libraryResource == null) {
+            this.libraryResource = resource;
+            resource.eAdapters().add(this.libraryContentAdapter);
+        }
+    }
+
+    private synchronized void invalidate() {
+        this.definitions = null;
+        if (this.libraryResource != null) {
+            Resource watchedResource = this.libraryResource;
+            this.libraryResource = null;
+            watchedResource.eAdapters().remove(this.libraryContentAdapter);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.Optional;
+
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+
+/**
+ * The kinds of SEIM elements indexed by the {@link EasyModModelIndex}.
+ *
+ * @author ebausson
+ */
+public enum SEIMKind {
+    FUNCTION(EasyModConstants.FUNCTION_QUALIFIED_NAME, ActionUsage.class),
+    FUNCTION_PORT(EasyModConstants.FUNCTION_PORT_QUALIFIED_NAME, PortUsage.class),
+    FUNCTIONAL_FLOW(EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME, InterfaceUsage.class),
+    LOGICAL_CONSTITUENT(EasyModConstants.LOGICAL_CONSTITUENT_QUALIFIED_NAME, PartUsage.class),
+    CONSTITUENT_PORT(EasyModConstants.LOGICAL_CONSTITUENT_PORT_QUALIFIED_NAME, PortUsage.class),
+    LOGICAL_FLOW(EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME, InterfaceUsage.class),
+    ALLOCATED_FUNCTION(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME, AllocationUsage.class);
+
+    private final String qualifiedName;
+
+    private final Class<? extends Feature> featureType;
+
+    SEIMKind(String qualifiedName, Class<? extends Feature> featureType) {
+        this.qualifiedName = qualifiedName;
+        this.featureType = featureType;
+    }
+
+    /**
+     * Get the kind of the given element.
+     *
+     * @param element
+     *            an element
+     * @return the kind of the element, if it is typed by one of the SEIM definitions
+     */
+    public static Optional<SEIMKind> of(Element element) {
+        Optional<SEIMKind> kind = Optional.empty();
+        if (isCandidate(element)) {
+            Feature feature = (Feature) element;
+            for (SEIMKind candidate : values()) {
+                if (candidate.featureType.isInstance(feature) && SEIMTypeMatcher.isTypedWith(feature, candidate.qualifiedName)) {
+                    kind = Optional.of(candidate);
+                    break;
+                }
+            }
+        }
+        return kind;
+    }
+
+    /**
+     * Check if the given object may have a kind, i.e. if it is an instance of the type of the features of one of the
+     * kinds.
+     *
+     * @param object
+     *            an object
+     * @return {@code true} if the object may have a kind, {@code false} otherwise
+     */
+    public static boolean isCandidate(Object object) {
+        return object instanceof ActionUsage || object instanceof PartUsage || object instanceof PortUsage;
+    }
+
+    public String getQualifiedName() {
+        return this.qualifiedName;
+    }
+
+    public Class<? extends Feature> getFeatureType() {
+        return this.featureType;
+    }
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.Specialization;
+import org.eclipse.syson.sysml.Type;
+
+/**
+ * Checks if features are typed by a SEIM definition.
+ * <p>
+ * The SEIM definition is resolved once by the {@link SEIMDefinitionRegistry} and the types of the features are then
+ * compared by reference, which avoids building the qualified name of every type. A type specializing the SEIM
+ * definition, directly or not, also matches. The supertypes of each type are computed once and kept by the
+ * {@link EasyModModelIndex} until the next semantic change.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class SEIMTypeMatcher {
+
+    private static final String SUPERTYPES_KEY = SEIMTypeMatcher.class.getName() + ".supertypes";
+
+    private SEIMTypeMatcher() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Check if the given feature is typed by the SEIM element with the given qualified name or by one of its
+     * specializations. If the SEIM library is not available, the qualified names of the types are compared.
+     *
+     * @param feature
+     *            the feature to check
+     * @param qualifiedName
+     *            the qualified name of the SEIM element, e.g. {@code SEIM::Function}
+     * @return {@code true} if the feature is typed by the SEIM element, {@code false} otherwise
+     */
+    public static boolean isTypedWith(Feature feature, String qualifiedName) {
+        if (feature == null || qualifiedName == null) {
+            return false;
+        }
+        Type seimType = SEIMDefinitionRegistry.getOrCreate(feature).getDefinition(qualifiedName, Type.class).orElse(null);
+        return isTypedWith(feature, qualifiedName, seimType, () -> EasyModModelIndex.getOrCreate(feature).getDerivedValue(SUPERTYPES_KEY, ConcurrentHashMap::new));
+    }
+
+    /**
+     * Check if the given feature is typed by an already resolved SEIM element or by one of its specializations.
+     *
+     * @param feature
+     *            the feature to check
+     * @param qualifiedName
+     *            the qualified name of the SEIM element, compared to the qualified names of the types if the SEIM
+     *            element is not available
+     * @param seimType
+     *            the SEIM element, or {@code null} if the SEIM library is not available
+     * @param supertypesCacheProvider
+     *            the cache of the supertypes of each type, only requested if the feature is not directly typed by
+     *            the SEIM element
+     * @return {@code true} if the feature is typed by the SEIM element, {@code false} otherwise
+     */
+    static boolean isTypedWith(Feature feature, String qualifiedName, Type seimType, Supplier<Map<Type, Set<Type>>> supertypesCacheProvider) {
+        if (seimType == null) {
+            return feature.getType().stream().anyMatch(type -> type != null && qualifiedName.equals(type.getQualifiedName()));
+        }
+        boolean isTypedWith = false;
+        for (Type type : feature.getType()) {
+            if (type == seimType) {
+                isTypedWith = true;
+                break;
+            }
+        }
+        if (!isTypedWith) {
+            Map<Type, Set<Type>> supertypesCache = supertypesCacheProvider.get();
+            isTypedWith = feature.getType().stream()
+                    .filter(Objects::nonNull)
+                    .anyMatch(type -> getSupertypes(type, supertypesCache).contains(seimType));
+        }
+        return isTypedWith;
+    }
+
+    private static Set<Type> getSupertypes(Type type, Map<Type, Set<Type>> supertypesCache) {
+        Set<Type> supertypes = supertypesCache.get(type);
+        if (supertypes == null) {
+            supertypes = Collections.unmodifiableSet(computeSupertypes(type));
+            supertypesCache.put(type, supertypes);
+        }
+        return supertypes;
+    }
+
+    private static Set<Type> computeSupertypes(Type type) {
+        Set<Type> supertypes = new HashSet<>();
+        Deque<Type> toVisit = new ArrayDeque<>();
+        toVisit.add(type);
+        while (!toVisit.isEmpty()) {
+            Type current = toVisit.poll();
+            for (Specialization specialization : current.getOwnedSpecialization()) {
+                Type general = specialization.getGeneral();
+                if (general != null && general != type && supertypes.add(general)) {
+                    toVisit.add(general);
+                }
+            }
+        }
+        return supertypes;
+    }
+}
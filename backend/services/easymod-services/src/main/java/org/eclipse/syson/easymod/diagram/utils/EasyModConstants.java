@@ -19,6 +19,8 @@ package org.eclipse.syson.easymod.diagram.utils;
  */
 public class EasyModConstants {
 
+    public static final String SEIM_PACKAGE_NAME = "SEIM";
+
     public static final String FUNCTION_QUALIFIED_NAME = "SEIM::Function";
 
     public static final String FUNCTION_PORT_QUALIFIED_NAME = "SEIM::FunctionPort";
@@ -37,4 +39,8 @@ public class EasyModConstants {
 
     public static final String SEIM_ATTRIBUTE_OF_INTEREST_QUALIFIED_NAME = "SEIM::LogicalConstituent::isSystemOfInterest";
 
+    public static final String KERML_LIBRARY_SCHEME = "kermllibrary";
+
+    public static final String SYSML_LIBRARY_SCHEME = "sysmllibrary";
+
 }
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyProvider;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.syson.easymod.diagram.services.EasyModChangeClassifier;
+import org.eclipse.syson.easymod.diagram.services.EasyModChangeScope;
+
+/**
+ * Abstract representation refresh policy provider of the EasyMod diagrams.
+ * <p>
+ * A diagram is only refreshed after a semantic change impacting the part of the model it displays, see
+ * {@link EasyModChangeClassifier}. Like with the default refresh policy of the diagrams, the other kinds of changes,
+ * e.g. the creation of another representation, do not refresh the diagrams.
+ * </p>
+ *
+ * @author ebausson
+ */
+public abstract class AbstractEasyModDiagramRefreshPolicyProvider implements IRepresentationRefreshPolicyProvider {
+
+    private final EasyModChangeClassifier changeClassifier;
+
+    private final String diagramLabel;
+
+    private final EasyModChangeScope scope;
+
+    protected AbstractEasyModDiagramRefreshPolicyProvider(EasyModChangeClassifier changeClassifier, String diagramLabel, EasyModChangeScope scope) {
+        this.changeClassifier = Objects.requireNonNull(changeClassifier);
+        this.diagramLabel = Objects.requireNonNull(diagramLabel);
+        this.scope = Objects.requireNonNull(scope);
+    }
+
+    @Override
+    public boolean canHandle(IRepresentationDescription representationDescription) {
+        return representationDescription instanceof DiagramDescription && this.diagramLabel.equals(representationDescription.getLabel());
+    }
+
+    @Override
+    public IRepresentationRefreshPolicy getRepresentationRefreshPolicy(IRepresentationDescription representationDescription) {
+        return (changeDescription) -> {
+            boolean shouldRefresh = false;
+
+            switch (changeDescription.getKind()) {
+                case ChangeKind.SEMANTIC_CHANGE:
+                    shouldRefresh = this.changeClassifier.getImpactedScopes(changeDescription).contains(this.scope);
+                    break;
+                default:
+                    shouldRefresh = false;
+            }
+            return shouldRefresh;
+        };
+    }
+}
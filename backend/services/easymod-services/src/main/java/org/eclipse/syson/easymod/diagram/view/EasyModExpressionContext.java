@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * The variables and the services available to a {@link EasyModJavaExpression} during its evaluation.
+ *
+ * @author ebausson
+ */
+public final class EasyModExpressionContext {
+
+    /**
+     * The name of the variable holding the semantic element on which an expression is evaluated.
+     */
+    public static final String SELF = "self";
+
+    private final Map<String, Object> variables;
+
+    private final Function<Class<?>, Object> serviceProvider;
+
+    public EasyModExpressionContext(Map<String, Object> variables, Function<Class<?>, Object> serviceProvider) {
+        this.variables = Objects.requireNonNull(variables);
+        this.serviceProvider = Objects.requireNonNull(serviceProvider);
+    }
+
+    public Map<String, Object> getVariables() {
+        return this.variables;
+    }
+
+    /**
+     * Get the value of the {@link #SELF} variable if it is an instance of the given type.
+     *
+     * @param <T>
+     *            the expected type of the variable
+     * @param type
+     *            the expected type of the variable
+     * @return the semantic element on which the expression is evaluated, if it has the given type
+     */
+    public <T> Optional<T> self(Class<T> type) {
+        return this.variable(SELF, type);
+    }
+
+    /**
+     * Get the value of the given variable if it is an instance of the given type.
+     *
+     * @param <T>
+     *            the expected type of the variable
+     * @param name
+     *            the name of the variable
+     * @param type
+     *            the expected type of the variable
+     * @return the value of the variable, if it has the given type
+     */
+    public <T> Optional<T> variable(String name, Class<T> type) {
+        return Optional.ofNullable(this.variables.get(name))
+                .filter(type::isInstance)
+                .map(type::cast);
+    }
+
+    /**
+     * Get the editing context of the evaluation.
+     *
+     * @return the value of the {@link IEditingContext#EDITING_CONTEXT} variable, or {@code null}
+     */
+    public IEditingContext getEditingContext() {
+        return this.variable(IEditingContext.EDITING_CONTEXT, IEditingContext.class).orElse(null);
+    }
+
+    /**
+     * Get the instance of the given service used by the view, i.e. the same instance the AQL expressions call.
+     *
+     * @param <T>
+     *            the type of the service
+     * @param serviceType
+     *            the type of the service
+     * @return the instance of the service
+     */
+    public <T> T service(Class<T> serviceType) {
+        return serviceType.cast(this.serviceProvider.apply(serviceType));
+    }
+}
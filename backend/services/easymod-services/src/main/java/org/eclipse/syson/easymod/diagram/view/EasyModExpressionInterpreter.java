@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.Result;
+import org.eclipse.sirius.components.interpreter.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Interpreter of the views evaluating the {@link EasyModJavaExpressions java expressions} itself and the other
+ * expressions with the AQL interpreter of the view.
+ *
+ * @author ebausson
+ */
+public class EasyModExpressionInterpreter extends AQLInterpreter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EasyModExpressionInterpreter.class);
+
+    private final AQLInterpreter delegate;
+
+    private final Function<Class<?>, Object> serviceFactory;
+
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+
+    /**
+     * Create an interpreter.
+     *
+     * @param delegate
+     *            the AQL interpreter of the view
+     * @param serviceFactory
+     *            the factory of the services called by the java expressions, called once per type of service
+     */
+    public EasyModExpressionInterpreter(AQLInterpreter delegate, Function<Class<?>, Object> serviceFactory) {
+        super(List.of(), List.of(), List.of());
+        this.delegate = Objects.requireNonNull(delegate);
+        this.serviceFactory = Objects.requireNonNull(serviceFactory);
+    }
+
+    @Override
+    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+        Result result;
+        if (EasyModJavaExpressions.isJavaExpression(expressionBody)) {
+            result = this.evaluateJavaExpression(variables, expressionBody);
+        } else {
+            result = this.delegate.evaluateExpression(variables, expressionBody);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluate a java expression, the failures an expression or its services may raise are reported with an error
+     * status like the AQL interpreter does for its services.
+     */
+    private Result evaluateJavaExpression(Map<String, Object> variables, String expressionBody) {
+        Result result = new Result(Optional.empty(), Status.ERROR);
+        Optional<EasyModJavaExpression> optionalExpression = EasyModJavaExpressions.find(expressionBody);
+        if (optionalExpression.isEmpty()) {
+            LOGGER.warn("Unknown java expression {}", expressionBody);
+        } else {
+            try {
+                Object value = optionalExpression.get().evaluate(new EasyModExpressionContext(variables, this::getService));
+                result = new Result(Optional.ofNullable(value), Status.OK);
+            } catch (ClassCastException | IllegalArgumentException | IllegalStateException | NullPointerException | UnsupportedOperationException exception) {
+                LOGGER.warn("Error while evaluating the java expression {}: {}", expressionBody, exception.getMessage(), exception);
+            }
+        }
+        return result;
+    }
+
+    private Object getService(Class<?> serviceType) {
+        return this.services.computeIfAbsent(serviceType, this.serviceFactory);
+    }
+}
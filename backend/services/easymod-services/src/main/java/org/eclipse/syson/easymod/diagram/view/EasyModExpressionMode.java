@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.Locale;
+
+/**
+ * The kind of expressions used by an EasyMod diagram element description.
+ * <p>
+ * {@link #AQL} descriptions are evaluated by the AQL interpreter of the view. {@link #JAVA} descriptions use
+ * {@link EasyModJavaExpressions java expressions}, typed lambdas calling the EMF getters and the EasyMod services
+ * directly, without parsing nor reflective service dispatch.
+ * </p>
+ *
+ * @author ebausson
+ */
+public enum EasyModExpressionMode {
+    AQL,
+    JAVA;
+
+    /**
+     * Get the mode with the given name, ignoring its case.
+     *
+     * @param name
+     *            the name of a mode, e.g. the value of the {@code easymod.diagram.expression-mode} property
+     * @return the mode with the given name, {@link #AQL} if there is none
+     */
+    public static EasyModExpressionMode fromName(String name) {
+        EasyModExpressionMode mode = AQL;
+        if (name != null && JAVA.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+            mode = JAVA;
+        }
+        return mode;
+    }
+
+    /**
+     * Select the expression used in this mode.
+     *
+     * @param aqlExpression
+     *            the AQL expression
+     * @param javaExpression
+     *            the equivalent java expression, as returned by {@link EasyModJavaExpressions#register}
+     * @return the expression to use in a description
+     */
+    public String select(String aqlExpression, String javaExpression) {
+        String expression = aqlExpression;
+        if (this == JAVA) {
+            expression = javaExpression;
+        }
+        return expression;
+    }
+}
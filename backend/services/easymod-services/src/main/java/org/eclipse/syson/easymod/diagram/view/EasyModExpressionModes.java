@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@link EasyModExpressionMode expression mode} of each EasyMod diagram element description.
+ * <p>
+ * A description uses the mode given for its key, such as {@code fbs.Function} or {@code pbs.LogicalFlow}, or the
+ * default mode if none is given. The modes are usually read from the {@code easymod.diagram.expression-mode} and
+ * {@code easymod.diagram.expression-modes} properties, see {@link #parse(String, String)}.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class EasyModExpressionModes {
+
+    /**
+     * All the descriptions use AQL expressions.
+     */
+    public static final EasyModExpressionModes AQL = EasyModExpressionModes.of(EasyModExpressionMode.AQL);
+
+    private final EasyModExpressionMode defaultMode;
+
+    private final Map<String, EasyModExpressionMode> modeByDescriptionKey;
+
+    private EasyModExpressionModes(EasyModExpressionMode defaultMode, Map<String, EasyModExpressionMode> modeByDescriptionKey) {
+        this.defaultMode = Objects.requireNonNull(defaultMode);
+        this.modeByDescriptionKey = Map.copyOf(modeByDescriptionKey);
+    }
+
+    /**
+     * Use the same mode for all the descriptions.
+     *
+     * @param mode
+     *            the mode of all the descriptions
+     * @return the modes
+     */
+    public static EasyModExpressionModes of(EasyModExpressionMode mode) {
+        return new EasyModExpressionModes(mode, Map.of());
+    }
+
+    /**
+     * Parse the modes of the descriptions.
+     *
+     * @param defaultMode
+     *            the name of the mode of the descriptions which are not listed, e.g. {@code aql}
+     * @param descriptionModes
+     *            a comma separated list of {@code key=mode} entries, e.g. {@code fbs.Function=java,pbs.LogicalFlow=java},
+     *            may be {@code null} or blank
+     * @return the modes
+     * @throws IllegalArgumentException
+     *             if an entry is not of the form {@code key=mode}
+     */
+    public static EasyModExpressionModes parse(String defaultMode, String descriptionModes) {
+        Map<String, EasyModExpressionMode> modeByDescriptionKey = new LinkedHashMap<>();
+        if (descriptionModes != null && !descriptionModes.isBlank()) {
+            for (String entry : descriptionModes.split(",")) {
+                if (!entry.isBlank()) {
+                    int separatorIndex = entry.indexOf('=');
+                    if (separatorIndex <= 0 || entry.substring(0, separatorIndex).isBlank()) {
+                        throw new IllegalArgumentException("Invalid expression mode of a description: " + entry.trim());
+                    }
+                    modeByDescriptionKey.put(entry.substring(0, separatorIndex).trim(), EasyModExpressionMode.fromName(entry.substring(separatorIndex + 1)));
+                }
+            }
+        }
+        return new EasyModExpressionModes(EasyModExpressionMode.fromName(defaultMode), modeByDescriptionKey);
+    }
+
+    /**
+     * Get the mode of a description.
+     *
+     * @param descriptionKey
+     *            the key of the description, e.g. {@code fbs.Function}
+     * @return the mode of the description, or the default mode
+     */
+    public EasyModExpressionMode get(String descriptionKey) {
+        return this.modeByDescriptionKey.getOrDefault(descriptionKey, this.defaultMode);
+    }
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import org.eclipse.syson.easymod.diagram.services.EasyModCommonServices;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.Feature;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.Usage;
+
+/**
+ * The {@link EasyModJavaExpressions java expressions} shared by the FBS and PBS descriptions.
+ *
+ * @author ebausson
+ */
+public final class EasyModExpressions {
+
+    /**
+     * Equivalent to {@code aql:self.name}.
+     */
+    public static final String NAME = EasyModJavaExpressions.register("easymod.name", EasyModJavaExpression.ofSelf(Element.class, Element::getName));
+
+    /**
+     * Equivalent to {@code aql:self.nestedPort}.
+     */
+    public static final String NESTED_PORTS = EasyModJavaExpressions.register("easymod.nestedPorts", EasyModJavaExpression.ofSelf(Usage.class, Usage::getNestedPort));
+
+    /**
+     * Equivalent to {@code aql:self.source}.
+     */
+    public static final String SOURCES = EasyModJavaExpressions.register("easymod.sources", EasyModJavaExpression.ofSelf(Relationship.class, Relationship::getSource));
+
+    /**
+     * Equivalent to {@code aql:self.target}.
+     */
+    public static final String TARGETS = EasyModJavaExpressions.register("easymod.targets", EasyModJavaExpression.ofSelf(Relationship.class, Relationship::getTarget));
+
+    /**
+     * Equivalent to {@code aql:self.isInFeature()}.
+     */
+    public static final String IS_IN_FEATURE = EasyModJavaExpressions.register("easymod.isInFeature",
+            EasyModJavaExpression.ofService(EasyModCommonServices.class, Feature.class, (service, feature, context) -> service.isInFeature(feature)));
+
+    /**
+     * Equivalent to {@code aql:self.isOutFeature()}.
+     */
+    public static final String IS_OUT_FEATURE = EasyModJavaExpressions.register("easymod.isOutFeature",
+            EasyModJavaExpression.ofService(EasyModCommonServices.class, Feature.class, (service, feature, context) -> service.isOutFeature(feature)));
+
+    /**
+     * Equivalent to {@code aql:self.isInOutFeature()}.
+     */
+    public static final String IS_IN_OUT_FEATURE = EasyModJavaExpressions.register("easymod.isInOutFeature",
+            EasyModJavaExpression.ofService(EasyModCommonServices.class, Feature.class, (service, feature, context) -> service.isInOutFeature(feature)));
+
+    private EasyModExpressions() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A typed expression of an EasyMod description, evaluated without the AQL interpreter.
+ *
+ * @author ebausson
+ */
+@FunctionalInterface
+public interface EasyModJavaExpression {
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param context
+     *            the variables and services of the evaluation
+     * @return the value of the expression, {@code null} if it has none
+     */
+    Object evaluate(EasyModExpressionContext context);
+
+    /**
+     * Create an expression computed from the {@code self} variable, equivalent to {@code aql:self.feature}.
+     *
+     * @param <S>
+     *            the type of the semantic element
+     * @param selfType
+     *            the type of the semantic element
+     * @param function
+     *            the function computing the value from the semantic element
+     * @return an expression without value when {@code self} does not have the given type
+     */
+    static <S> EasyModJavaExpression ofSelf(Class<S> selfType, Function<? super S, ?> function) {
+        Objects.requireNonNull(function);
+        return context -> context.self(selfType)
+                .map(function)
+                .orElse(null);
+    }
+
+    /**
+     * Create an expression calling a service on the {@code self} variable, equivalent to
+     * {@code aql:self.service(...)}.
+     *
+     * @param <V>
+     *            the type of the service
+     * @param <S>
+     *            the type of the semantic element
+     * @param serviceType
+     *            the type of the service
+     * @param selfType
+     *            the type of the semantic element
+     * @param call
+     *            the call of the service
+     * @return an expression without value when {@code self} does not have the given type
+     */
+    static <V, S> EasyModJavaExpression ofService(Class<V> serviceType, Class<S> selfType, ServiceCall<? super V, ? super S> call) {
+        Objects.requireNonNull(call);
+        return context -> context.self(selfType)
+                .map(self -> call.apply(context.service(serviceType), self, context))
+                .orElse(null);
+    }
+
+    /**
+     * The call of a service by a {@link EasyModJavaExpression}.
+     *
+     * @param <V>
+     *            the type of the service
+     * @param <S>
+     *            the type of the semantic element
+     * @author ebausson
+     */
+    @FunctionalInterface
+    interface ServiceCall<V, S> {
+        Object apply(V service, S self, EasyModExpressionContext context);
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link EasyModJavaExpression java expressions} of the EasyMod descriptions.
+ * <p>
+ * A java expression is referenced in a description by a string such as {@code java:pbs.LogicalFlow.candidates}. The
+ * registry is shared by the whole JVM: the expressions are registered once, when the classes of the descriptions are
+ * initialized, and evaluated by the {@link EasyModExpressionInterpreter} of each view.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class EasyModJavaExpressions {
+
+    /**
+     * The prefix of the java expressions.
+     */
+    public static final String PREFIX = "java:";
+
+    private static final Map<String, EasyModJavaExpression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private EasyModJavaExpressions() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Register a java expression.
+     *
+     * @param name
+     *            the name of the expression, unique in the application
+     * @param expression
+     *            the expression
+     * @return the string referencing the expression in a description
+     */
+    public static String register(String name, EasyModJavaExpression expression) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(expression);
+        EasyModJavaExpression previous = EXPRESSIONS.putIfAbsent(name, expression);
+        if (previous != null && previous != expression) {
+            throw new IllegalStateException("A java expression named " + name + " is already registered");
+        }
+        return PREFIX + name;
+    }
+
+    public static boolean isJavaExpression(String expression) {
+        return expression != null && expression.startsWith(PREFIX);
+    }
+
+    /**
+     * Find the java expression referenced by the given string.
+     *
+     * @param expression
+     *            a string starting with {@link #PREFIX}
+     * @return the registered expression, if any
+     */
+    public static Optional<EasyModJavaExpression> find(String expression) {
+        Optional<EasyModJavaExpression> javaExpression = Optional.empty();
+        if (isJavaExpression(expression)) {
+            javaExpression = Optional.ofNullable(EXPRESSIONS.get(expression.substring(PREFIX.length())));
+        }
+        return javaExpression;
+    }
+}
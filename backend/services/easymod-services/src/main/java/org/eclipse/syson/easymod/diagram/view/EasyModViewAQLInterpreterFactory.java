@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.emf.IViewAQLInterpreterFactory;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Create the interpreters of the views able to evaluate the {@link EasyModJavaExpressions java expressions} of the
+ * EasyMod descriptions.
+ * <p>
+ * Only the views containing java expressions, i.e. the EasyMod diagrams with descriptions in the
+ * {@link EasyModExpressionMode#JAVA java mode}, get an {@link EasyModExpressionInterpreter}. The other views, and all
+ * the views when every description uses AQL, keep the interpreter created by the default factory. The AQL expressions
+ * of an EasyMod view are still evaluated by this default interpreter, with the services of the view. The services
+ * called by the java expressions are created the same way, once per interpreter.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Primary
+@Service
+public class EasyModViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
+
+    private final IViewAQLInterpreterFactory defaultFactory;
+
+    private final AutowireCapableBeanFactory beanFactory;
+
+    public EasyModViewAQLInterpreterFactory(List<IViewAQLInterpreterFactory> viewAQLInterpreterFactories, AutowireCapableBeanFactory beanFactory) {
+        this.defaultFactory = viewAQLInterpreterFactories.stream()
+                .filter(factory -> !(factory instanceof EasyModViewAQLInterpreterFactory))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No default view AQL interpreter factory"));
+        this.beanFactory = Objects.requireNonNull(beanFactory);
+    }
+
+    @Override
+    public AQLInterpreter createInterpreter(View view, IEditingContext editingContext) {
+        AQLInterpreter interpreter = this.defaultFactory.createInterpreter(view, editingContext);
+        if (this.hasJavaExpressions(view)) {
+            interpreter = new EasyModExpressionInterpreter(interpreter, this.beanFactory::createBean);
+        }
+        return interpreter;
+    }
+
+    /**
+     * Look for a java expression in the single valued string attributes of the given view and of its content.
+     *
+     * @param view
+     *            the view
+     * @return {@code true} if the view contains at least one java expression
+     */
+    private boolean hasJavaExpressions(View view) {
+        boolean hasJavaExpressions = this.hasJavaExpression(view);
+        TreeIterator<EObject> iterator = view.eAllContents();
+        while (!hasJavaExpressions && iterator.hasNext()) {
+            hasJavaExpressions = this.hasJavaExpression(iterator.next());
+        }
+        return hasJavaExpressions;
+    }
+
+    private boolean hasJavaExpression(EObject eObject) {
+        return eObject.eClass().getEAllAttributes().stream()
+                .filter(attribute -> !attribute.isMany() && attribute.getEAttributeType().getInstanceClass() == String.class)
+                .map(eObject::eGet)
+                .anyMatch(value -> value instanceof String expression && EasyModJavaExpressions.isJavaExpression(expression));
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.syson.easymod.concurrent.EasyModBlockingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * REST endpoint used to export the allocation matrix and the flows of a model.
+ * <p>
+ * The {@link ExportAllocationsEventHandler} writes the export in a temporary file in the event processor of the
+ * editing context, the file is then opened by the {@link EasyModBlockingExecutor}, streamed in the response and deleted once it has been sent. In every other case, e.g. an error, an unknown editing
+ * context or a cancelled request, the file is deleted as soon as the response is known. A CSV export
+ * contains a single table, {@code allocations} by default, a columnar export contains all the tables by default.
+ * </p>
+ *
+ * <pre>
+ * curl -o allocations.csv "http://localhost:8080/api/easymod/editingcontexts/{editingContextId}/allocations?elementId=...&amp;format=csv&amp;table=allocations"
+ * curl -o model.emcol "http://localhost:8080/api/easymod/editingcontexts/{editingContextId}/allocations?elementId=...&amp;format=columnar"
+ * </pre>
+ *
+ * @author ebausson
+ */
+@RestController
+@RequestMapping(AllocationExportController.URL)
+public class AllocationExportController {
+
+    public static final String URL = "/api/easymod/editingcontexts/{editingContextId}/allocations";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AllocationExportController.class);
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final EasyModBlockingExecutor blockingExecutor;
+
+    public AllocationExportController(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, EasyModBlockingExecutor blockingExecutor) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Object>> exportAllocations(@PathVariable String editingContextId, @RequestParam String elementId, @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) List<String> table) {
+        Optional<AllocationExportFormat> optFormat = AllocationExportFormat.fromName(format);
+        if (optFormat.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("Unsupported export format, use csv or columnar"));
+        }
+        Optional<List<AllocationExportTable>> optTables = this.getTables(optFormat.get(), table);
+        if (optTables.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("Unsupported tables, use allocations or flows, a CSV export contains a single table"));
+        }
+        Path exportFile;
+        try {
+            exportFile = Files.createTempFile("easymod-allocations", optFormat.get().getExtension());
+        } catch (IOException exception) {
+            LOGGER.warn("The allocation export file cannot be created: {}", exception.getMessage());
+            return Mono.just(ResponseEntity.internalServerError().body("The allocation export file cannot be created"));
+        }
+
+        var input = new ExportAllocationsInput(UUID.randomUUID(), editingContextId, elementId, optFormat.get(), optTables.get(), exportFile);
+        AtomicBoolean isStreamed = new AtomicBoolean();
+        return this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, input)
+                .flatMap(payload -> this.blockingExecutor.mono("allocation-export", () -> this.toResponseEntity(payload, input, isStreamed)))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .doFinally(signalType -> {
+                    // A streamed file is deleted when its stream is closed
+                    if (!isStreamed.get()) {
+                        this.delete(exportFile);
+                    }
+                });
+    }
+
+    private Optional<List<AllocationExportTable>> getTables(AllocationExportFormat format, List<String> tableNames) {
+        List<AllocationExportTable> tables = new ArrayList<>();
+        if (tableNames == null || tableNames.isEmpty()) {
+            if (format.supportsSeveralTables()) {
+                tables.addAll(List.of(AllocationExportTable.values()));
+            } else {
+                tables.add(AllocationExportTable.ALLOCATIONS);
+            }
+        } else {
+            for (String tableName : tableNames) {
+                Optional<AllocationExportTable> optTable = AllocationExportTable.fromName(tableName);
+                if (optTable.isEmpty()) {
+                    return Optional.empty();
+                }
+                if (!tables.contains(optTable.get())) {
+                    tables.add(optTable.get());
+                }
+            }
+        }
+        if (tables.size() > 1 && !format.supportsSeveralTables()) {
+            return Optional.empty();
+        }
+        return Optional.of(tables);
+    }
+
+    private ResponseEntity<Object> toResponseEntity(IPayload payload, ExportAllocationsInput input, AtomicBoolean isStreamed) {
+        ResponseEntity<Object> responseEntity;
+        if (payload instanceof ExportAllocationsSuccessPayload) {
+            responseEntity = this.toFileResponseEntity(input, isStreamed);
+        } else if (payload instanceof ErrorPayload errorPayload) {
+            responseEntity = ResponseEntity.badRequest().body(errorPayload.message());
+        } else {
+            responseEntity = ResponseEntity.internalServerError().build();
+        }
+        return responseEntity;
+    }
+
+    private ResponseEntity<Object> toFileResponseEntity(ExportAllocationsInput input, AtomicBoolean isStreamed) {
+        ResponseEntity<Object> responseEntity;
+        String fileName = input.tables().get(0).getTableName();
+        if (input.tables().size() > 1) {
+            fileName = "allocations";
+        }
+        ContentDisposition contentDisposition = ContentDisposition.attachment().filename(fileName + input.format().getExtension()).build();
+        try {
+            long size = Files.size(input.file());
+            // The file is deleted when the stream is closed, i.e. once it has been sent
+            InputStream inputStream = Files.newInputStream(input.file(), StandardOpenOption.DELETE_ON_CLOSE);
+            isStreamed.set(true);
+            responseEntity = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+                    .contentType(MediaType.parseMediaType(input.format().getMediaType()))
+                    .contentLength(size)
+                    .body(new InputStreamResource(inputStream));
+        } catch (IOException exception) {
+            LOGGER.warn("The allocation export file {} cannot be read: {}", input.file(), exception.getMessage());
+            responseEntity = ResponseEntity.internalServerError().body("The allocation export file cannot be read");
+        }
+        return responseEntity;
+    }
+
+    private void delete(Path exportFile) {
+        try {
+            Files.deleteIfExists(exportFile);
+        } catch (IOException exception) {
+            LOGGER.warn("The allocation export file {} cannot be deleted: {}", exportFile, exception.getMessage());
+        }
+    }
+}
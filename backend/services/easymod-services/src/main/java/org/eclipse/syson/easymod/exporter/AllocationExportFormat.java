@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The supported formats of allocation exports.
+ *
+ * @author ebausson
+ */
+public enum AllocationExportFormat {
+    CSV("csv", ".csv", "text/csv"),
+    COLUMNAR("columnar", ".emcol", "application/octet-stream");
+
+    private final String formatName;
+
+    private final String extension;
+
+    private final String mediaType;
+
+    AllocationExportFormat(String formatName, String extension, String mediaType) {
+        this.formatName = formatName;
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Get a format from its name.
+     *
+     * @param name
+     *            the name of a format, i.e. {@code csv} or {@code columnar}
+     * @return the format with the given name, if any
+     */
+    public static Optional<AllocationExportFormat> fromName(String name) {
+        Optional<AllocationExportFormat> format = Optional.empty();
+        if (name != null) {
+            String lowerCaseName = name.trim().toLowerCase(Locale.ROOT);
+            for (AllocationExportFormat candidate : values()) {
+                if (candidate.formatName.equals(lowerCaseName)) {
+                    format = Optional.of(candidate);
+                }
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Check if several tables can be written in a single file of this format.
+     *
+     * @return {@code true} if a file can contain several tables, {@code false} otherwise
+     */
+    public boolean supportsSeveralTables() {
+        return this == COLUMNAR;
+    }
+
+    /**
+     * Create a streaming writer of a file in this format.
+     *
+     * @param outputStream
+     *            the destination of the file, closed with the writer
+     * @return a writer of the tables of the file
+     */
+    public AllocationTableWriter createWriter(OutputStream outputStream) {
+        AllocationTableWriter writer;
+        if (this == COLUMNAR) {
+            writer = new ColumnarAllocationTableWriter(outputStream);
+        } else {
+            writer = new CsvAllocationTableWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+        return writer;
+    }
+
+    public String getExtension() {
+        return this.extension;
+    }
+
+    public String getMediaType() {
+        return this.mediaType;
+    }
+}
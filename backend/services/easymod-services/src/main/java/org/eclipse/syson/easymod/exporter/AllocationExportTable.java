@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The tables of an allocation export.
+ * <p>
+ * The allocation matrix is exported in its sparse form: one row per function and product on which it is allocated,
+ * and one row without product for each function still to allocate.
+ * </p>
+ *
+ * @author ebausson
+ */
+public enum AllocationExportTable {
+    ALLOCATIONS("allocations", List.of("functionId", "function", "status", "productId", "product")),
+    FLOWS("flows", List.of("flowId", "flow", "kind", "sourceId", "source", "targetId", "target"));
+
+    private final String tableName;
+
+    private final List<String> columns;
+
+    AllocationExportTable(String tableName, List<String> columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+    }
+
+    /**
+     * Get a table from its name.
+     *
+     * @param name
+     *            the name of a table, e.g. {@code flows}
+     * @return the table with the given name, if any
+     */
+    public static Optional<AllocationExportTable> fromName(String name) {
+        Optional<AllocationExportTable> table = Optional.empty();
+        if (name != null) {
+            String lowerCaseName = name.trim().toLowerCase(Locale.ROOT);
+            for (AllocationExportTable candidate : values()) {
+                if (candidate.tableName.equals(lowerCaseName)) {
+                    table = Optional.of(candidate);
+                }
+            }
+        }
+        return table;
+    }
+
+    public String getTableName() {
+        return this.tableName;
+    }
+
+    public List<String> getColumns() {
+        return this.columns;
+    }
+}
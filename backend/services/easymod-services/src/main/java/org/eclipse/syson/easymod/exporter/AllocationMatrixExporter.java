@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModTraversal;
+import org.eclipse.syson.easymod.diagram.services.SEIMTypeMatcher;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PartUsage;
+
+/**
+ * Export the allocation of the functions of a model on its products, and the flows of the model.
+ * <p>
+ * The export reads the model with a single lazy traversal per table and writes each row as soon as it is computed:
+ * the allocations of a function are read from the {@link EasyModModelIndex}, so neither the matrix nor the table of
+ * the allocation cockpit is built in memory. The functions are exported with the same status as in the allocation
+ * cockpit, {@value #ALLOCATED} or {@value #TO_ALLOCATE}: a function is allocated by each allocation having it as
+ * single source and a single target, see {@link EasyModModelIndex#isSingleAllocation(AllocationUsage)}.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class AllocationMatrixExporter {
+
+    /**
+     * The status of a function allocated on a product.
+     */
+    public static final String ALLOCATED = "Allocated";
+
+    /**
+     * The status of a function which is not allocated yet.
+     */
+    public static final String TO_ALLOCATE = "To allocate";
+
+    /**
+     * The kind of the flows between functions.
+     */
+    public static final String FUNCTIONAL_FLOW = "Functional";
+
+    /**
+     * The kind of the flows between logical constituents.
+     */
+    public static final String LOGICAL_FLOW = "Logical";
+
+    /**
+     * Export the given tables of the model containing the given element.
+     *
+     * @param element
+     *            an element of the model to export
+     * @param tables
+     *            the tables to export, in order
+     * @param writer
+     *            the writer of the export, it is not closed by this method
+     * @return the number of rows written
+     * @throws IOException
+     *             if the export cannot be written, the rows written so far are kept
+     */
+    public long export(EObject element, Collection<AllocationExportTable> tables, AllocationTableWriter writer) throws IOException {
+        Objects.requireNonNull(element);
+        Objects.requireNonNull(writer);
+        long rowCount = 0;
+        for (AllocationExportTable table : tables) {
+            writer.startTable(table);
+            if (table == AllocationExportTable.ALLOCATIONS) {
+                rowCount += this.writeAllocations(element, writer);
+            } else {
+                rowCount += this.writeFlows(element, writer);
+            }
+            writer.endTable();
+        }
+        return rowCount;
+    }
+
+    private long writeAllocations(EObject element, AllocationTableWriter writer) throws IOException {
+        EasyModModelIndex index = EasyModModelIndex.getOrCreate(element);
+        long rowCount = 0;
+        Iterator<ActionUsage> functions = EasyModTraversal.ofModel(element).skippingStandardLibraries().ofType(ActionUsage.class).stream().iterator();
+        while (functions.hasNext()) {
+            ActionUsage function = functions.next();
+            String functionId = function.getElementId();
+            String functionName = function.getDeclaredName();
+            boolean isAllocated = false;
+            for (AllocationUsage allocation : index.getAllocationsFrom(function)) {
+                if (EasyModModelIndex.isSingleAllocation(allocation)) {
+                    String productId = null;
+                    String productName = null;
+                    if (allocation.getTarget().get(0) instanceof PartUsage product) {
+                        productId = product.getElementId();
+                        productName = product.getDeclaredName();
+                    }
+                    writer.writeRow(Arrays.asList(functionId, functionName, ALLOCATED, productId, productName));
+                    rowCount++;
+                    isAllocated = true;
+                }
+            }
+            if (!isAllocated) {
+                writer.writeRow(Arrays.asList(functionId, functionName, TO_ALLOCATE, null, null));
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    private long writeFlows(EObject element, AllocationTableWriter writer) throws IOException {
+        long rowCount = 0;
+        Iterator<InterfaceUsage> flows = EasyModTraversal.ofModel(element).skippingStandardLibraries().ofType(InterfaceUsage.class).stream().iterator();
+        while (flows.hasNext()) {
+            InterfaceUsage flow = flows.next();
+            String kind = null;
+            if (SEIMTypeMatcher.isTypedWith(flow, EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME)) {
+                kind = FUNCTIONAL_FLOW;
+            } else if (SEIMTypeMatcher.isTypedWith(flow, EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME)) {
+                kind = LOGICAL_FLOW;
+            }
+            if (kind != null) {
+                Element source = this.getEndOwner(flow.getSource());
+                Element target = this.getEndOwner(flow.getTarget());
+                writer.writeRow(Arrays.asList(flow.getElementId(), flow.getDeclaredName(), kind, this.getId(source), this.getName(source), this.getId(target), this.getName(target)));
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    /**
+     * Get the element owning the port at the end of a flow.
+     */
+    private Element getEndOwner(Collection<Element> ends) {
+        Element owner = null;
+        Iterator<Element> iterator = ends.iterator();
+        if (iterator.hasNext()) {
+            Element port = iterator.next();
+            owner = port.getOwner();
+            if (owner == null) {
+                owner = port;
+            }
+        }
+        return owner;
+    }
+
+    private String getId(Element element) {
+        String id = null;
+        if (element != null) {
+            id = element.getElementId();
+        }
+        return id;
+    }
+
+    private String getName(Element element) {
+        String name = null;
+        if (element != null) {
+            name = element.getDeclaredName();
+        }
+        return name;
+    }
+}
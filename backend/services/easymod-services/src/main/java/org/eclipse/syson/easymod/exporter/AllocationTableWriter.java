@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streaming writer of the tables of an allocation export. Rows are written one at a time, in the order of the
+ * columns given when the table has been started, so that models of any size can be exported with a bounded memory.
+ *
+ * @author ebausson
+ */
+public interface AllocationTableWriter extends Closeable {
+
+    /**
+     * Start a new table, the previous table must have been ended.
+     *
+     * @param table
+     *            the table to write
+     * @throws IOException
+     *             if the table cannot be written
+     */
+    void startTable(AllocationExportTable table) throws IOException;
+
+    /**
+     * Write a row of the current table.
+     *
+     * @param values
+     *            the values of the row, one per column of the table, {@code null} for missing values
+     * @throws IOException
+     *             if the row cannot be written
+     */
+    void writeRow(List<String> values) throws IOException;
+
+    /**
+     * End the current table.
+     *
+     * @throws IOException
+     *             if the table cannot be written
+     */
+    void endTable() throws IOException;
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Write allocation tables in a compact columnar binary file.
+ * <p>
+ * Like Parquet, the rows are grouped in row groups and each row group stores its values column by column. Each
+ * column of a row group is dictionary encoded: the distinct values are written once, followed by the index of the
+ * value of each row. Statuses, kinds and products are repeated on many rows, so they mostly cost a single byte per
+ * row. Only the current row group is kept in memory.
+ * </p>
+ *
+ * <pre>
+ * file      := "EMCOL" version:u8 (0x01 table)* 0x00
+ * table     := name:string columnCount:varint columnName:string* rowGroup* 0:varint
+ * rowGroup  := rowCount:varint column*
+ * column    := dictionarySize:varint value:string* index:varint*    (index 0 is a missing value, i + 1 the i-th value)
+ * string    := byteCount:varint utf8Bytes
+ * varint    := unsigned LEB128
+ * </pre>
+ *
+ * @author ebausson
+ */
+public class ColumnarAllocationTableWriter implements AllocationTableWriter {
+
+    /**
+     * The magic bytes at the beginning of a columnar file.
+     */
+    public static final byte[] MAGIC = { 'E', 'M', 'C', 'O', 'L' };
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The default number of rows of a row group.
+     */
+    public static final int DEFAULT_ROW_GROUP_SIZE = 8192;
+
+    private static final int TABLE_MARKER = 1;
+
+    private static final int END_MARKER = 0;
+
+    private final DataOutputStream output;
+
+    private final int rowGroupSize;
+
+    private boolean hasWrittenHeader;
+
+    private AllocationExportTable currentTable;
+
+    private List<List<String>> rowGroup = new ArrayList<>();
+
+    public ColumnarAllocationTableWriter(OutputStream outputStream) {
+        this(outputStream, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    public ColumnarAllocationTableWriter(OutputStream outputStream, int rowGroupSize) {
+        if (rowGroupSize < 1) {
+            throw new IllegalArgumentException("The size of the row groups must be positive");
+        }
+        this.output = new DataOutputStream(new BufferedOutputStream(Objects.requireNonNull(outputStream)));
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    @Override
+    public void startTable(AllocationExportTable table) throws IOException {
+        if (this.currentTable != null) {
+            throw new IllegalStateException("The table " + this.currentTable.getTableName() + " has not been ended");
+        }
+        this.writeHeader();
+        this.currentTable = Objects.requireNonNull(table);
+        this.output.writeByte(TABLE_MARKER);
+        this.writeString(table.getTableName());
+        this.writeVarInt(table.getColumns().size());
+        for (String column : table.getColumns()) {
+            this.writeString(column);
+        }
+        this.rowGroup = new ArrayList<>(table.getColumns().size());
+        for (int i = 0; i < table.getColumns().size(); i++) {
+            this.rowGroup.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        if (this.currentTable == null) {
+            throw new IllegalStateException("No table has been started");
+        }
+        if (values.size() != this.rowGroup.size()) {
+            throw new IllegalArgumentException("Expected " + this.rowGroup.size() + " values, got " + values.size());
+        }
+        for (int i = 0; i < values.size(); i++) {
+            this.rowGroup.get(i).add(values.get(i));
+        }
+        if (this.rowGroup.get(0).size() == this.rowGroupSize) {
+            this.flushRowGroup();
+        }
+    }
+
+    @Override
+    public void endTable() throws IOException {
+        if (this.currentTable != null) {
+            this.flushRowGroup();
+            this.writeVarInt(0);
+            this.currentTable = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.endTable();
+            this.writeHeader();
+            this.output.writeByte(END_MARKER);
+        } finally {
+            this.output.close();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        if (!this.hasWrittenHeader) {
+            this.output.write(MAGIC);
+            this.output.writeByte(VERSION);
+            this.hasWrittenHeader = true;
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        int rowCount = this.rowGroup.get(0).size();
+        if (rowCount == 0) {
+            return;
+        }
+        this.writeVarInt(rowCount);
+        for (List<String> column : this.rowGroup) {
+            this.writeColumn(column);
+            column.clear();
+        }
+    }
+
+    private void writeColumn(List<String> values) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> dictionaryValues = new ArrayList<>();
+        int[] indexes = new int[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                indexes[i] = dictionary.computeIfAbsent(value, key -> {
+                    dictionaryValues.add(key);
+                    return dictionaryValues.size();
+                });
+            }
+        }
+        this.writeVarInt(dictionaryValues.size());
+        for (String value : dictionaryValues) {
+            this.writeString(value);
+        }
+        for (int index : indexes) {
+            this.writeVarInt(index);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeVarInt(bytes.length);
+        this.output.write(bytes);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            this.output.writeByte((remaining & 0x7F) | 0x80);
+            remaining = remaining >>> 7;
+        }
+        this.output.writeByte(remaining);
+    }
+}
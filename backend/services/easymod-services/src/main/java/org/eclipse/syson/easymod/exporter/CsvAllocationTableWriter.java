@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Write an allocation table as a CSV file with a header line.
+ * <p>
+ * Values containing a separator, a quote or a line break are quoted, missing values are written as empty values. A
+ * CSV file contains a single table.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class CsvAllocationTableWriter implements AllocationTableWriter {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    private AllocationExportTable currentTable;
+
+    private boolean hasWrittenTable;
+
+    public CsvAllocationTableWriter(Writer writer) {
+        this.writer = new BufferedWriter(Objects.requireNonNull(writer));
+    }
+
+    @Override
+    public void startTable(AllocationExportTable table) throws IOException {
+        if (this.currentTable != null || this.hasWrittenTable) {
+            throw new IllegalStateException("A CSV file can only contain a single table");
+        }
+        this.currentTable = Objects.requireNonNull(table);
+        this.hasWrittenTable = true;
+        this.writeLine(table.getColumns());
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        if (this.currentTable == null) {
+            throw new IllegalStateException("No table has been started");
+        }
+        if (values.size() != this.currentTable.getColumns().size()) {
+            throw new IllegalArgumentException("Expected " + this.currentTable.getColumns().size() + " values, got " + values.size());
+        }
+        this.writeLine(values);
+    }
+
+    @Override
+    public void endTable() throws IOException {
+        this.currentTable = null;
+        this.writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+
+    private void writeLine(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                this.writer.write(SEPARATOR);
+            }
+            this.writeValue(values.get(i));
+        }
+        this.writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char character = value.charAt(i);
+            needsQuotes = character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r';
+        }
+        if (needsQuotes) {
+            this.writer.write(QUOTE);
+            this.writer.write(value.replace("\"", "\"\""));
+            this.writer.write(QUOTE);
+        } else {
+            this.writer.write(value);
+        }
+    }
+}
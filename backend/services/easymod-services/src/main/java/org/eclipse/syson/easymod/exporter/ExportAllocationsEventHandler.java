@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Export the allocations and the flows of a model for an {@link ExportAllocationsInput}.
+ * <p>
+ * The export runs in the event processor of the editing context so that the model is not modified while it is read.
+ * It is written directly in the file of the input, the model is not modified and no change is emitted.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class ExportAllocationsEventHandler implements IEditingContextEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExportAllocationsEventHandler.class);
+
+    private final IObjectService objectService;
+
+    public ExportAllocationsEventHandler(IObjectService objectService) {
+        this.objectService = Objects.requireNonNull(objectService);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof ExportAllocationsInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        IPayload payload = new ErrorPayload(input.id(), "Invalid input");
+        if (input instanceof ExportAllocationsInput exportInput) {
+            Optional<EObject> optElement = this.objectService.getObject(editingContext, exportInput.elementId())
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast);
+            if (optElement.isEmpty()) {
+                payload = new ErrorPayload(input.id(), "The element " + exportInput.elementId() + " does not exist");
+            } else {
+                payload = this.export(exportInput, optElement.get());
+            }
+        }
+        payloadSink.tryEmitValue(payload);
+    }
+
+    private IPayload export(ExportAllocationsInput input, EObject element) {
+        IPayload payload;
+        try (OutputStream outputStream = Files.newOutputStream(input.file()); AllocationTableWriter writer = input.format().createWriter(outputStream)) {
+            long rowCount = new AllocationMatrixExporter().export(element, input.tables(), writer);
+            LOGGER.info("Allocation export {}: {} rows written", input.id(), rowCount);
+            payload = new ExportAllocationsSuccessPayload(input.id(), rowCount);
+        } catch (IOException exception) {
+            LOGGER.warn("Allocation export {} failed: {}", input.id(), exception.getMessage());
+            payload = new ErrorPayload(input.id(), exception.getMessage());
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input used to export the allocations and the flows of a model.
+ *
+ * @param id
+ *            the id of the input
+ * @param editingContextId
+ *            the id of the editing context
+ * @param elementId
+ *            the id of an element of the model to export
+ * @param format
+ *            the format of the export
+ * @param tables
+ *            the tables to export
+ * @param file
+ *            the file written by the event handler
+ * @author ebausson
+ */
+public record ExportAllocationsInput(UUID id, String editingContextId, String elementId, AllocationExportFormat format, List<AllocationExportTable> tables, Path file) implements IInput {
+}
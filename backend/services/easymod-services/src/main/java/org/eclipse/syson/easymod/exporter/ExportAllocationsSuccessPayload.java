@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload returned when the allocations of a model have been exported.
+ *
+ * @param id
+ *            the id of the input
+ * @param rowCount
+ *            the number of rows written
+ * @author ebausson
+ */
+public record ExportAllocationsSuccessPayload(UUID id, long rowCount) implements IPayload {
+    public ExportAllocationsSuccessPayload {
+        Objects.requireNonNull(id);
+    }
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The kinds of SEIM elements described by the rows of a breakdown file.
+ *
+ * @author ebausson
+ */
+public enum BreakdownElementKind {
+    FUNCTION("function"),
+    LOGICAL_CONSTITUENT("logicalconstituent"),
+    FUNCTIONAL_FLOW("functionalflow"),
+    LOGICAL_FLOW("logicalflow"),
+    ALLOCATION("allocation");
+
+    private final String label;
+
+    BreakdownElementKind(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Get the kind of the given label. The labels are case insensitive and may contain spaces, dashes or underscores,
+     * e.g. {@code function}, {@code Logical Constituent}, {@code functional-flow} or {@code ALLOCATION}.
+     *
+     * @param label
+     *            the label of a kind
+     * @return the kind with the given label, if any
+     */
+    public static Optional<BreakdownElementKind> fromLabel(String label) {
+        Optional<BreakdownElementKind> kind = Optional.empty();
+        if (label != null) {
+            String normalizedLabel = label.toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", "");
+            for (BreakdownElementKind candidate : values()) {
+                if (candidate.label.equals(normalizedLabel)) {
+                    kind = Optional.of(candidate);
+                }
+            }
+        }
+        return kind;
+    }
+}
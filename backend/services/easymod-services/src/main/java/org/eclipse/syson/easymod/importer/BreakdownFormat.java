@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The supported formats of breakdown files.
+ *
+ * @author ebausson
+ */
+public enum BreakdownFormat {
+    CSV(".csv"),
+    JSON(".json");
+
+    private final String extension;
+
+    BreakdownFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Get the format of a file from its name.
+     *
+     * @param fileName
+     *            the name of a file
+     * @return the format matching the extension of the file, if any
+     */
+    public static Optional<BreakdownFormat> fromFileName(String fileName) {
+        Optional<BreakdownFormat> format = Optional.empty();
+        if (fileName != null) {
+            String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+            for (BreakdownFormat candidate : values()) {
+                if (lowerCaseFileName.endsWith(candidate.extension)) {
+                    format = Optional.of(candidate);
+                }
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Create a streaming reader of a UTF-8 file in this format.
+     *
+     * @param inputStream
+     *            the content of the file
+     * @return a reader of the rows of the file
+     * @throws IOException
+     *             if the reader cannot be created
+     */
+    public BreakdownReader createReader(InputStream inputStream) throws IOException {
+        BreakdownReader reader;
+        if (this == JSON) {
+            reader = new JsonBreakdownReader(inputStream);
+        } else {
+            reader = new CsvBreakdownReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        }
+        return reader;
+    }
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.syson.easymod.concurrent.EasyModBlockingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * REST endpoint used to import breakdown files.
+ * <p>
+ * The uploaded file is written in a temporary file by the {@link EasyModBlockingExecutor}, then imported by the {@link ImportBreakdownEventHandler} in the
+ * event processor of the editing context. The response contains the {@link BreakdownImportReport}.
+ * </p>
+ *
+ * <pre>
+ * curl -F file=@breakdown.csv -F namespaceId=... http://localhost:8080/api/easymod/editingcontexts/{editingContextId}/breakdowns
+ * </pre>
+ *
+ * @author ebausson
+ */
+@RestController
+@RequestMapping(BreakdownImportController.URL)
+public class BreakdownImportController {
+
+    public static final String URL = "/api/easymod/editingcontexts/{editingContextId}/breakdowns";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BreakdownImportController.class);
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final EasyModBlockingExecutor blockingExecutor;
+
+    public BreakdownImportController(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, EasyModBlockingExecutor blockingExecutor) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public Mono<ResponseEntity<Object>> importBreakdown(@PathVariable String editingContextId, @RequestParam String namespaceId, @RequestParam(required = false) String format,
+            @RequestParam MultipartFile file) {
+        Optional<BreakdownFormat> optFormat = this.getFormat(format, file.getOriginalFilename());
+        if (optFormat.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body("Unsupported breakdown format, use a .csv or a .json file"));
+        }
+        return this.blockingExecutor.mono("breakdown-upload", () -> this.upload(file))
+                .flatMap(uploadedFile -> this.importBreakdown(editingContextId, namespaceId, optFormat.get(), uploadedFile))
+                .onErrorResume(IOException.class, exception -> {
+                    LOGGER.warn("The breakdown file cannot be uploaded: {}", exception.getMessage());
+                    return Mono.just(ResponseEntity.internalServerError().body("The breakdown file cannot be uploaded"));
+                });
+    }
+
+    private Path upload(MultipartFile file) throws IOException {
+        Path uploadedFile = Files.createTempFile("easymod-breakdown", ".tmp");
+        try {
+            file.transferTo(uploadedFile);
+        } catch (IOException exception) {
+            this.delete(uploadedFile);
+            throw exception;
+        }
+        return uploadedFile;
+    }
+
+    private Mono<ResponseEntity<Object>> importBreakdown(String editingContextId, String namespaceId, BreakdownFormat format, Path uploadedFile) {
+        var input = new ImportBreakdownInput(UUID.randomUUID(), editingContextId, namespaceId, format, uploadedFile);
+        return this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, input)
+                .map(this::toResponseEntity)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .doFinally(signal -> this.blockingExecutor.submit("breakdown-cleanup", () -> this.delete(uploadedFile)));
+    }
+
+    private Optional<BreakdownFormat> getFormat(String format, String fileName) {
+        if (format != null) {
+            return BreakdownFormat.fromFileName("." + format);
+        }
+        return BreakdownFormat.fromFileName(fileName);
+    }
+
+    private ResponseEntity<Object> toResponseEntity(IPayload payload) {
+        ResponseEntity<Object> responseEntity;
+        if (payload instanceof ImportBreakdownSuccessPayload successPayload) {
+            responseEntity = ResponseEntity.ok().body(successPayload.report());
+        } else if (payload instanceof ErrorPayload errorPayload) {
+            responseEntity = ResponseEntity.badRequest().body(errorPayload.message());
+        } else {
+            responseEntity = ResponseEntity.internalServerError().build();
+        }
+        return responseEntity;
+    }
+
+    private boolean delete(Path uploadedFile) {
+        boolean deleted = false;
+        try {
+            deleted = Files.deleteIfExists(uploadedFile);
+        } catch (IOException exception) {
+            LOGGER.warn("The uploaded breakdown file {} cannot be deleted: {}", uploadedFile, exception.getMessage());
+        }
+        return deleted;
+    }
+}
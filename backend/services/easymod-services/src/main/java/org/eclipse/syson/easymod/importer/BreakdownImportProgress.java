@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+/**
+ * The progress of an import, notified after each batch of rows.
+ *
+ * @param rowCount
+ *            the number of rows read so far
+ * @param createdElementCount
+ *            the number of functions, logical constituents, flows and allocations created so far
+ * @param rejectedRowCount
+ *            the number of invalid rows ignored so far
+ * @author ebausson
+ */
+public record BreakdownImportProgress(long rowCount, long createdElementCount, long rejectedRowCount) {
+}
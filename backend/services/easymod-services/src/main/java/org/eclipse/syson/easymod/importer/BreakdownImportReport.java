@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.util.List;
+
+/**
+ * The result of an import.
+ *
+ * @param rowCount
+ *            the number of rows read
+ * @param functionCount
+ *            the number of created functions
+ * @param logicalConstituentCount
+ *            the number of created logical constituents
+ * @param functionalFlowCount
+ *            the number of created functional flows
+ * @param logicalFlowCount
+ *            the number of created logical flows
+ * @param allocationCount
+ *            the number of created allocations
+ * @param rejectedRowCount
+ *            the number of invalid rows which have been ignored
+ * @param errors
+ *            the description of the first errors, at most {@link SEIMBreakdownImporter#MAX_REPORTED_ERRORS}
+ * @author ebausson
+ */
+public record BreakdownImportReport(long rowCount, long functionCount, long logicalConstituentCount, long functionalFlowCount, long logicalFlowCount, long allocationCount, long rejectedRowCount,
+        List<String> errors) {
+}
@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming reader of the rows of a breakdown file, rows are read one at a time so that files of any size can be
+ * imported with a bounded memory.
+ *
+ * @author ebausson
+ */
+public interface BreakdownReader extends Closeable {
+
+    /**
+     * The default maximum number of characters of a CSV record or of a JSON value. A longer record or value fails the
+     * import as soon as it is read, before it is kept in memory.
+     */
+    int DEFAULT_MAX_LENGTH = 64 * 1024;
+
+    /**
+     * Read the next row of the file.
+     *
+     * @return the next row, or {@code null} at the end of the file
+     * @throws IOException
+     *             if the file cannot be read or is malformed
+     */
+    BreakdownRow read() throws IOException;
+}
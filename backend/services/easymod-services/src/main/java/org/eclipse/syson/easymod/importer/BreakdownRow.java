@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * A row of a breakdown file.
+ * <p>
+ * Functions and logical constituents are identified by their {@code id}, or by their {@code name} when they have no
+ * id. The {@code parent} of a function or of a logical constituent, and the {@code source} and {@code target} of a
+ * flow or of an allocation, reference the identifier of an element declared on a previous row or the name of an
+ * element already contained by the imported package. Allocations go from a function to a logical constituent.
+ * </p>
+ *
+ * @param line
+ *            the line of the row in the file, used to report errors
+ * @param kind
+ *            the kind of the element, see {@link BreakdownElementKind#fromLabel(String)}
+ * @param id
+ *            the identifier of the element in the file, may be {@code null}
+ * @param name
+ *            the name of the element, may be {@code null}
+ * @param parent
+ *            the identifier of the parent of a function or of a logical constituent, may be {@code null}
+ * @param source
+ *            the identifier of the source of a flow or of an allocation, may be {@code null}
+ * @param target
+ *            the identifier of the target of a flow or of an allocation, may be {@code null}
+ * @author ebausson
+ */
+public record BreakdownRow(long line, String kind, String id, String name, String parent, String source, String target) {
+
+    // The columns of a CSV file, or the fields of a JSON element
+    public static final String KIND = "kind";
+
+    public static final String ID = "id";
+
+    public static final String NAME = "name";
+
+    public static final String PARENT = "parent";
+
+    public static final String SOURCE = "source";
+
+    public static final String TARGET = "target";
+
+    /**
+     * Create a row from the values of its columns, blank values are ignored.
+     *
+     * @param line
+     *            the line of the row in the file
+     * @param values
+     *            the value of each column, {@code null} for a missing column
+     * @return the new row
+     */
+    public static BreakdownRow of(long line, UnaryOperator<String> values) {
+        return new BreakdownRow(line, valueOf(values, KIND), valueOf(values, ID), valueOf(values, NAME), valueOf(values, PARENT), valueOf(values, SOURCE), valueOf(values, TARGET));
+    }
+
+    private static String valueOf(UnaryOperator<String> values, String column) {
+        String value = values.apply(column);
+        if (value != null) {
+            value = value.strip();
+            if (value.isEmpty()) {
+                value = null;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Get the key referencing the element of this row in the other rows.
+     *
+     * @return the id of the row, or its name if it has no id
+     */
+    public String getKey() {
+        if (this.id != null) {
+            return this.id;
+        }
+        return this.name;
+    }
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Streaming reader of a CSV breakdown file.
+ * <p>
+ * The first record of the file is a header giving the name of the columns, see {@link BreakdownRow}. The columns may
+ * be in any order, unknown columns are ignored. Fields can be quoted with {@code "} to contain separators, quotes
+ * ({@code ""}) or line breaks. A record longer than the maximum length, e.g. a quote which is never closed, fails the
+ * import as soon as the limit is reached.
+ * </p>
+ *
+ * <pre>
+ * kind,id,name,parent,source,target
+ * function,F1,Provide thrust,,,
+ * function,F1.1,Control motors,F1,,
+ * logicalConstituent,C1,Propulsion,,,
+ * allocation,,,,F1.1,C1
+ * </pre>
+ *
+ * @author ebausson
+ */
+public final class CsvBreakdownReader implements BreakdownReader {
+
+    /**
+     * The default separator of the fields.
+     */
+    public static final char DEFAULT_SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+
+    private final char separator;
+
+    private final int maxRecordLength;
+
+    private Map<String, Integer> columns;
+
+    private long line = 1;
+
+    public CsvBreakdownReader(Reader reader) {
+        this(reader, DEFAULT_SEPARATOR);
+    }
+
+    public CsvBreakdownReader(Reader reader, char separator) {
+        this(reader, separator, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Create a reader.
+     *
+     * @param reader
+     *            the content of the file
+     * @param separator
+     *            the separator of the fields
+     * @param maxRecordLength
+     *            the maximum number of characters of a record, including its separators and line breaks
+     */
+    public CsvBreakdownReader(Reader reader, char separator, int maxRecordLength) {
+        if (maxRecordLength < 1) {
+            throw new IllegalArgumentException("The maximum length of a record must be positive");
+        }
+        this.reader = new BufferedReader(Objects.requireNonNull(reader));
+        this.separator = separator;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    @Override
+    public BreakdownRow read() throws IOException {
+        if (this.columns == null) {
+            this.columns = this.readHeader();
+        }
+        BreakdownRow row = null;
+        while (row == null) {
+            long recordLine = this.line;
+            List<String> fields = this.readRecord();
+            if (fields == null) {
+                break;
+            }
+            if (!this.isBlank(fields)) {
+                row = BreakdownRow.of(recordLine, column -> {
+                    Integer index = this.columns.get(column);
+                    if (index != null && index < fields.size()) {
+                        return fields.get(index);
+                    }
+                    return null;
+                });
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    private Map<String, Integer> readHeader() throws IOException {
+        List<String> header = this.readRecord();
+        if (header == null || !header.stream().map(this::toColumnName).toList().contains(BreakdownRow.KIND)) {
+            throw new IOException("The first line of a CSV breakdown must be a header containing the column \"" + BreakdownRow.KIND + "\"");
+        }
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columnIndexes.putIfAbsent(this.toColumnName(header.get(i)), i);
+        }
+        return columnIndexes;
+    }
+
+    private String toColumnName(String headerField) {
+        // Strip the byte order mark written by some spreadsheets
+        return headerField.replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isBlank(List<String> fields) {
+        return fields.stream().allMatch(String::isBlank);
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        long recordLine = this.line;
+        boolean quoted = false;
+        boolean empty = true;
+        int recordLength = 0;
+        int character = this.reader.read();
+        while (character != -1) {
+            empty = false;
+            recordLength++;
+            if (recordLength > this.maxRecordLength) {
+                throw new IOException("The CSV record starting at line " + recordLine + " is longer than " + this.maxRecordLength + " characters");
+            }
+            if (quoted) {
+                if (character == QUOTE) {
+                    quoted = this.readEscapedQuote(field);
+                } else {
+                    this.countLine(character);
+                    field.append((char) character);
+                }
+            } else if (character == QUOTE && field.length() == 0) {
+                quoted = true;
+            } else if (character == this.separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (character == '\n') {
+                this.line++;
+                fields.add(field.toString());
+                return fields;
+            } else if (character != '\r') {
+                field.append((char) character);
+            }
+            character = this.reader.read();
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted field in the CSV record starting at line " + recordLine);
+        }
+        if (empty) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Handle a quote read in a quoted field: a second quote is an escaped quote, anything else closes the field.
+     *
+     * @param field
+     *            the content of the current field
+     * @return {@code true} if the field is still quoted, {@code false} otherwise
+     * @throws IOException
+     *             if the file cannot be read
+     */
+    private boolean readEscapedQuote(StringBuilder field) throws IOException {
+        this.reader.mark(1);
+        if (this.reader.read() == QUOTE) {
+            field.append(QUOTE);
+            return true;
+        }
+        this.reader.reset();
+        return false;
+    }
+
+    private void countLine(int character) {
+        if (character == '\n') {
+            this.line++;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.syson.sysml.Namespace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Import a breakdown file in the editing context of an {@link ImportBreakdownInput}.
+ * <p>
+ * The import runs in the event processor of the editing context like any other command, the representations are
+ * refreshed once at the end of the import. The progress is logged after each batch.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class ImportBreakdownEventHandler implements IEditingContextEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportBreakdownEventHandler.class);
+
+    private final IObjectService objectService;
+
+    private final int batchSize;
+
+    public ImportBreakdownEventHandler(IObjectService objectService, @Value("${easymod.import.batch-size:" + SEIMBreakdownImporter.DEFAULT_BATCH_SIZE + "}") int batchSize) {
+        this.objectService = Objects.requireNonNull(objectService);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof ImportBreakdownInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        IPayload payload = new ErrorPayload(input.id(), "Invalid input");
+        if (input instanceof ImportBreakdownInput importInput) {
+            Optional<Namespace> optNamespace = this.objectService.getObject(editingContext, importInput.namespaceId())
+                    .filter(Namespace.class::isInstance)
+                    .map(Namespace.class::cast);
+            if (optNamespace.isEmpty()) {
+                payload = new ErrorPayload(input.id(), "The element " + importInput.namespaceId() + " cannot contain the imported elements");
+            } else {
+                payload = this.importBreakdown(importInput, optNamespace.get());
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+            }
+        }
+        payloadSink.tryEmitValue(payload);
+    }
+
+    private IPayload importBreakdown(ImportBreakdownInput input, Namespace namespace) {
+        IPayload payload;
+        try (InputStream inputStream = Files.newInputStream(input.file()); BreakdownReader reader = input.format().createReader(inputStream)) {
+            BreakdownImportReport report = new SEIMBreakdownImporter(this.batchSize).importBreakdown(reader, namespace,
+                    progress -> LOGGER.info("Breakdown import {}: {} rows read, {} elements created, {} rows rejected", input.id(), progress.rowCount(), progress.createdElementCount(),
+                            progress.rejectedRowCount()));
+            payload = new ImportBreakdownSuccessPayload(input.id(), report);
+        } catch (IOException exception) {
+            LOGGER.warn("Breakdown import {} failed: {}", input.id(), exception.getMessage());
+            payload = new ErrorPayload(input.id(), exception.getMessage());
+        }
+        return payload;
+    }
+}
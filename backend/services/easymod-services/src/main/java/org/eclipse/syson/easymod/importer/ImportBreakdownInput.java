@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input used to import a breakdown file in an editing context.
+ *
+ * @param id
+ *            the id of the input
+ * @param editingContextId
+ *            the id of the editing context
+ * @param namespaceId
+ *            the id of the package or namespace in which the elements are imported
+ * @param format
+ *            the format of the file
+ * @param file
+ *            the uploaded file, read by the event handler
+ * @author ebausson
+ */
+public record ImportBreakdownInput(UUID id, String editingContextId, String namespaceId, BreakdownFormat format, Path file) implements IInput {
+}
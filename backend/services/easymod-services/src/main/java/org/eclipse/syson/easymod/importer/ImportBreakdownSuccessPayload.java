@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * The payload returned when a breakdown file has been imported.
+ *
+ * @param id
+ *            the id of the input
+ * @param report
+ *            the report of the import
+ * @author ebausson
+ */
+public record ImportBreakdownSuccessPayload(UUID id, BreakdownImportReport report) implements IPayload {
+    public ImportBreakdownSuccessPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(report);
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+
+/**
+ * Streaming reader of a JSON breakdown file.
+ * <p>
+ * The file contains an array of elements whose fields are the columns of a {@link BreakdownRow}. The array is read
+ * with the Jackson streaming API, only the columns of the current element are kept in memory. Unknown fields are
+ * skipped, and a value or a field name longer than the maximum length fails the import as soon as it is read.
+ * </p>
+ *
+ * <pre>
+ * [
+ *   { "kind": "function", "id": "F1", "name": "Provide thrust" },
+ *   { "kind": "function", "id": "F1.1", "name": "Control motors", "parent": "F1" },
+ *   { "kind": "logicalConstituent", "id": "C1", "name": "Propulsion" },
+ *   { "kind": "allocation", "source": "F1.1", "target": "C1" }
+ * ]
+ * </pre>
+ *
+ * @author ebausson
+ */
+public final class JsonBreakdownReader implements BreakdownReader {
+
+    private static final List<String> COLUMNS = List.of(BreakdownRow.KIND, BreakdownRow.ID, BreakdownRow.NAME, BreakdownRow.PARENT, BreakdownRow.SOURCE, BreakdownRow.TARGET);
+
+    private final JsonParser parser;
+
+    private boolean started;
+
+    public JsonBreakdownReader(InputStream inputStream) throws IOException {
+        this(inputStream, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Create a reader.
+     *
+     * @param inputStream
+     *            the content of the file
+     * @param maxLength
+     *            the maximum number of characters of a value or of a field name
+     * @throws IOException
+     *             if the reader cannot be created
+     */
+    public JsonBreakdownReader(InputStream inputStream, int maxLength) throws IOException {
+        StreamReadConstraints constraints = StreamReadConstraints.builder()
+                .maxStringLength(maxLength)
+                .maxNameLength(maxLength)
+                .maxNumberLength(maxLength)
+                .build();
+        this.parser = JsonFactory.builder().streamReadConstraints(constraints).build().createParser(Objects.requireNonNull(inputStream));
+    }
+
+    @Override
+    public BreakdownRow read() throws IOException {
+        if (!this.started) {
+            if (this.parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("A JSON breakdown must be an array of elements");
+            }
+            this.started = true;
+        }
+        JsonToken token = this.parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            return null;
+        }
+        long line = this.parser.currentLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IOException("Expected an element of the breakdown at line " + line);
+        }
+        Map<String, String> values = new HashMap<>();
+        while (this.parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = this.parser.currentName();
+            JsonToken value = this.parser.nextToken();
+            if (value.isScalarValue() && value != JsonToken.VALUE_NULL && COLUMNS.contains(fieldName)) {
+                values.put(fieldName, this.parser.getText());
+            } else {
+                this.parser.skipChildren();
+            }
+        }
+        return BreakdownRow.of(line, values::get);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+}
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.eclipse.syson.easymod.diagram.services.EasyModTraversal;
+import org.eclipse.syson.easymod.diagram.services.SEIMDefinitionRegistry;
+import org.eclipse.syson.easymod.diagram.services.SEIMTypeMatcher;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.services.ElementInitializerSwitch;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureDirectionKind;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.Membership;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.Relationship;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+
+/**
+ * Import the functions, logical constituents, flows and allocations of a breakdown file in a package.
+ * <p>
+ * The rows are read from a {@link BreakdownReader} and processed by batches. The SEIM definitions are resolved once
+ * per batch, and the elements created by a batch are added to their container at the end of the batch, so that the
+ * model is notified once per container and per batch instead of once per element. Only the elements referenced by
+ * the next rows are kept by the importer, the file itself is never loaded in memory.
+ * </p>
+ * <p>
+ * Invalid rows (unknown kind, missing or duplicate identifier, unknown reference...) are ignored and reported in the
+ * {@link BreakdownImportReport}. Flows create a port on each of their ends, like the tools of the diagrams.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class SEIMBreakdownImporter {
+
+    /**
+     * The default number of rows of a batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The maximum number of errors described by a report.
+     */
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final int batchSize;
+
+    public SEIMBreakdownImporter() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    public SEIMBreakdownImporter(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The size of the batches must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import the rows of the given reader in the given namespace.
+     *
+     * @param reader
+     *            the reader of the breakdown file
+     * @param namespace
+     *            the namespace containing the new root functions and logical constituents, flows and allocations,
+     *            usually a package
+     * @param progressListener
+     *            notified after each batch
+     * @return the report of the import
+     * @throws IOException
+     *             if the file cannot be read or is malformed, the rows of the previous batches are kept
+     */
+    public BreakdownImportReport importBreakdown(BreakdownReader reader, Namespace namespace, Consumer<BreakdownImportProgress> progressListener) throws IOException {
+        ImportSession session = new ImportSession(Objects.requireNonNull(namespace), Objects.requireNonNull(progressListener));
+        List<BreakdownRow> batch = new ArrayList<>(this.batchSize);
+        BreakdownRow row = reader.read();
+        while (row != null) {
+            batch.add(row);
+            if (batch.size() == this.batchSize) {
+                session.importBatch(batch);
+                batch.clear();
+            }
+            row = reader.read();
+        }
+        if (!batch.isEmpty()) {
+            session.importBatch(batch);
+        }
+        return session.getReport();
+    }
+
+    /**
+     * The state of an import: the elements created so far, indexed by their key, and the counters of the report.
+     *
+     * @author ebausson
+     */
+    private static final class ImportSession {
+
+        private final SysmlFactory factory = SysmlFactory.eINSTANCE;
+
+        private final ElementInitializerSwitch elementInitializerSwitch = new ElementInitializerSwitch();
+
+        private final Namespace namespace;
+
+        private final Consumer<BreakdownImportProgress> progressListener;
+
+        private final Map<String, Usage> functions = new HashMap<>();
+
+        private final Map<String, Usage> logicalConstituents = new HashMap<>();
+
+        private final Map<Namespace, List<Relationship>> pendingMemberships = new LinkedHashMap<>();
+
+        private final List<String> errors = new ArrayList<>();
+
+        private Map<String, Usage> existingFunctions;
+
+        private Map<String, Usage> existingLogicalConstituents;
+
+        private long rowCount;
+
+        private long functionCount;
+
+        private long logicalConstituentCount;
+
+        private long functionalFlowCount;
+
+        private long logicalFlowCount;
+
+        private long allocationCount;
+
+        private long rejectedRowCount;
+
+        ImportSession(Namespace namespace, Consumer<BreakdownImportProgress> progressListener) {
+            this.namespace = namespace;
+            this.progressListener = progressListener;
+        }
+
+        void importBatch(List<BreakdownRow> rows) {
+            SEIMDefinitionRegistry registry = SEIMDefinitionRegistry.getOrCreate(this.namespace);
+            Map<BreakdownElementKind, Type> definitions = new HashMap<>();
+            registry.getDefinition(EasyModConstants.FUNCTION_QUALIFIED_NAME, Type.class).ifPresent(type -> definitions.put(BreakdownElementKind.FUNCTION, type));
+            registry.getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_QUALIFIED_NAME, Type.class).ifPresent(type -> definitions.put(BreakdownElementKind.LOGICAL_CONSTITUENT, type));
+            registry.getDefinition(EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME, Type.class).ifPresent(type -> definitions.put(BreakdownElementKind.FUNCTIONAL_FLOW, type));
+            registry.getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME, Type.class).ifPresent(type -> definitions.put(BreakdownElementKind.LOGICAL_FLOW, type));
+            registry.getDefinition(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME, Type.class).ifPresent(type -> definitions.put(BreakdownElementKind.ALLOCATION, type));
+            Type functionPortDefinition = registry.getDefinition(EasyModConstants.FUNCTION_PORT_QUALIFIED_NAME, Type.class).orElse(null);
+            Type constituentPortDefinition = registry.getDefinition(EasyModConstants.LOGICAL_CONSTITUENT_PORT_QUALIFIED_NAME, Type.class).orElse(null);
+
+            for (BreakdownRow row : rows) {
+                this.rowCount++;
+                try {
+                    BreakdownElementKind kind = BreakdownElementKind.fromLabel(row.kind())
+                            .orElseThrow(() -> new IllegalArgumentException("unknown kind \"" + row.kind() + "\""));
+                    Type definition = definitions.get(kind);
+                    if (definition == null) {
+                        throw new IllegalArgumentException("the SEIM library does not define the " + kind + " elements");
+                    }
+                    switch (kind) {
+                        case FUNCTION -> this.importNode(row, this.factory.createActionUsage(), definition, this.functions, this::getExistingFunctions);
+                        case LOGICAL_CONSTITUENT -> this.importNode(row, this.factory.createPartUsage(), definition, this.logicalConstituents, this::getExistingLogicalConstituents);
+                        case FUNCTIONAL_FLOW -> this.importFlow(row, definition, functionPortDefinition, this.functions, this::getExistingFunctions);
+                        case LOGICAL_FLOW -> this.importFlow(row, definition, constituentPortDefinition, this.logicalConstituents, this::getExistingLogicalConstituents);
+                        case ALLOCATION -> this.importAllocation(row, definition);
+                        default -> throw new IllegalArgumentException("unsupported kind " + kind);
+                    }
+                    this.count(kind);
+                } catch (IllegalArgumentException exception) {
+                    this.reject(row, exception.getMessage());
+                }
+            }
+            this.attachPendingMemberships();
+            this.progressListener.accept(new BreakdownImportProgress(this.rowCount, this.getCreatedElementCount(), this.rejectedRowCount));
+        }
+
+        BreakdownImportReport getReport() {
+            return new BreakdownImportReport(this.rowCount, this.functionCount, this.logicalConstituentCount, this.functionalFlowCount, this.logicalFlowCount, this.allocationCount,
+                    this.rejectedRowCount, List.copyOf(this.errors));
+        }
+
+        private void importNode(BreakdownRow row, Usage usage, Type definition, Map<String, Usage> createdNodes, Supplier<Map<String, Usage>> existingNodes) {
+            String key = row.getKey();
+            if (key == null) {
+                throw new IllegalArgumentException("an id or a name is required");
+            }
+            if (createdNodes.containsKey(key)) {
+                throw new IllegalArgumentException("the id \"" + key + "\" is already used");
+            }
+            Namespace owner = this.namespace;
+            if (row.parent() != null) {
+                owner = this.resolve(row.parent(), createdNodes, existingNodes);
+            }
+            this.elementInitializerSwitch.doSwitch(usage);
+            usage.setDeclaredName(this.getName(row, key));
+            Membership membership;
+            if (owner instanceof Usage) {
+                membership = this.factory.createFeatureMembership();
+            } else {
+                membership = this.factory.createOwningMembership();
+            }
+            membership.getOwnedRelatedElement().add(usage);
+            this.setType(usage, definition);
+            this.attach(owner, membership);
+            createdNodes.put(key, usage);
+        }
+
+        private void importFlow(BreakdownRow row, Type definition, Type portDefinition, Map<String, Usage> createdNodes, Supplier<Map<String, Usage>> existingNodes) {
+            if (portDefinition == null) {
+                throw new IllegalArgumentException("the SEIM library does not define the ports of the flows");
+            }
+            Usage source = this.resolve(this.require(row.source(), BreakdownRow.SOURCE), createdNodes, existingNodes);
+            Usage target = this.resolve(this.require(row.target(), BreakdownRow.TARGET), createdNodes, existingNodes);
+
+            InterfaceUsage interfaceUsage = this.factory.createInterfaceUsage();
+            interfaceUsage.setDeclaredName(this.getName(row, "Flow"));
+            interfaceUsage.getSource().add(this.createPort(source, portDefinition, FeatureDirectionKind.IN));
+            interfaceUsage.getTarget().add(this.createPort(target, portDefinition, FeatureDirectionKind.OUT));
+            this.attachFeature(interfaceUsage, definition);
+        }
+
+        private void importAllocation(BreakdownRow row, Type definition) {
+            Usage function = this.resolve(this.require(row.source(), BreakdownRow.SOURCE), this.functions, this::getExistingFunctions);
+            Usage logicalConstituent = this.resolve(this.require(row.target(), BreakdownRow.TARGET), this.logicalConstituents, this::getExistingLogicalConstituents);
+
+            AllocationUsage allocationUsage = this.factory.createAllocationUsage();
+            allocationUsage.setDeclaredName(this.getName(row, "AllocatedFunction"));
+            allocationUsage.getSource().add(function);
+            allocationUsage.getTarget().add(logicalConstituent);
+            this.attachFeature(allocationUsage, definition);
+        }
+
+        private PortUsage createPort(Usage owner, Type portDefinition, FeatureDirectionKind direction) {
+            PortUsage portUsage = this.factory.createPortUsage();
+            this.elementInitializerSwitch.doSwitch(portUsage);
+            portUsage.setDirection(direction);
+            FeatureMembership featureMembership = this.factory.createFeatureMembership();
+            featureMembership.getOwnedRelatedElement().add(portUsage);
+            this.setType(portUsage, portDefinition);
+            this.attach(owner, featureMembership);
+            return portUsage;
+        }
+
+        private void attachFeature(Usage feature, Type definition) {
+            FeatureMembership featureMembership = this.factory.createFeatureMembership();
+            featureMembership.getOwnedRelatedElement().add(feature);
+            this.setType(feature, definition);
+            this.attach(this.namespace, featureMembership);
+        }
+
+        private void setType(Usage usage, Type definition) {
+            FeatureTyping featureTyping = this.factory.createFeatureTyping();
+            this.elementInitializerSwitch.doSwitch(featureTyping);
+            featureTyping.setType(definition);
+            usage.getOwnedRelationship().add(featureTyping);
+        }
+
+        private void attach(Namespace owner, Relationship membership) {
+            this.pendingMemberships.computeIfAbsent(owner, key -> new ArrayList<>()).add(membership);
+        }
+
+        private void attachPendingMemberships() {
+            this.pendingMemberships.forEach((owner, memberships) -> owner.getOwnedRelationship().addAll(memberships));
+            this.pendingMemberships.clear();
+        }
+
+        private Usage resolve(String key, Map<String, Usage> createdNodes, Supplier<Map<String, Usage>> existingNodes) {
+            Usage node = createdNodes.get(key);
+            if (node == null) {
+                node = existingNodes.get().get(key);
+            }
+            if (node == null) {
+                throw new IllegalArgumentException("unknown element \"" + key + "\"");
+            }
+            return node;
+        }
+
+        private String require(String value, String column) {
+            if (value == null) {
+                throw new IllegalArgumentException("the " + column + " is required");
+            }
+            return value;
+        }
+
+        private String getName(BreakdownRow row, String defaultName) {
+            if (row.name() != null) {
+                return row.name();
+            }
+            return defaultName;
+        }
+
+        private Map<String, Usage> getExistingFunctions() {
+            if (this.existingFunctions == null) {
+                this.indexExistingNodes();
+            }
+            return this.existingFunctions;
+        }
+
+        private Map<String, Usage> getExistingLogicalConstituents() {
+            if (this.existingLogicalConstituents == null) {
+                this.indexExistingNodes();
+            }
+            return this.existingLogicalConstituents;
+        }
+
+        /**
+         * Index the functions and logical constituents of the imported namespace by name, with a single traversal done
+         * the first time a row references an element which has not been imported.
+         */
+        private void indexExistingNodes() {
+            this.existingFunctions = new HashMap<>();
+            this.existingLogicalConstituents = new HashMap<>();
+            EasyModTraversal.of(this.namespace).ofType(Usage.class).forEach(usage -> {
+                if (usage.getDeclaredName() != null) {
+                    if (usage instanceof ActionUsage && SEIMTypeMatcher.isTypedWith(usage, EasyModConstants.FUNCTION_QUALIFIED_NAME)) {
+                        this.existingFunctions.putIfAbsent(usage.getDeclaredName(), usage);
+                    } else if (usage instanceof PartUsage && SEIMTypeMatcher.isTypedWith(usage, EasyModConstants.LOGICAL_CONSTITUENT_QUALIFIED_NAME)) {
+                        this.existingLogicalConstituents.putIfAbsent(usage.getDeclaredName(), usage);
+                    }
+                }
+            });
+        }
+
+        private void count(BreakdownElementKind kind) {
+            switch (kind) {
+                case FUNCTION -> this.functionCount++;
+                case LOGICAL_CONSTITUENT -> this.logicalConstituentCount++;
+                case FUNCTIONAL_FLOW -> this.functionalFlowCount++;
+                case LOGICAL_FLOW -> this.logicalFlowCount++;
+                case ALLOCATION -> this.allocationCount++;
+                default -> {
+                    // Nothing to count
+                }
+            }
+        }
+
+        private long getCreatedElementCount() {
+            return this.functionCount + this.logicalConstituentCount + this.functionalFlowCount + this.logicalFlowCount + this.allocationCount;
+        }
+
+        private void reject(BreakdownRow row, String reason) {
+            this.rejectedRowCount++;
+            if (this.errors.size() < MAX_REPORTED_ERRORS) {
+                this.errors.add("Line " + row.line() + ": " + reason);
+            }
+        }
+    }
+}
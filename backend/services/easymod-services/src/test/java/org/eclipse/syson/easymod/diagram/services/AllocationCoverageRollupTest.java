@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.ConnectionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PartUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regression tests of {@link AllocationCoverageRollup} on generated SEIM models: the coverage maintained by the rollup
+ * must be equal to the coverage recomputed by brute force after each change of the model.
+ *
+ * @author ebausson
+ */
+public class AllocationCoverageRollupTest {
+
+    private static final int ELEMENT_COUNT = 2_000;
+
+    private SEIMModelResource model;
+
+    private AllocationCoverageRollup rollup;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = SEIMModelEdits.generate(ELEMENT_COUNT);
+        this.rollup = AllocationCoverageRollup.getOrCreate(this.model.functionalPackage());
+    }
+
+    @Test
+    public void testInitialCoverage() {
+        AllocationCoverage modelCoverage = this.rollup.getModelCoverage();
+
+        assertThat(modelCoverage.functionCount()).isEqualTo(this.model.functions().size());
+        assertThat(modelCoverage.allocatedFunctionCount()).isPositive().isLessThan(modelCoverage.functionCount());
+        this.assertSameCoverage();
+    }
+
+    @Test
+    public void testAllocationsAddedRemovedAndRetargeted() {
+        this.rollup.getModelCoverage();
+        List<AllocationUsage> allocations = SEIMModelEdits.getAllocations(this.model);
+        List<ActionUsage> functions = this.model.functions();
+        List<PartUsage> constituents = this.model.logicalConstituents();
+
+        SEIMModelEdits.remove(allocations.get(0));
+        this.assertSameCoverage();
+
+        allocations.get(1).getTarget().set(0, constituents.get(constituents.size() - 1));
+        this.assertSameCoverage();
+
+        allocations.get(2).getSource().set(0, functions.get(functions.size() - 1));
+        this.assertSameCoverage();
+
+        for (int i = 0; i < functions.size(); i += 11) {
+            SEIMModelEdits.allocate(this.model.logicalPackage(), functions.get(i), constituents.get(i % constituents.size()));
+        }
+        this.assertSameCoverage();
+
+        // A second allocation of the same function on the same constituent
+        SEIMModelEdits.allocate(this.model.logicalPackage(), functions.get(0), constituents.get(0));
+        this.assertSameCoverage();
+
+        // An allocation with two targets is ignored
+        allocations.get(3).getTarget().add(constituents.get(0));
+        this.assertSameCoverage();
+
+        for (int i = 4; i < allocations.size(); i += 2) {
+            SEIMModelEdits.remove(allocations.get(i));
+        }
+        this.assertSameCoverage();
+    }
+
+    @Test
+    public void testBreakdownChanges() {
+        this.rollup.getModelCoverage();
+        List<ActionUsage> functions = this.model.functions();
+        List<PartUsage> constituents = this.model.logicalConstituents();
+
+        ActionUsage newFunction = SEIMModelEdits.addFunction(functions.get(0), "New function");
+        SEIMModelEdits.allocate(this.model.logicalPackage(), newFunction, constituents.get(0));
+        this.assertSameCoverage();
+
+        SEIMModelEdits.move(functions.get(1), functions.get(0));
+        this.assertSameCoverage();
+
+        SEIMModelEdits.move(constituents.get(constituents.size() - 1), constituents.get(0));
+        this.assertSameCoverage();
+
+        SEIMModelEdits.remove(functions.get(2));
+        this.assertSameCoverage();
+
+        SEIMModelEdits.remove(constituents.get(1));
+        this.assertSameCoverage();
+
+        // An allocation on a function which is not part of the model anymore
+        SEIMModelEdits.allocate(this.model.logicalPackage(), functions.get(2), constituents.get(0));
+        this.assertSameCoverage();
+    }
+
+    private void assertSameCoverage() {
+        Resource resource = this.model.resource();
+        List<ActionUsage> functions = new ArrayList<>();
+        List<PartUsage> constituents = new ArrayList<>();
+        resource.getAllContents().forEachRemaining(content -> {
+            if (content instanceof ActionUsage function) {
+                functions.add(function);
+            } else if (content instanceof PartUsage constituent && !(content instanceof ConnectionUsage)) {
+                constituents.add(constituent);
+            }
+        });
+        List<AllocationUsage> singleAllocations = SEIMModelEdits.getAll(resource.getResourceSet(), AllocationUsage.class).stream()
+                .filter(EasyModModelIndex::isSingleAllocation)
+                .filter(allocation -> allocation.getSource().get(0) instanceof ActionUsage)
+                .toList();
+
+        long allocatedFunctionCount = functions.stream().filter(function -> this.isAllocated(function, singleAllocations)).count();
+        assertThat(this.rollup.getModelCoverage()).isEqualTo(new AllocationCoverage(functions.size(), (int) allocatedFunctionCount));
+
+        for (ActionUsage function : functions) {
+            List<ActionUsage> subtree = this.getSubtree(function, ActionUsage.class);
+            long allocatedCount = subtree.stream().filter(subFunction -> this.isAllocated(subFunction, singleAllocations)).count();
+            assertThat(this.rollup.getFunctionCoverage(function)).as("coverage of %s", function.getDeclaredName())
+                    .isEqualTo(new AllocationCoverage(subtree.size(), (int) allocatedCount));
+        }
+        for (PartUsage constituent : constituents) {
+            List<PartUsage> subtree = this.getSubtree(constituent, PartUsage.class).stream().filter(part -> !(part instanceof ConnectionUsage)).toList();
+            long allocationCount = singleAllocations.stream().filter(allocation -> subtree.contains(allocation.getTarget().get(0))).count();
+            assertThat(this.rollup.getConstituentCoverage(constituent)).as("coverage of %s", constituent.getDeclaredName())
+                    .isEqualTo(new AllocationCoverage(functions.size(), (int) allocationCount));
+        }
+    }
+
+    private boolean isAllocated(ActionUsage function, List<AllocationUsage> singleAllocations) {
+        return singleAllocations.stream().anyMatch(allocation -> allocation.getSource().get(0) == function);
+    }
+
+    private <T extends Element> List<T> getSubtree(T root, Class<T> type) {
+        List<T> subtree = new ArrayList<>();
+        subtree.add(root);
+        root.eAllContents().forEachRemaining(content -> {
+            if (type.isInstance(content)) {
+                subtree.add(type.cast(content));
+            }
+        });
+        return subtree;
+    }
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Definition;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of {@link EasyModChangeClassifier} on generated SEIM models.
+ *
+ * @author ebausson
+ */
+public class EasyModChangeClassifierTest {
+
+    private static final Set<EasyModChangeScope> NONE = EnumSet.noneOf(EasyModChangeScope.class);
+
+    private static final Set<EasyModChangeScope> FUNCTIONAL = EnumSet.of(EasyModChangeScope.FUNCTIONAL);
+
+    private static final Set<EasyModChangeScope> LOGICAL = EnumSet.of(EasyModChangeScope.LOGICAL);
+
+    private static final Set<EasyModChangeScope> ALL = EnumSet.allOf(EasyModChangeScope.class);
+
+    private final EasyModChangeClassifier classifier = new EasyModChangeClassifier();
+
+    private SEIMModelResource model;
+
+    private IEMFEditingContext editingContext;
+
+    private EasyModModelIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = SEIMModelEdits.generate(1_000);
+        ResourceSet resourceSet = this.model.resource().getResourceSet();
+        this.index = EasyModModelIndex.getOrCreate(resourceSet);
+        this.editingContext = mock(IEMFEditingContext.class, RETURNS_DEEP_STUBS);
+        when(this.editingContext.getId()).thenReturn("editingContextId");
+        when(this.editingContext.getDomain().getResourceSet()).thenReturn(resourceSet);
+    }
+
+    @Test
+    public void testChangeOfAnUnallocatedFunction() {
+        ActionUsage function = this.getFunction(false);
+
+        assertThat(this.classify(() -> function.setDeclaredName("Renamed"))).isEqualTo(FUNCTIONAL);
+    }
+
+    @Test
+    public void testChangeOfAnAllocatedFunction() {
+        ActionUsage function = this.getFunction(true);
+
+        assertThat(this.classify(() -> function.setDeclaredName("Renamed"))).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testChangeInsideALogicalConstituent() {
+        PartUsage constituent = this.model.logicalConstituents().get(0);
+        PortUsage port = SEIMModelEdits.getAll(this.model.resource().getResourceSet(), PortUsage.class).stream()
+                .filter(candidate -> candidate.getOwner() == constituent)
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(this.classify(() -> port.setDeclaredName("Renamed"))).isEqualTo(LOGICAL);
+    }
+
+    @Test
+    public void testChangeOfAPackage() {
+        assertThat(this.classify(() -> this.model.functionalPackage().setDeclaredName("Renamed"))).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testChangeOfADefinition() {
+        Type functionDefinition = SEIMModelEdits.getDefinition(this.model.functionalPackage(), EasyModConstants.FUNCTION_QUALIFIED_NAME);
+        assertThat(functionDefinition).isInstanceOf(Definition.class);
+
+        assertThat(this.classify(() -> functionDefinition.setDeclaredName("Renamed"))).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testOtherElementAddedToAPackage() {
+        OwningMembership membership = SysmlFactory.eINSTANCE.createOwningMembership();
+        membership.getOwnedRelatedElement().add(SysmlFactory.eINSTANCE.createComment());
+
+        assertThat(this.classify(() -> this.model.functionalPackage().getOwnedRelationship().add(membership))).isEqualTo(NONE);
+    }
+
+    @Test
+    public void testFunctionAddedToAPackage() {
+        assertThat(this.classify(() -> SEIMModelEdits.addFunction(this.model.functionalPackage(), "New function"))).isEqualTo(FUNCTIONAL);
+    }
+
+    @Test
+    public void testChangesOfAllocationsAndFlows() {
+        List<AllocationUsage> allocations = SEIMModelEdits.getAllocations(this.model);
+        List<InterfaceUsage> flows = SEIMModelEdits.getFlows(this.model);
+
+        assertThat(this.classify(() -> SEIMModelEdits.remove(allocations.get(0)))).isEqualTo(ALL);
+        assertThat(this.classify(() -> SEIMModelEdits.allocate(this.model.logicalPackage(), this.getFunction(false), this.model.logicalConstituents().get(0)))).isEqualTo(ALL);
+        assertThat(this.classify(() -> flows.get(0).setDeclaredName("Renamed"))).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testChangesBeforeTheInputAreIgnored() {
+        this.getFunction(true).setDeclaredName("Renamed before");
+
+        assertThat(this.classify(() -> this.getFunction(false).setDeclaredName("Renamed"))).isEqualTo(FUNCTIONAL);
+    }
+
+    @Test
+    public void testTooManyChangesImpactEverything() {
+        List<Element> elements = SEIMModelEdits.getAll(this.model.resource().getResourceSet(), Element.class);
+        assertThat(elements).hasSizeGreaterThan(EasyModModelIndex.MAX_JOURNAL_SIZE);
+
+        assertThat(this.classify(() -> elements.forEach(element -> element.setDeclaredName("Renamed")))).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testUnknownInputImpactsEverything() {
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, "editingContextId", mock(IInput.class));
+
+        assertThat(this.classifier.getImpactedScopes(changeDescription)).isEqualTo(ALL);
+    }
+
+    @Test
+    public void testClassificationIsSharedByTheRepresentations() {
+        IInput input = mock(IInput.class);
+        this.classifier.preProcess(this.editingContext, input, Sinks.many().unicast().onBackpressureBuffer());
+        this.getFunction(false).setDeclaredName("Renamed");
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, "editingContextId", input);
+
+        Set<EasyModChangeScope> scopes = this.classifier.getImpactedScopes(changeDescription);
+
+        assertThat(scopes).isEqualTo(FUNCTIONAL);
+        assertThat(this.classifier.getImpactedScopes(changeDescription)).isSameAs(scopes);
+    }
+
+    private Set<EasyModChangeScope> classify(Runnable change) {
+        IInput input = mock(IInput.class);
+        this.classifier.preProcess(this.editingContext, input, Sinks.many().unicast().onBackpressureBuffer());
+        change.run();
+        return this.classifier.getImpactedScopes(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, "editingContextId", input));
+    }
+
+    private ActionUsage getFunction(boolean isAllocated) {
+        return this.model.functions().stream()
+                .filter(function -> this.index.getAllocationsFrom(function).isEmpty() != isAllocated)
+                .findFirst()
+                .orElseThrow();
+    }
+}
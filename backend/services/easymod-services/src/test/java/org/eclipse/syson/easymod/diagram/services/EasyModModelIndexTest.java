@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regression tests of {@link EasyModModelIndex} on generated SEIM models: the index updated incrementally and the
+ * index built in parallel must have the same entries as an index built from scratch on the same models.
+ *
+ * @author ebausson
+ */
+public class EasyModModelIndexTest {
+
+    private static final int ELEMENT_COUNT = 2_000;
+
+    @Test
+    public void testIncrementalIndexEqualsRebuiltIndex() {
+        SEIMModelResource model = SEIMModelEdits.generate(ELEMENT_COUNT);
+        ResourceSet resourceSet = model.resource().getResourceSet();
+        EasyModModelIndex incrementalIndex = EasyModModelIndex.getOrCreate(resourceSet);
+        assertThat(incrementalIndex.getElementsOfKind(SEIMKind.ALLOCATED_FUNCTION)).isNotEmpty();
+
+        Set<EObject> removedElements = this.edit(model);
+
+        this.assertSameEntries(this.rebuild(resourceSet), incrementalIndex, resourceSet, removedElements);
+    }
+
+    @Test
+    public void testParallelBuildEqualsSequentialBuild() {
+        for (int parallelism : List.of(1, 3, 8)) {
+            SEIMModelResource model = SEIMModelEdits.generate(ELEMENT_COUNT);
+            ResourceSet resourceSet = model.resource().getResourceSet();
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                EasyModModelIndex parallelIndex = EasyModModelIndex.build(resourceSet, pool);
+
+                assertThat(EasyModModelIndex.getOrCreate(resourceSet)).isSameAs(parallelIndex);
+                this.assertSameEntries(this.rebuild(resourceSet), parallelIndex, resourceSet, Set.of());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    public void testParallelBuildIsUpdatedIncrementally() {
+        SEIMModelResource model = SEIMModelEdits.generate(ELEMENT_COUNT);
+        ResourceSet resourceSet = model.resource().getResourceSet();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            EasyModModelIndex parallelIndex = EasyModModelIndex.build(resourceSet, pool);
+
+            Set<EObject> removedElements = this.edit(model);
+
+            this.assertSameEntries(this.rebuild(resourceSet), parallelIndex, resourceSet, removedElements);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDerivedValuesAreDroppedOnChange() {
+        SEIMModelResource model = SEIMModelEdits.generate(100);
+        EasyModModelIndex index = EasyModModelIndex.getOrCreate(model.functionalPackage());
+        Object value = index.getDerivedValue("key", Object::new);
+
+        assertThat(index.getDerivedValue("key", Object::new)).isSameAs(value);
+        model.functions().get(0).setDeclaredName("Renamed");
+        assertThat(index.getDerivedValue("key", Object::new)).isNotSameAs(value);
+    }
+
+    /**
+     * Edit the model like a user would, and return the elements removed from it.
+     */
+    private Set<EObject> edit(SEIMModelResource model) {
+        Set<EObject> removedElements = new LinkedHashSet<>();
+        List<AllocationUsage> allocations = SEIMModelEdits.getAllocations(model);
+        List<PartUsage> constituents = model.logicalConstituents();
+
+        // Remove or retarget some allocations
+        for (int i = 0; i < allocations.size(); i++) {
+            AllocationUsage allocation = allocations.get(i);
+            if (i % 3 == 0) {
+                SEIMModelEdits.remove(allocation);
+                removedElements.add(allocation);
+            } else if (i % 5 == 0) {
+                allocation.getTarget().set(0, constituents.get(i % constituents.size()));
+            }
+        }
+
+        // Allocate some functions again, and add new allocated functions
+        List<ActionUsage> functions = model.functions();
+        for (int i = 0; i < functions.size(); i += 7) {
+            SEIMModelEdits.allocate(model.logicalPackage(), functions.get(i), constituents.get(constituents.size() - 1 - i % constituents.size()));
+        }
+        ActionUsage newFunction = SEIMModelEdits.addFunction(functions.get(1), "New function");
+        SEIMModelEdits.allocate(model.logicalPackage(), newFunction, constituents.get(0));
+
+        // Move a function subtree, remove a logical constituent subtree and the typing of a function
+        SEIMModelEdits.move(functions.get(1), functions.get(0));
+        PartUsage removedConstituent = constituents.get(1);
+        removedElements.add(removedConstituent);
+        removedConstituent.eAllContents().forEachRemaining(removedElements::add);
+        SEIMModelEdits.remove(removedConstituent);
+        SEIMModelEdits.removeTyping(functions.get(3));
+
+        // Retarget a flow and remove another one
+        List<InterfaceUsage> flows = SEIMModelEdits.getFlows(model);
+        List<PortUsage> ports = SEIMModelEdits.getAll(model.resource().getResourceSet(), PortUsage.class);
+        flows.get(0).getTarget().set(0, ports.get(ports.size() - 1));
+        SEIMModelEdits.remove(flows.get(1));
+        removedElements.add(flows.get(1));
+        return removedElements;
+    }
+
+    private EasyModModelIndex rebuild(ResourceSet resourceSet) {
+        // A second index attached to the same resource set is built from scratch on the current state of the models
+        EasyModModelIndex index = new EasyModModelIndex();
+        resourceSet.eAdapters().add(index);
+        return index;
+    }
+
+    private void assertSameEntries(EasyModModelIndex expected, EasyModModelIndex actual, ResourceSet resourceSet, Set<EObject> removedElements) {
+        List<EObject> elements = new ArrayList<>();
+        resourceSet.getAllContents().forEachRemaining(content -> {
+            if (content instanceof EObject eObject) {
+                elements.add(eObject);
+            }
+        });
+        elements.addAll(removedElements);
+
+        for (SEIMKind kind : SEIMKind.values()) {
+            assertThat(actual.getElementsOfKind(kind)).as("elements of kind %s", kind).containsExactlyInAnyOrderElementsOf(expected.getElementsOfKind(kind));
+        }
+        for (EObject eObject : elements) {
+            if (eObject instanceof Element element) {
+                assertThat(actual.getKind(element)).as("kind of %s", element).isEqualTo(expected.getKind(element));
+                assertThat(actual.getAllocationsFrom(element)).as("allocations from %s", element).containsExactlyInAnyOrderElementsOf(expected.getAllocationsFrom(element));
+                assertThat(actual.getAllocationsTo(element)).as("allocations to %s", element).containsExactlyInAnyOrderElementsOf(expected.getAllocationsTo(element));
+                assertThat(actual.getAllocatedElements(element)).as("elements allocated on %s", element).containsExactlyInAnyOrderElementsOf(expected.getAllocatedElements(element));
+                assertThat(actual.getInterfacesOn(element)).as("flows on %s", element).containsExactlyInAnyOrderElementsOf(expected.getInterfacesOn(element));
+            }
+            if (eObject instanceof PortUsage port) {
+                assertThat(actual.getPortOwner(port)).as("owner of %s", port).isEqualTo(expected.getPortOwner(port));
+            }
+        }
+    }
+}
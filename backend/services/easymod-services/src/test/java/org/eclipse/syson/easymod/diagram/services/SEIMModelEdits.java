@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+
+/**
+ * Edits of the generated SEIM models used by the regression tests of the indexes, done like the tools of the diagrams:
+ * the elements are added to the model first, then their ends are set.
+ *
+ * @author ebausson
+ */
+final class SEIMModelEdits {
+
+    private static final SysmlFactory FACTORY = SysmlFactory.eINSTANCE;
+
+    private SEIMModelEdits() {
+        // Prevent instantiation
+    }
+
+    static SEIMModelResource generate(int elementCount) {
+        return new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(elementCount)), new ResourceSetImpl());
+    }
+
+    static Type getDefinition(EObject element, String qualifiedName) {
+        return SEIMDefinitionRegistry.getOrCreate(element).getDefinition(qualifiedName, Type.class).orElseThrow();
+    }
+
+    static ActionUsage addFunction(Namespace owner, String name) {
+        ActionUsage function = FACTORY.createActionUsage();
+        function.setDeclaredName(name);
+        addOwnedFeature(owner, function, getDefinition(owner, EasyModConstants.FUNCTION_QUALIFIED_NAME));
+        return function;
+    }
+
+    static AllocationUsage allocate(Namespace owner, ActionUsage function, PartUsage logicalConstituent) {
+        AllocationUsage allocation = FACTORY.createAllocationUsage();
+        allocation.setDeclaredName("allocation of " + function.getDeclaredName());
+        addOwnedFeature(owner, allocation, getDefinition(owner, EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME));
+        allocation.getSource().add(function);
+        allocation.getTarget().add(logicalConstituent);
+        return allocation;
+    }
+
+    static void move(Element element, Namespace newOwner) {
+        newOwner.getOwnedRelationship().add(element.getOwningRelationship());
+    }
+
+    static void remove(Element element) {
+        EcoreUtil.remove(element.getOwningRelationship());
+    }
+
+    static void removeTyping(Usage usage) {
+        usage.getOwnedRelationship().removeIf(FeatureTyping.class::isInstance);
+    }
+
+    static <T extends EObject> List<T> getAll(ResourceSet resourceSet, Class<T> type) {
+        List<T> elements = new ArrayList<>();
+        resourceSet.getAllContents().forEachRemaining(content -> {
+            if (type.isInstance(content)) {
+                elements.add(type.cast(content));
+            }
+        });
+        return elements;
+    }
+
+    static List<AllocationUsage> getAllocations(SEIMModelResource model) {
+        return getAll(model.resource().getResourceSet(), AllocationUsage.class);
+    }
+
+    static List<InterfaceUsage> getFlows(SEIMModelResource model) {
+        return getAll(model.resource().getResourceSet(), InterfaceUsage.class);
+    }
+
+    private static void addOwnedFeature(Namespace owner, Usage feature, Type definition) {
+        FeatureMembership featureMembership = FACTORY.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(feature);
+        FeatureTyping featureTyping = FACTORY.createFeatureTyping();
+        featureTyping.setType(definition);
+        feature.getOwnedRelationship().add(featureTyping);
+    }
+}
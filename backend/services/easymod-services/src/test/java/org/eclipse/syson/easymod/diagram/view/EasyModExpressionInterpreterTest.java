@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.Result;
+import org.eclipse.sirius.components.interpreter.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EasyModExpressionInterpreter}.
+ *
+ * @author ebausson
+ */
+public class EasyModExpressionInterpreterTest {
+
+    private static final String NAME_EXPRESSION = EasyModJavaExpressions.register("test.interpreter.name", EasyModJavaExpression.ofSelf(ENamedElement.class, ENamedElement::getName));
+
+    private static final String UPPER_CASE_NAME_EXPRESSION = EasyModJavaExpressions.register("test.interpreter.upperCaseName",
+            EasyModJavaExpression.ofService(NameService.class, ENamedElement.class, (service, self, context) -> service.toUpperCase(self)));
+
+    private static final String FAILING_EXPRESSION = EasyModJavaExpressions.register("test.interpreter.failing", EasyModJavaExpression.ofSelf(EClass.class, eClass -> {
+        throw new IllegalStateException("failure");
+    }));
+
+    private final AtomicInteger createdServiceCount = new AtomicInteger();
+
+    private EasyModExpressionInterpreter interpreter;
+
+    @BeforeEach
+    public void setUp() {
+        AQLInterpreter aqlInterpreter = new AQLInterpreter(List.of(), List.of(), List.of(EcorePackage.eINSTANCE));
+        this.interpreter = new EasyModExpressionInterpreter(aqlInterpreter, serviceType -> {
+            this.createdServiceCount.incrementAndGet();
+            return new NameService();
+        });
+    }
+
+    @Test
+    public void testJavaExpressionEvaluatesAsAQLExpression() {
+        Map<String, Object> variables = this.variables(EcorePackage.Literals.ECLASS);
+
+        Result javaResult = this.interpreter.evaluateExpression(variables, NAME_EXPRESSION);
+        Result aqlResult = this.interpreter.evaluateExpression(variables, "aql:self.name");
+
+        assertThat(javaResult.getStatus()).isEqualTo(Status.OK);
+        assertThat(aqlResult.getStatus()).isEqualTo(Status.OK);
+        assertThat(javaResult.asString()).isEqualTo(aqlResult.asString()).contains("EClass");
+    }
+
+    @Test
+    public void testJavaExpressionWithSelfOfAnotherType() {
+        Result result = this.interpreter.evaluateExpression(this.variables("not an element"), NAME_EXPRESSION);
+
+        assertThat(result.getStatus()).isEqualTo(Status.OK);
+        assertThat(result.asObject()).isEmpty();
+    }
+
+    @Test
+    public void testServicesAreCreatedOncePerInterpreter() {
+        assertThat(this.interpreter.evaluateExpression(this.variables(EcorePackage.Literals.ECLASS), UPPER_CASE_NAME_EXPRESSION).asString()).contains("ECLASS");
+        assertThat(this.interpreter.evaluateExpression(this.variables(EcorePackage.Literals.EPACKAGE), UPPER_CASE_NAME_EXPRESSION).asString()).contains("EPACKAGE");
+
+        assertThat(this.createdServiceCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void testUnknownJavaExpression() {
+        Result result = this.interpreter.evaluateExpression(this.variables(EcorePackage.Literals.ECLASS), EasyModJavaExpressions.PREFIX + "test.interpreter.unknown");
+
+        assertThat(result.getStatus()).isEqualTo(Status.ERROR);
+    }
+
+    @Test
+    public void testFailingJavaExpression() {
+        Result result = this.interpreter.evaluateExpression(this.variables(EcorePackage.Literals.ECLASS), FAILING_EXPRESSION);
+
+        assertThat(result.getStatus()).isEqualTo(Status.ERROR);
+    }
+
+    private Map<String, Object> variables(Object self) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put(EasyModExpressionContext.SELF, self);
+        return variables;
+    }
+
+    /**
+     * Service called by the java expressions of the tests.
+     *
+     * @author ebausson
+     */
+    public static class NameService {
+        public String toUpperCase(ENamedElement element) {
+            return element.getName().toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link EasyModExpressionModes}.
+ *
+ * @author ebausson
+ */
+public class EasyModExpressionModesTest {
+
+    @Test
+    public void testDefaultMode() {
+        EasyModExpressionModes modes = EasyModExpressionModes.parse("java", "");
+
+        assertThat(modes.get("fbs.Function")).isEqualTo(EasyModExpressionMode.JAVA);
+        assertThat(EasyModExpressionModes.parse(null, null).get("fbs.Function")).isEqualTo(EasyModExpressionMode.AQL);
+        assertThat(EasyModExpressionModes.parse("unknown", null).get("fbs.Function")).isEqualTo(EasyModExpressionMode.AQL);
+    }
+
+    @Test
+    public void testModeOfEachDescription() {
+        EasyModExpressionModes modes = EasyModExpressionModes.parse("aql", " fbs.Function = JAVA, pbs.LogicalFlow=java,,fbs.FunctionPort=aql ");
+
+        assertThat(modes.get("fbs.Function")).isEqualTo(EasyModExpressionMode.JAVA);
+        assertThat(modes.get("pbs.LogicalFlow")).isEqualTo(EasyModExpressionMode.JAVA);
+        assertThat(modes.get("fbs.FunctionPort")).isEqualTo(EasyModExpressionMode.AQL);
+        assertThat(modes.get("pbs.Function")).isEqualTo(EasyModExpressionMode.AQL);
+    }
+
+    @Test
+    public void testDescriptionModeOverridesDefaultMode() {
+        EasyModExpressionModes modes = EasyModExpressionModes.parse("java", "pbs.LogicalFlow=aql");
+
+        assertThat(modes.get("pbs.LogicalFlow")).isEqualTo(EasyModExpressionMode.AQL);
+        assertThat(modes.get("pbs.LogicalConstituent")).isEqualTo(EasyModExpressionMode.JAVA);
+    }
+
+    @Test
+    public void testInvalidEntry() {
+        assertThatIllegalArgumentException().isThrownBy(() -> EasyModExpressionModes.parse("aql", "fbs.Function"));
+        assertThatIllegalArgumentException().isThrownBy(() -> EasyModExpressionModes.parse("aql", "=java"));
+    }
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.sirius.components.view.emf.IViewAQLInterpreterFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * Tests of {@link EasyModViewAQLInterpreterFactory}.
+ *
+ * @author ebausson
+ */
+public class EasyModViewAQLInterpreterFactoryTest {
+
+    private final AQLInterpreter defaultInterpreter = new AQLInterpreter(List.of(), List.of(), List.of());
+
+    private final EasyModViewAQLInterpreterFactory factory = new EasyModViewAQLInterpreterFactory(List.of(new IViewAQLInterpreterFactory() {
+        @Override
+        public AQLInterpreter createInterpreter(View view, IEditingContext editingContext) {
+            return EasyModViewAQLInterpreterFactoryTest.this.defaultInterpreter;
+        }
+    }), new DefaultListableBeanFactory());
+
+    @Test
+    public void testViewWithoutJavaExpressionKeepsDefaultInterpreter() {
+        View view = this.createView("aql:self.ownedElement");
+
+        assertThat(this.factory.createInterpreter(view, null)).isSameAs(this.defaultInterpreter);
+    }
+
+    @Test
+    public void testViewWithJavaExpressionIsWrapped() {
+        View view = this.createView(EasyModExpressions.NESTED_PORTS);
+
+        assertThat(this.factory.createInterpreter(view, null)).isInstanceOf(EasyModExpressionInterpreter.class);
+    }
+
+    @Test
+    public void testEmptyView() {
+        assertThat(this.factory.createInterpreter(ViewFactory.eINSTANCE.createView(), null)).isSameAs(this.defaultInterpreter);
+    }
+
+    private View createView(String semanticCandidatesExpression) {
+        NodeDescription nodeDescription = DiagramFactory.eINSTANCE.createNodeDescription();
+        nodeDescription.setName("Node");
+        nodeDescription.setSemanticCandidatesExpression(semanticCandidatesExpression);
+        DiagramDescription diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        diagramDescription.setName("Diagram");
+        diagramDescription.getNodeDescriptions().add(nodeDescription);
+        View view = ViewFactory.eINSTANCE.createView();
+        view.getDescriptions().add(diagramDescription);
+        return view;
+    }
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link ColumnarAllocationTableWriter}: the files are decoded following the documented format and compared
+ * with the rows given to the writer.
+ *
+ * @author ebausson
+ */
+public class ColumnarAllocationTableWriterTest {
+
+    @Test
+    public void testExportOfAGeneratedModel() throws IOException {
+        SEIMModelResource model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(2_000)), new ResourceSetImpl());
+        List<AllocationExportTable> tables = List.of(AllocationExportTable.ALLOCATIONS, AllocationExportTable.FLOWS);
+
+        RecordingTableWriter expected = new RecordingTableWriter();
+        long rowCount = new AllocationMatrixExporter().export(model.functionalPackage(), tables, expected);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ColumnarAllocationTableWriter writer = new ColumnarAllocationTableWriter(output, 100)) {
+            assertThat(new AllocationMatrixExporter().export(model.functionalPackage(), tables, writer)).isEqualTo(rowCount);
+        }
+
+        assertThat(expected.tables.get(AllocationExportTable.ALLOCATIONS.getTableName())).hasSizeGreaterThan(100);
+        assertThat(expected.tables.get(AllocationExportTable.FLOWS.getTableName())).hasSizeGreaterThan(100);
+        assertThat(this.decode(output.toByteArray())).isEqualTo(expected.tables);
+    }
+
+    @Test
+    public void testValues() throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            rows.add(Arrays.asList("F" + i, "Function " + i, this.getStatus(i), null, "\u00e9l\u00e9ment " + i % 3));
+        }
+        rows.add(Arrays.asList("", "x".repeat(1_000), null, null, null));
+
+        assertThat(this.decode(this.write(AllocationExportTable.ALLOCATIONS, rows, 128))).containsExactly(Map.entry(AllocationExportTable.ALLOCATIONS.getTableName(), rows));
+        assertThat(this.decode(this.write(AllocationExportTable.ALLOCATIONS, rows, ColumnarAllocationTableWriter.DEFAULT_ROW_GROUP_SIZE)))
+                .containsExactly(Map.entry(AllocationExportTable.ALLOCATIONS.getTableName(), rows));
+    }
+
+    @Test
+    public void testRepeatedValuesAreWrittenOnce() throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(List.of("F" + i, "Function " + i, AllocationMatrixExporter.TO_ALLOCATE, "C1", "A product with a long name"));
+        }
+
+        byte[] bytes = this.write(AllocationExportTable.ALLOCATIONS, rows, ColumnarAllocationTableWriter.DEFAULT_ROW_GROUP_SIZE);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8).split("A product with a long name", -1)).hasSize(2);
+    }
+
+    @Test
+    public void testEmptyFiles() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ColumnarAllocationTableWriter(output).close();
+        assertThat(this.decode(output.toByteArray())).isEmpty();
+
+        assertThat(this.decode(this.write(AllocationExportTable.FLOWS, List.of(), 10))).containsExactly(Map.entry(AllocationExportTable.FLOWS.getTableName(), List.of()));
+    }
+
+    @Test
+    public void testInvalidUses() throws IOException {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ColumnarAllocationTableWriter(new ByteArrayOutputStream(), 0));
+        try (ColumnarAllocationTableWriter writer = new ColumnarAllocationTableWriter(new ByteArrayOutputStream())) {
+            assertThatIllegalStateException().isThrownBy(() -> writer.writeRow(List.of("F1", "Function", "", "", "")));
+            writer.startTable(AllocationExportTable.ALLOCATIONS);
+            assertThatIllegalArgumentException().isThrownBy(() -> writer.writeRow(List.of("F1")));
+            assertThatIllegalStateException().isThrownBy(() -> writer.startTable(AllocationExportTable.FLOWS));
+        }
+    }
+
+    private String getStatus(int i) {
+        String status = AllocationMatrixExporter.TO_ALLOCATE;
+        if (i % 2 == 0) {
+            status = AllocationMatrixExporter.ALLOCATED;
+        }
+        return status;
+    }
+
+    private byte[] write(AllocationExportTable table, List<List<String>> rows, int rowGroupSize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ColumnarAllocationTableWriter writer = new ColumnarAllocationTableWriter(output, rowGroupSize)) {
+            writer.startTable(table);
+            for (List<String> row : rows) {
+                writer.writeRow(row);
+            }
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Decode a columnar file, see the documentation of {@link ColumnarAllocationTableWriter}.
+     */
+    private Map<String, List<List<String>>> decode(byte[] bytes) throws IOException {
+        Map<String, List<List<String>>> tables = new LinkedHashMap<>();
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            assertThat(input.readNBytes(ColumnarAllocationTableWriter.MAGIC.length)).isEqualTo(ColumnarAllocationTableWriter.MAGIC);
+            assertThat(input.readUnsignedByte()).isEqualTo(ColumnarAllocationTableWriter.VERSION);
+            int marker = input.readUnsignedByte();
+            while (marker == 1) {
+                String tableName = this.readString(input);
+                int columnCount = this.readVarInt(input);
+                List<String> columns = new ArrayList<>();
+                for (int i = 0; i < columnCount; i++) {
+                    columns.add(this.readString(input));
+                }
+                assertThat(AllocationExportTable.fromName(tableName)).map(AllocationExportTable::getColumns).contains(columns);
+
+                List<List<String>> rows = new ArrayList<>();
+                int rowCount = this.readVarInt(input);
+                while (rowCount > 0) {
+                    rows.addAll(this.readRowGroup(input, rowCount, columnCount));
+                    rowCount = this.readVarInt(input);
+                }
+                tables.put(tableName, rows);
+                marker = input.readUnsignedByte();
+            }
+            assertThat(marker).isZero();
+            assertThat(input.read()).isEqualTo(-1);
+        }
+        return tables;
+    }
+
+    private List<List<String>> readRowGroup(DataInputStream input, int rowCount, int columnCount) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(Arrays.asList(new String[columnCount]));
+        }
+        for (int column = 0; column < columnCount; column++) {
+            int dictionarySize = this.readVarInt(input);
+            List<String> dictionary = new ArrayList<>();
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary.add(this.readString(input));
+            }
+            for (List<String> row : rows) {
+                int index = this.readVarInt(input);
+                if (index > 0) {
+                    row.set(column, dictionary.get(index - 1));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private String readString(DataInputStream input) throws IOException {
+        return new String(input.readNBytes(this.readVarInt(input)), StandardCharsets.UTF_8);
+    }
+
+    private int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int currentByte = input.readUnsignedByte();
+        while ((currentByte & 0x80) != 0) {
+            value = value | (currentByte & 0x7F) << shift;
+            shift += 7;
+            currentByte = input.readUnsignedByte();
+        }
+        return value | currentByte << shift;
+    }
+
+    /**
+     * Keep the rows given to a writer in memory.
+     *
+     * @author ebausson
+     */
+    private static final class RecordingTableWriter implements AllocationTableWriter {
+
+        private final Map<String, List<List<String>>> tables = new LinkedHashMap<>();
+
+        private List<List<String>> currentRows;
+
+        @Override
+        public void startTable(AllocationExportTable table) {
+            this.currentRows = new ArrayList<>();
+            this.tables.put(table.getTableName(), this.currentRows);
+        }
+
+        @Override
+        public void writeRow(List<String> values) {
+            this.currentRows.add(new ArrayList<>(values));
+        }
+
+        @Override
+        public void endTable() {
+            this.currentRows = null;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+    }
+}
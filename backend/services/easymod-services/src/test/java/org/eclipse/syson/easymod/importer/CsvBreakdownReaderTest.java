@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link CsvBreakdownReader}.
+ *
+ * @author ebausson
+ */
+public class CsvBreakdownReaderTest {
+
+    @Test
+    public void testReadRows() throws IOException {
+        List<BreakdownRow> rows = this.readAll("kind,id,name,parent,source,target\n"
+                + "function,F1,Provide thrust,,,\n"
+                + "function,F1.1,Control motors,F1,,\n"
+                + "allocation,,,,F1.1,C1\n");
+
+        assertThat(rows).containsExactly(
+                new BreakdownRow(2, "function", "F1", "Provide thrust", null, null, null),
+                new BreakdownRow(3, "function", "F1.1", "Control motors", "F1", null, null),
+                new BreakdownRow(4, "allocation", null, null, null, "F1.1", "C1"));
+    }
+
+    @Test
+    public void testColumnsInAnyOrderAndUnknownColumns() throws IOException {
+        List<BreakdownRow> rows = this.readAll("Name, comment ,KIND,id\nProvide thrust,ignored,function,F1");
+
+        assertThat(rows).containsExactly(new BreakdownRow(2, "function", "F1", "Provide thrust", null, null, null));
+    }
+
+    @Test
+    public void testQuotedFields() throws IOException {
+        List<BreakdownRow> rows = this.readAll("kind,id,name\n"
+                + "function,F1,\"Provide thrust, lift\"\n"
+                + "function,F2,\"The \"\"main\"\" motor\"\n"
+                + "function,\"F3\",\"\"\n");
+
+        assertThat(rows).extracting(BreakdownRow::name).containsExactly("Provide thrust, lift", "The \"main\" motor", null);
+        assertThat(rows).extracting(BreakdownRow::id).containsExactly("F1", "F2", "F3");
+    }
+
+    @Test
+    public void testLineBreakInQuotedFieldKeepsLineNumbers() throws IOException {
+        List<BreakdownRow> rows = this.readAll("kind,id,name\n"
+                + "function,F1,\"Provide\nthrust\"\n"
+                + "function,F2,Control motors\n");
+
+        assertThat(rows).extracting(BreakdownRow::name).containsExactly("Provide\nthrust", "Control motors");
+        assertThat(rows).extracting(BreakdownRow::line).containsExactly(2L, 4L);
+    }
+
+    @Test
+    public void testCarriageReturnLineFeed() throws IOException {
+        List<BreakdownRow> rows = this.readAll("kind,id,name\r\nfunction,F1,Provide thrust\r\nfunction,F2,\"Control\r\nmotors\"\r\n");
+
+        assertThat(rows).extracting(BreakdownRow::name).containsExactly("Provide thrust", "Control\r\nmotors");
+        assertThat(rows).extracting(BreakdownRow::line).containsExactly(2L, 3L);
+    }
+
+    @Test
+    public void testByteOrderMark() throws IOException {
+        List<BreakdownRow> rows = this.readAll("\uFEFFkind,id\nfunction,F1\n");
+
+        assertThat(rows).containsExactly(new BreakdownRow(2, "function", "F1", null, null, null, null));
+    }
+
+    @Test
+    public void testBlankLinesAreSkipped() throws IOException {
+        List<BreakdownRow> rows = this.readAll("kind,id\n\nfunction,F1\n , \nfunction,F2");
+
+        assertThat(rows).extracting(BreakdownRow::line).containsExactly(3L, 5L);
+    }
+
+    @Test
+    public void testOtherSeparator() throws IOException {
+        List<BreakdownRow> rows = this.readAll(new CsvBreakdownReader(new StringReader("kind;id;name\nfunction;F1;Provide thrust, lift\n"), ';'));
+
+        assertThat(rows).containsExactly(new BreakdownRow(2, "function", "F1", "Provide thrust, lift", null, null, null));
+    }
+
+    @Test
+    public void testMissingHeader() {
+        assertThatIOException().isThrownBy(() -> this.readAll("function,F1,Provide thrust\n"));
+        assertThatIOException().isThrownBy(() -> this.readAll(""));
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        assertThatIOException().isThrownBy(() -> this.readAll("kind,id,name\nfunction,F1,\"Provide thrust\n"))
+                .withMessageContaining("line 2");
+    }
+
+    @Test
+    public void testTooLongRecordFailsBeforeBeingRead() {
+        // An endless quoted field, it must be rejected without reading the whole content
+        Reader endlessField = new Reader() {
+            private boolean started;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                int start = offset;
+                if (!this.started) {
+                    String header = "kind,id,name\nfunction,F1,\"";
+                    header.getChars(0, header.length(), buffer, offset);
+                    start = offset + header.length();
+                    this.started = true;
+                }
+                for (int i = start; i < offset + length; i++) {
+                    buffer[i] = 'a';
+                }
+                return length;
+            }
+
+            @Override
+            public void close() {
+                // Nothing to close
+            }
+        };
+
+        assertThatIOException().isThrownBy(() -> this.readAll(new CsvBreakdownReader(endlessField, ',', 1024)))
+                .withMessageContaining("line 2")
+                .withMessageContaining("1024");
+    }
+
+    @Test
+    public void testRecordOfMaximumLength() throws IOException {
+        String name = "a".repeat(100);
+        List<BreakdownRow> rows = this.readAll(new CsvBreakdownReader(new StringReader("kind,name\nfunction," + name + "\n"), ',', "function,".length() + name.length() + 1));
+
+        assertThat(rows).extracting(BreakdownRow::name).containsExactly(name);
+    }
+
+    private List<BreakdownRow> readAll(String content) throws IOException {
+        return this.readAll(new CsvBreakdownReader(new StringReader(content)));
+    }
+
+    private List<BreakdownRow> readAll(BreakdownReader reader) throws IOException {
+        List<BreakdownRow> rows = new ArrayList<>();
+        try (reader) {
+            BreakdownRow row = reader.read();
+            while (row != null) {
+                rows.add(row);
+                row = reader.read();
+            }
+        }
+        return rows;
+    }
+}
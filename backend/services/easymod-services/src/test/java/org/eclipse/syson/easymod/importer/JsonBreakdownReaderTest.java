@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link JsonBreakdownReader}.
+ *
+ * @author ebausson
+ */
+public class JsonBreakdownReaderTest {
+
+    @Test
+    public void testReadRows() throws IOException {
+        List<BreakdownRow> rows = this.readAll("[\n"
+                + "  { \"kind\": \"function\", \"id\": \"F1\", \"name\": \"Provide thrust\" },\n"
+                + "  { \"kind\": \"function\", \"id\": \"F1.1\", \"name\": \"Control motors\", \"parent\": \"F1\" },\n"
+                + "  { \"kind\": \"allocation\", \"source\": \"F1.1\", \"target\": \"C1\" }\n"
+                + "]");
+
+        assertThat(rows).containsExactly(
+                new BreakdownRow(2, "function", "F1", "Provide thrust", null, null, null),
+                new BreakdownRow(3, "function", "F1.1", "Control motors", "F1", null, null),
+                new BreakdownRow(4, "allocation", null, null, null, "F1.1", "C1"));
+    }
+
+    @Test
+    public void testEscapedCharacters() throws IOException {
+        List<BreakdownRow> rows = this.readAll("[{ \"kind\": \"function\", \"id\": \"F1\", \"name\": \"The \\\"main\\\" motor,\\r\\nleft\" }]");
+
+        assertThat(rows).extracting(BreakdownRow::name).containsExactly("The \"main\" motor,\r\nleft");
+    }
+
+    @Test
+    public void testUnknownAndNullFieldsAreIgnored() throws IOException {
+        List<BreakdownRow> rows = this.readAll("[{ \"kind\": \"function\", \"id\": 12, \"name\": null, \"comment\": \"ignored\",\n"
+                + "   \"tags\": [\"a\", { \"b\": 1 }], \"extra\": { \"name\": \"nested\" } }]");
+
+        assertThat(rows).containsExactly(new BreakdownRow(1, "function", "12", null, null, null, null));
+    }
+
+    @Test
+    public void testByteOrderMark() throws IOException {
+        byte[] bom = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+        byte[] content = "[{ \"kind\": \"function\", \"id\": \"F1\" }]".getBytes(StandardCharsets.UTF_8);
+        byte[] file = new byte[bom.length + content.length];
+        System.arraycopy(bom, 0, file, 0, bom.length);
+        System.arraycopy(content, 0, file, bom.length, content.length);
+
+        List<BreakdownRow> rows = this.readAll(new JsonBreakdownReader(new ByteArrayInputStream(file)));
+
+        assertThat(rows).containsExactly(new BreakdownRow(1, "function", "F1", null, null, null, null));
+    }
+
+    @Test
+    public void testEmptyArray() throws IOException {
+        assertThat(this.readAll("[]")).isEmpty();
+    }
+
+    @Test
+    public void testNotAnArray() {
+        assertThatIOException().isThrownBy(() -> this.readAll("{ \"kind\": \"function\" }"));
+    }
+
+    @Test
+    public void testNotAnElement() {
+        assertThatIOException().isThrownBy(() -> this.readAll("[{ \"kind\": \"function\" },\n\"function\"]"))
+                .withMessageContaining("line 2");
+    }
+
+    @Test
+    public void testTruncatedFile() {
+        assertThatIOException().isThrownBy(() -> this.readAll("[{ \"kind\": \"function\", \"name\": \"Provide"));
+    }
+
+    @Test
+    public void testTooLongValue() {
+        String json = "[{ \"kind\": \"function\", \"name\": \"" + "a".repeat(2048) + "\" }]";
+
+        assertThatIOException().isThrownBy(() -> this.readAll(new JsonBreakdownReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), 1024)));
+    }
+
+    @Test
+    public void testTooLongFieldName() {
+        String json = "[{ \"kind\": \"function\", \"" + "a".repeat(2048) + "\": \"ignored\" }]";
+
+        assertThatIOException().isThrownBy(() -> this.readAll(new JsonBreakdownReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), 1024)));
+    }
+
+    private List<BreakdownRow> readAll(String content) throws IOException {
+        return this.readAll(new JsonBreakdownReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private List<BreakdownRow> readAll(BreakdownReader reader) throws IOException {
+        List<BreakdownRow> rows = new ArrayList<>();
+        try (reader) {
+            BreakdownRow row = reader.read();
+            while (row != null) {
+                rows.add(row);
+                row = reader.read();
+            }
+        }
+        return rows;
+    }
+}
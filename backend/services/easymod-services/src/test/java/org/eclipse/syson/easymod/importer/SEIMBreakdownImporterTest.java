@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.LibraryPackage;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SEIMBreakdownImporter}.
+ *
+ * @author ebausson
+ */
+public class SEIMBreakdownImporterTest {
+
+    private static final String HEADER_LINE = "kind,id,name,parent,source,target\n";
+
+    private final SysmlFactory factory = SysmlFactory.eINSTANCE;
+
+    private Package model;
+
+    private LibraryPackage seim;
+
+    @BeforeEach
+    public void setUp() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        this.seim = this.addOwnedMember(this.createRoot(resourceSet, "seim.sysml"), this.factory.createLibraryPackage(), EasyModConstants.SEIM_PACKAGE_NAME);
+        this.addOwnedMember(this.seim, this.factory.createActionDefinition(), "Function");
+        this.addOwnedMember(this.seim, this.factory.createAllocationDefinition(), "AllocatedFunction");
+        this.addOwnedMember(this.seim, this.factory.createInterfaceDefinition(), "FunctionalFlow");
+        this.addOwnedMember(this.seim, this.factory.createInterfaceDefinition(), "LogicalFlow");
+        this.addOwnedMember(this.seim, this.factory.createPartDefinition(), "LogicalConstituent");
+        this.addOwnedMember(this.seim, this.factory.createPortDefinition(), "FunctionPort");
+        this.addOwnedMember(this.seim, this.factory.createPortDefinition(), "ConstituentPort");
+
+        this.model = this.addOwnedMember(this.createRoot(resourceSet, "model.sysml"), this.factory.createPackage(), "Model");
+    }
+
+    @Test
+    public void testImportAcrossBatches() throws IOException {
+        List<BreakdownImportProgress> progress = new ArrayList<>();
+        BreakdownImportReport report = this.importBreakdown(2, progress, HEADER_LINE
+                + "function,F1,Provide thrust,,,\n"
+                + "function,F1.1,Control motors,F1,,\n"
+                + "logicalconstituent,C1,Propulsion,,,\n"
+                + "allocation,,,,F1.1,C1\n"
+                + "function,F2,Steer,,,\n"
+                + "Logical_Constituent,C2,,C1,,\n"
+                + "functionalflow,,Thrust command,,F1,F2\n");
+
+        assertThat(report).isEqualTo(new BreakdownImportReport(7, 3, 2, 1, 0, 1, 0, List.of()));
+        assertThat(progress).containsExactly(
+                new BreakdownImportProgress(2, 2, 0),
+                new BreakdownImportProgress(4, 4, 0),
+                new BreakdownImportProgress(6, 6, 0),
+                new BreakdownImportProgress(7, 7, 0));
+
+        ActionUsage f1 = this.find(ActionUsage.class, "Provide thrust");
+        ActionUsage f11 = this.find(ActionUsage.class, "Control motors");
+        PartUsage c1 = this.find(PartUsage.class, "Propulsion");
+        PartUsage c2 = this.find(PartUsage.class, "C2");
+        assertThat(f1.getOwner()).isSameAs(this.model);
+        assertThat(f11.getOwner()).isSameAs(f1);
+        assertThat(c2.getOwner()).isSameAs(c1);
+        assertThat(f1.getType()).containsExactly(this.getDefinition("Function"));
+        assertThat(c1.getType()).containsExactly(this.getDefinition("LogicalConstituent"));
+
+        AllocationUsage allocation = this.find(AllocationUsage.class, "AllocatedFunction");
+        assertThat(allocation.getSource()).containsExactly(f11);
+        assertThat(allocation.getTarget()).containsExactly(c1);
+        assertThat(allocation.getType()).containsExactly(this.getDefinition("AllocatedFunction"));
+
+        InterfaceUsage flow = this.find(InterfaceUsage.class, "Thrust command");
+        assertThat(flow.getType()).containsExactly(this.getDefinition("FunctionalFlow"));
+        assertThat(flow.getSource()).singleElement().isInstanceOfSatisfying(PortUsage.class, port -> {
+            assertThat(port.getOwner()).isSameAs(f1);
+            assertThat(port.getType()).containsExactly(this.getDefinition("FunctionPort"));
+        });
+        assertThat(flow.getTarget()).singleElement().isInstanceOfSatisfying(PortUsage.class, port -> assertThat(port.getOwner()).isSameAs(this.find(ActionUsage.class, "Steer")));
+    }
+
+    @Test
+    public void testRejectedRowsAreReportedWithTheirLine() throws IOException {
+        BreakdownImportReport report = this.importBreakdown(2, new ArrayList<>(), HEADER_LINE
+                + "function,F1,,,,\n"
+                + "functionalflow,,,,F1,F2\n"
+                + "function,F2,,,,\n"
+                + "unknown,X,,,,\n"
+                + "function,F1,,,,\n"
+                + "allocation,,,,F2,\n"
+                + "function,,,,,\n"
+                + "function,F3,,Missing,,\n"
+                + "allocation,,,,C1,F1\n");
+
+        assertThat(report.rowCount()).isEqualTo(9);
+        assertThat(report.functionCount()).isEqualTo(2);
+        assertThat(report.functionalFlowCount()).isZero();
+        assertThat(report.allocationCount()).isZero();
+        assertThat(report.rejectedRowCount()).isEqualTo(7);
+        assertThat(report.errors()).containsExactly(
+                "Line 3: unknown element \"F2\"",
+                "Line 5: unknown kind \"unknown\"",
+                "Line 6: the id \"F1\" is already used",
+                "Line 7: the target is required",
+                "Line 8: an id or a name is required",
+                "Line 9: unknown element \"Missing\"",
+                "Line 10: unknown element \"C1\"");
+        assertThat(this.findAll(ActionUsage.class)).extracting(Element::getDeclaredName).containsExactlyInAnyOrder("F1", "F2");
+    }
+
+    @Test
+    public void testReferencesToExistingElements() throws IOException {
+        PartUsage existingConstituent = this.addOwnedMember(this.model, this.factory.createPartUsage(), "Battery");
+        this.setType(existingConstituent, this.getDefinition("LogicalConstituent"));
+        ActionUsage existingFunction = this.addOwnedMember(this.model, this.factory.createActionUsage(), "Store energy");
+        this.setType(existingFunction, this.getDefinition("Function"));
+
+        BreakdownImportReport report = this.importBreakdown(SEIMBreakdownImporter.DEFAULT_BATCH_SIZE, new ArrayList<>(), HEADER_LINE
+                + "function,F1,Supply power,Store energy,,\n"
+                + "allocation,,,,F1,Battery\n"
+                + "allocation,,,,Store energy,Battery\n"
+                + "allocation,,,,Battery,Battery\n");
+
+        assertThat(report.allocationCount()).isEqualTo(2);
+        assertThat(report.errors()).containsExactly("Line 5: unknown element \"Battery\"");
+        assertThat(this.find(ActionUsage.class, "Supply power").getOwner()).isSameAs(existingFunction);
+        assertThat(this.findAll(AllocationUsage.class)).allSatisfy(allocation -> assertThat(allocation.getTarget()).containsExactly(existingConstituent));
+    }
+
+    @Test
+    public void testMissingDefinitionsRejectTheRows() throws IOException {
+        Element function = this.getDefinition("Function");
+        ((OwningMembership) function.getOwningRelationship()).getOwnedRelatedElement().clear();
+
+        BreakdownImportReport report = this.importBreakdown(SEIMBreakdownImporter.DEFAULT_BATCH_SIZE, new ArrayList<>(), HEADER_LINE
+                + "function,F1,,,,\n"
+                + "logicalconstituent,C1,,,,\n");
+
+        assertThat(report.logicalConstituentCount()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().asString().startsWith("Line 2: the SEIM library does not define");
+    }
+
+    @Test
+    public void testReportedErrorsAreCapped() throws IOException {
+        BreakdownImportReport report = this.importBreakdown(SEIMBreakdownImporter.DEFAULT_BATCH_SIZE, new ArrayList<>(), HEADER_LINE + "unknown,X,,,,\n".repeat(150));
+
+        assertThat(report.rejectedRowCount()).isEqualTo(150);
+        assertThat(report.errors()).hasSize(SEIMBreakdownImporter.MAX_REPORTED_ERRORS).first().isEqualTo("Line 2: unknown kind \"unknown\"");
+    }
+
+    @Test
+    public void testMalformedFileKeepsThePreviousBatches() {
+        List<BreakdownImportProgress> progress = new ArrayList<>();
+        String content = HEADER_LINE
+                + "function,F1,,,,\n"
+                + "function,F2,,,,\n"
+                + "function,F3,,,,\n"
+                + "function,\"F4,,,,\n";
+
+        assertThatIOException().isThrownBy(() -> this.importBreakdown(2, progress, content)).withMessageContaining("line 5");
+        assertThat(progress).containsExactly(new BreakdownImportProgress(2, 2, 0));
+        assertThat(this.findAll(ActionUsage.class)).extracting(Element::getDeclaredName).containsExactly("F1", "F2");
+    }
+
+    @Test
+    public void testInvalidBatchSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SEIMBreakdownImporter(0));
+    }
+
+    private BreakdownImportReport importBreakdown(int batchSize, List<BreakdownImportProgress> progress, String content) throws IOException {
+        try (BreakdownReader reader = new CsvBreakdownReader(new StringReader(content))) {
+            return new SEIMBreakdownImporter(batchSize).importBreakdown(reader, this.model, progress::add);
+        }
+    }
+
+    private <T extends Element> T find(Class<T> type, String name) {
+        Optional<T> element = this.findAll(type).stream()
+                .filter(candidate -> name.equals(candidate.getDeclaredName()))
+                .findFirst();
+        assertThat(element).as("%s %s", type.getSimpleName(), name).isPresent();
+        return element.get();
+    }
+
+    private <T extends Element> List<T> findAll(Class<T> type) {
+        List<T> elements = new ArrayList<>();
+        this.model.eAllContents().forEachRemaining(content -> {
+            if (type.isInstance(content)) {
+                elements.add(type.cast(content));
+            }
+        });
+        return elements;
+    }
+
+    private Type getDefinition(String name) {
+        return this.seim.getOwnedMember().stream()
+                .filter(Type.class::isInstance)
+                .map(Type.class::cast)
+                .filter(type -> name.equals(type.getDeclaredName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Namespace createRoot(ResourceSet resourceSet, String name) {
+        Resource resource = new ResourceImpl(URI.createURI(name));
+        resourceSet.getResources().add(resource);
+        Namespace root = this.factory.createNamespace();
+        resource.getContents().add(root);
+        return root;
+    }
+
+    private <T extends Element> T addOwnedMember(Namespace owner, T element, String name) {
+        element.setDeclaredName(name);
+        OwningMembership membership = this.factory.createOwningMembership();
+        membership.getOwnedRelatedElement().add(element);
+        owner.getOwnedRelationship().add(membership);
+        return element;
+    }
+
+    private void setType(Usage usage, Type definition) {
+        FeatureTyping featureTyping = this.factory.createFeatureTyping();
+        featureTyping.setType(definition);
+        usage.getOwnedRelationship().add(featureTyping);
+    }
+}
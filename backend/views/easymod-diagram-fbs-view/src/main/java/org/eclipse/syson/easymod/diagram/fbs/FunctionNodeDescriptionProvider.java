@@ -15,7 +15,9 @@ package org.eclipse.syson.easymod.diagram.fbs;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.view.ChangeContext;
@@ -41,7 +43,13 @@ import org.eclipse.sirius.components.view.diagram.NodeToolSection;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.sirius.components.view.diagram.UserResizableDirection;
 import org.eclipse.syson.diagram.common.view.nodes.AbstractNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.fbs.services.EasymodFBSService;
 import org.eclipse.syson.easymod.diagram.utils.EasyModColorConstants;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressions;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpression;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpressions;
+import org.eclipse.syson.sysml.ActionUsage;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.AQLConstants;
 import org.eclipse.syson.util.AQLUtils;
@@ -56,8 +64,21 @@ public class FunctionNodeDescriptionProvider extends AbstractNodeDescriptionProv
 
     public static final String NODE_NAME = "Function";
 
+    private static final String CANDIDATES_EXPRESSION = EasyModJavaExpressions.register("fbs.Function.candidates",
+            EasyModJavaExpression.ofService(EasymodFBSService.class, EObject.class, (service, self, context) -> service.getFunctions(self, context.getEditingContext())));
+
+    private static final String ALLOCATED_EXPRESSION = EasyModJavaExpressions.register("fbs.Function.allocated",
+            EasyModJavaExpression.ofService(EasymodFBSService.class, ActionUsage.class, (service, function, context) -> service.isSEIMFunctionAllocated(function)));
+
+    private final EasyModExpressionMode expressionMode;
+
     public FunctionNodeDescriptionProvider(IColorProvider colorProvider) {
+        this(colorProvider, EasyModExpressionMode.AQL);
+    }
+
+    public FunctionNodeDescriptionProvider(IColorProvider colorProvider, EasyModExpressionMode expressionMode) {
         super(colorProvider);
+        this.expressionMode = Objects.requireNonNull(expressionMode);
     }
 
     @Override
@@ -66,8 +87,8 @@ public class FunctionNodeDescriptionProvider extends AbstractNodeDescriptionProv
         return this.diagramBuilderHelper.newNodeDescription()
                 .domainType(domainType)
                 .name(this.getName())
-                .semanticCandidatesExpression(AQLUtils.getSelfServiceCallExpression("getFunctions", IEditingContext.EDITING_CONTEXT))
-                .insideLabel(this.generateDefaultLabel(AQLConstants.AQL_SELF + ".name"))
+                .semanticCandidatesExpression(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("getFunctions", IEditingContext.EDITING_CONTEXT), CANDIDATES_EXPRESSION))
+                .insideLabel(this.generateDefaultLabel(this.expressionMode.select(AQLConstants.AQL_SELF + ".name", EasyModExpressions.NAME)))
                 .defaultHeightExpression("70")
                 .defaultWidthExpression("150")
                 .userResizable(UserResizableDirection.BOTH)
@@ -83,7 +104,7 @@ public class FunctionNodeDescriptionProvider extends AbstractNodeDescriptionProv
         styles.add(this.generateConditionalNodeSytle(
                 EasyModColorConstants.FUNCTION_NODE_ALLOCATED_BACKGROUND_COLOR,
                 EasyModColorConstants.FUNCTION_NODE_BORDER_COLOR,
-                AQLUtils.getSelfServiceCallExpression("isSEIMFunctionAllocated")));
+                this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("isSEIMFunctionAllocated"), ALLOCATED_EXPRESSION)));
         return styles.toArray(new ConditionalNodeStyle[0]);
     }
 
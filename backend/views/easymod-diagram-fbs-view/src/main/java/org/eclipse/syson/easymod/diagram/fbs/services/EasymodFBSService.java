@@ -12,17 +12,22 @@
  *******************************************************************************/
 package org.eclipse.syson.easymod.diagram.fbs.services;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.syson.easymod.diagram.services.EasyModCommonServices;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
 import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
 import org.eclipse.syson.sysml.ActionDefinition;
 import org.eclipse.syson.sysml.ActionUsage;
-import org.eclipse.syson.sysml.AllocationUsage;
 import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.FeatureDirectionKind;
 import org.eclipse.syson.sysml.InterfaceDefinition;
@@ -42,6 +47,16 @@ import org.eclipse.syson.sysml.Usage;
  */
 public class EasymodFBSService extends EasyModCommonServices {
 
+    /**
+     * Constructor.
+     *
+     * @param serviceMetrics
+     *            the instrumentation of the calls of the services
+     */
+    public EasymodFBSService(EasyModServiceMetrics serviceMetrics) {
+        super(serviceMetrics);
+    }
+
     /**
      * Returns {@code true} if the diagram can be created on the provided {@code element}.
      *
@@ -50,7 +65,7 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return {@code true} if the diagram can be created on the provided {@code element}
      */
     public boolean canCreateDiagram(Element element) {
-        return element instanceof Package || element instanceof ActionUsage;
+        return this.measure("canCreateDiagram", () -> element instanceof Package || element instanceof ActionUsage);
     }
 
     /**
@@ -63,30 +78,21 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return the list of {@link ActionUsage} typed by SEIM::Function
      */
     public List<ActionUsage> getFunctions(EObject eObject, IEditingContext editingContext) {
-        List<ActionUsage> actionUsages = List.of();
-        if (eObject instanceof Usage usage) {
-            actionUsages = getSubFunctions(usage);
-        } else if (eObject instanceof Package pkg) {
-            actionUsages = getPackageFunctions(pkg);
-        }
-        return actionUsages;
+        return this.measure("getFunctions", () -> this.getRootFunctions(eObject));
     }
 
     /**
-     * Get list of {@link InterfaceUsage} typed by SEIM::FunctionalFlow contained by a given eObject.
+     * Get list of {@link InterfaceUsage} typed by SEIM::FunctionalFlow connecting the functions displayed on the diagram
+     * of a given eObject.
      * 
      * @param eObject
-     *            element which contain SEIM::FunctionalFlow
+     *            the root of the diagram
      * @param editingContext
      *            the editing context
      * @return the list of {@link InterfaceUsage} typed by SEIM::FunctionalFlow
      */
     public List<InterfaceUsage> getFunctionalFlows(EObject eObject, IEditingContext editingContext) {
-        return extractNotifier(eObject).stream()
-                .filter(notifier -> notifier instanceof InterfaceUsage)
-                .map(InterfaceUsage.class::cast)
-                .filter(isTypedWith(EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME))
-                .toList();
+        return this.measure("getFunctionalFlows", () -> this.getFlowsBetween(eObject, this.getVisibleFunctions(eObject), EasyModConstants.FUNCTION_FLOW_QUALIFIED_NAME));
     }
 
     /**
@@ -99,25 +105,27 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return the new {@link ActionUsage} typed by SEIM::Function.
      */
     public ActionUsage createFunction(EObject parent, IEditingContext editingContext) {
-        Optional<ActionDefinition> optSeimFunctionDefinition = getOptionalSeimFunctionDefinition(parent);
-        if (parent == null || optSeimFunctionDefinition.isEmpty()) {
-            return null;
-        }
-        ActionUsage newActionUsage = SysmlFactory.eINSTANCE.createActionUsage();
-        this.elementInitializer(newActionUsage);
-        if (parent instanceof Usage usage) {
-            var featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
-            featureMembership.getOwnedRelatedElement().add(newActionUsage);
-            usage.getOwnedRelationship().add(featureMembership);
-        } else if (parent instanceof Package pkg) {
-            OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
-            pkg.getOwnedRelationship().add(owningMembership);
-            owningMembership.getOwnedRelatedElement().add(newActionUsage);
-        }
-        newActionUsage.setDeclaredName("myFunction");
-
-        setType(optSeimFunctionDefinition.get(), newActionUsage);
-        return newActionUsage;
+        return this.measure("createFunction", () -> {
+            Optional<ActionDefinition> optSeimFunctionDefinition = getOptionalSeimFunctionDefinition(parent);
+            if (parent == null || optSeimFunctionDefinition.isEmpty()) {
+                return null;
+            }
+            ActionUsage newActionUsage = SysmlFactory.eINSTANCE.createActionUsage();
+            this.elementInitializer(newActionUsage);
+            if (parent instanceof Usage usage) {
+                var featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+                featureMembership.getOwnedRelatedElement().add(newActionUsage);
+                usage.getOwnedRelationship().add(featureMembership);
+            } else if (parent instanceof Package pkg) {
+                OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+                pkg.getOwnedRelationship().add(owningMembership);
+                owningMembership.getOwnedRelatedElement().add(newActionUsage);
+            }
+            newActionUsage.setDeclaredName("myFunction");
+
+            setType(optSeimFunctionDefinition.get(), newActionUsage);
+            return newActionUsage;
+        });
     }
 
     /**
@@ -128,7 +136,7 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return the source {@link PortUsage}
      */
     public PortUsage getSEIMFunctionSourcePort(InterfaceUsage functionalFlow) {
-        return getFirstAsPortUsageOrNull(functionalFlow.getSource());
+        return this.measure("getSEIMFunctionSourcePort", () -> getFirstAsPortUsageOrNull(functionalFlow.getSource()));
     }
 
     /**
@@ -139,7 +147,7 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return the target {@link PortUsage}
      */
     public PortUsage getSEIMFunctionTargetPort(InterfaceUsage functionalFlow) {
-        return getFirstAsPortUsageOrNull(functionalFlow.getTarget());
+        return this.measure("getSEIMFunctionTargetPort", () -> getFirstAsPortUsageOrNull(functionalFlow.getTarget()));
     }
 
     private PortUsage getFirstAsPortUsageOrNull(EList<Element> list) {
@@ -160,20 +168,22 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return the new {@link InterfaceUsage} typed by SEIM::FunctionalFlow.
      */
     public InterfaceUsage createFunctionalFlow(ActionUsage source, ActionUsage target) {
-        Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(source);
-        Optional<PortDefinition> optSeimFunctionalPortDefinition = getOptionalSeimFunctionPortDefinition(source);
-        Optional<InterfaceDefinition> optSeimFunctionFlowDefinition = getOptionalSeimFunctionalFlowDefinition(source);
-        if (namespace == null || optSeimFunctionalPortDefinition.isEmpty() || optSeimFunctionFlowDefinition.isEmpty()) {
-            return null;
-        }
-
-        PortUsage newSourcePortUsage = createPortUsage(optSeimFunctionalPortDefinition.get(), source, FeatureDirectionKind.IN);
-        PortUsage newTargetPortUsage = createPortUsage(optSeimFunctionalPortDefinition.get(), target, FeatureDirectionKind.OUT);
-
-        InterfaceUsage newInterfaceUsage = createInterfaceUsage(optSeimFunctionFlowDefinition.get(), namespace, "myFunctionalFlow");
-        newInterfaceUsage.getSource().add(newSourcePortUsage);
-        newInterfaceUsage.getTarget().add(newTargetPortUsage);
-        return newInterfaceUsage;
+        return this.measure("createFunctionalFlow", () -> {
+            Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(source);
+            Optional<PortDefinition> optSeimFunctionalPortDefinition = getOptionalSeimFunctionPortDefinition(source);
+            Optional<InterfaceDefinition> optSeimFunctionFlowDefinition = getOptionalSeimFunctionalFlowDefinition(source);
+            if (namespace == null || optSeimFunctionalPortDefinition.isEmpty() || optSeimFunctionFlowDefinition.isEmpty()) {
+                return null;
+            }
+
+            PortUsage newSourcePortUsage = createPortUsage(optSeimFunctionalPortDefinition.get(), source, FeatureDirectionKind.IN);
+            PortUsage newTargetPortUsage = createPortUsage(optSeimFunctionalPortDefinition.get(), target, FeatureDirectionKind.OUT);
+
+            InterfaceUsage newInterfaceUsage = createInterfaceUsage(optSeimFunctionFlowDefinition.get(), namespace, "myFunctionalFlow");
+            newInterfaceUsage.getSource().add(newSourcePortUsage);
+            newInterfaceUsage.getTarget().add(newTargetPortUsage);
+            return newInterfaceUsage;
+        });
     }
 
     /**
@@ -185,11 +195,30 @@ public class EasymodFBSService extends EasyModCommonServices {
      * @return {@code true} if the seim function is allocated, {@code false} otherwise
      */
     public boolean isSEIMFunctionAllocated(ActionUsage seimFunction) {
-        return extractNotifier(seimFunction).stream()
-                .filter(notifier -> notifier instanceof AllocationUsage)
-                .map(AllocationUsage.class::cast)
-                .filter(isTypedWith(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME))
-                .anyMatch(allocatedFunction -> allocatedFunction.getSource().contains(seimFunction));
+        return this.measure("isSEIMFunctionAllocated", () -> EasyModModelIndex.getOrCreate(seimFunction).getAllocationsFrom(seimFunction).stream()
+                .anyMatch(isTypedWith(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME)));
+    }
+
+    private List<ActionUsage> getRootFunctions(EObject eObject) {
+        List<ActionUsage> actionUsages = List.of();
+        if (eObject instanceof Usage usage) {
+            actionUsages = getSubFunctions(usage);
+        } else if (eObject instanceof Package pkg) {
+            actionUsages = getPackageFunctions(pkg);
+        }
+        return actionUsages;
+    }
+
+    private Set<ActionUsage> getVisibleFunctions(EObject diagramRoot) {
+        Set<ActionUsage> visibleFunctions = new LinkedHashSet<>();
+        Deque<ActionUsage> functionsToVisit = new ArrayDeque<>(this.getRootFunctions(diagramRoot));
+        while (!functionsToVisit.isEmpty()) {
+            ActionUsage function = functionsToVisit.poll();
+            if (visibleFunctions.add(function)) {
+                functionsToVisit.addAll(this.getSubFunctions(function));
+            }
+        }
+        return visibleFunctions;
     }
 
     private List<ActionUsage> getPackageFunctions(Package pkg) {
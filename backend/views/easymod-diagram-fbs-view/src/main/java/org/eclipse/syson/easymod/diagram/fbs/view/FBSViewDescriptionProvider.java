@@ -14,6 +14,8 @@ package org.eclipse.syson.easymod.diagram.fbs.view;
 
 import org.eclipse.sirius.components.view.builder.providers.IRepresentationDescriptionProvider;
 import org.eclipse.syson.diagram.common.view.IViewDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionModes;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,6 +26,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class FBSViewDescriptionProvider implements IViewDescriptionProvider {
 
+    private final EasyModExpressionModes expressionModes;
+
+    public FBSViewDescriptionProvider(@Value("${easymod.diagram.expression-mode:aql}") String expressionMode, @Value("${easymod.diagram.expression-modes:}") String expressionModes) {
+        this.expressionModes = EasyModExpressionModes.parse(expressionMode, expressionModes);
+    }
+
     @Override
     public String getViewDiagramId() {
         return "FBSViewDiagram";
@@ -31,7 +39,7 @@ public class FBSViewDescriptionProvider implements IViewDescriptionProvider {
 
     @Override
     public IRepresentationDescriptionProvider getRepresentationDescriptionProvider() {
-        return new FBSViewsDiagramDescriptionProvider();
+        return new FBSViewsDiagramDescriptionProvider(this.expressionModes);
     }
 
 }
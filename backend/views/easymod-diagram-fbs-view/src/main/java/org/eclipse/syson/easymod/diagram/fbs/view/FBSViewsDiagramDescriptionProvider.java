@@ -14,6 +14,7 @@ package org.eclipse.syson.easymod.diagram.fbs.view;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.sirius.components.view.ChangeContext;
 import org.eclipse.sirius.components.view.RepresentationDescription;
@@ -39,6 +40,8 @@ import org.eclipse.syson.easymod.diagram.fbs.FunctionPortNodeDescriptionProvider
 import org.eclipse.syson.easymod.diagram.fbs.FunctionalFlowEdgeDescriptionProvider;
 import org.eclipse.syson.easymod.diagram.view.AbstractEasyModDiagramDescriptionProvider;
 import org.eclipse.syson.easymod.diagram.view.EasyModDescriptionNameGenerator;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionModes;
 import org.eclipse.syson.util.AQLUtils;
 
 /**
@@ -54,12 +57,31 @@ public class FBSViewsDiagramDescriptionProvider extends AbstractEasyModDiagramDe
 
     private static final String TOOL_SECTION_NAME = "MainTools";
 
+    private static final String EXPRESSION_MODE_KEY_PREFIX = "fbs.";
+
     private final DiagramBuilders diagramBuilderHelper = new DiagramBuilders();
 
     private final ToolDescriptionService toolDescriptionService = new ToolDescriptionService(new EasyModDescriptionNameGenerator());
 
     private ViewBuilders viewBuilderHelper = new ViewBuilders();
 
+    private final EasyModExpressionModes expressionModes;
+
+    public FBSViewsDiagramDescriptionProvider() {
+        this(EasyModExpressionModes.AQL);
+    }
+
+    /**
+     * Create the provider of the diagram description.
+     *
+     * @param expressionModes
+     *            the kind of expressions used by the candidates, labels and conditions of each diagram element, by
+     *            {@code fbs.<element name>} key
+     */
+    public FBSViewsDiagramDescriptionProvider(EasyModExpressionModes expressionModes) {
+        this.expressionModes = Objects.requireNonNull(expressionModes);
+    }
+
     @Override
     public RepresentationDescription create(IColorProvider colorProvider) {
 
@@ -83,12 +105,18 @@ public class FBSViewsDiagramDescriptionProvider extends AbstractEasyModDiagramDe
 
     @Override
     protected List<IDiagramElementDescriptionProvider<? extends DiagramElementDescription>> getDiagramElements(IColorProvider easyModColorProvider) {
-        FunctionNodeDescriptionProvider functionNodeDescriptionProvider = new FunctionNodeDescriptionProvider(easyModColorProvider);
-        FunctionalFlowEdgeDescriptionProvider functionalFlowEdgeDescriptionProvider = new FunctionalFlowEdgeDescriptionProvider(easyModColorProvider);
-        FunctionPortNodeDescriptionProvider functionPortNodeDescriptionProvider = new FunctionPortNodeDescriptionProvider(easyModColorProvider);
+        FunctionNodeDescriptionProvider functionNodeDescriptionProvider = new FunctionNodeDescriptionProvider(easyModColorProvider, this.getExpressionMode(FunctionNodeDescriptionProvider.NODE_NAME));
+        FunctionalFlowEdgeDescriptionProvider functionalFlowEdgeDescriptionProvider = new FunctionalFlowEdgeDescriptionProvider(easyModColorProvider,
+                this.getExpressionMode(FunctionalFlowEdgeDescriptionProvider.EDGE_NAME));
+        FunctionPortNodeDescriptionProvider functionPortNodeDescriptionProvider = new FunctionPortNodeDescriptionProvider(easyModColorProvider,
+                this.getExpressionMode(FunctionPortNodeDescriptionProvider.NODE_NAME));
         return List.of(functionNodeDescriptionProvider, functionalFlowEdgeDescriptionProvider, functionPortNodeDescriptionProvider);
     }
 
+    private EasyModExpressionMode getExpressionMode(String elementName) {
+        return this.expressionModes.get(EXPRESSION_MODE_KEY_PREFIX + elementName);
+    }
+
     @Override
     protected String getName() {
         return DIAGRAM_NAME;
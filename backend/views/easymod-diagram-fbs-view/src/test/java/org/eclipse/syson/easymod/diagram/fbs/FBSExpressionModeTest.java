@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.fbs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.builder.providers.IColorProvider;
+import org.eclipse.sirius.components.view.diagram.ConditionalNodeStyle;
+import org.eclipse.sirius.components.view.diagram.EdgeDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.syson.easymod.diagram.fbs.services.EasymodFBSService;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionContext;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionInterpreter;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpressions;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the FBS diagram displays the same elements with the {@link EasyModExpressionMode#AQL AQL} and the
+ * {@link EasyModExpressionMode#JAVA java} expressions of its descriptions.
+ *
+ * @author ebausson
+ */
+public class FBSExpressionModeTest {
+
+    private static final int ELEMENT_COUNT = 500;
+
+    private final IColorProvider colorProvider = colorName -> ViewFactory.eINSTANCE.createFixedColor();
+
+    private final Map<String, Object> variables = new HashMap<>();
+
+    private SEIMModelResource model;
+
+    private EasyModExpressionInterpreter interpreter;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(ELEMENT_COUNT)), new ResourceSetImpl());
+        EasyModModelIndex.getOrCreate(this.model.functionalPackage());
+
+        List<Object> services = List.of(new EasymodFBSService(EasyModServiceMetrics.DISABLED));
+        AQLInterpreter aqlInterpreter = new AQLInterpreter(List.of(), services, List.of(SysmlPackage.eINSTANCE));
+        this.interpreter = new EasyModExpressionInterpreter(aqlInterpreter, serviceType -> services.stream().filter(serviceType::isInstance).findFirst().orElseThrow());
+        this.variables.put(IEditingContext.EDITING_CONTEXT, null);
+    }
+
+    @Test
+    public void testJavaDescriptionsUseJavaExpressions() {
+        NodeDescription functionNode = new FunctionNodeDescriptionProvider(this.colorProvider, EasyModExpressionMode.JAVA).create();
+        EdgeDescription functionalFlowEdge = new FunctionalFlowEdgeDescriptionProvider(this.colorProvider, EasyModExpressionMode.JAVA).create();
+
+        assertThat(EasyModJavaExpressions.find(functionNode.getSemanticCandidatesExpression())).isPresent();
+        assertThat(EasyModJavaExpressions.find(functionalFlowEdge.getSemanticCandidatesExpression())).isPresent();
+        assertThat(EasyModJavaExpressions.isJavaExpression(new FunctionNodeDescriptionProvider(this.colorProvider, EasyModExpressionMode.AQL).create().getSemanticCandidatesExpression())).isFalse();
+    }
+
+    @Test
+    public void testJavaExpressionsDisplayTheSameDiagram() {
+        List<Object> aqlDiagram = this.refresh(EasyModExpressionMode.AQL);
+        List<Object> javaDiagram = this.refresh(EasyModExpressionMode.JAVA);
+
+        assertThat(aqlDiagram).isNotEmpty();
+        assertThat(javaDiagram).isEqualTo(aqlDiagram);
+    }
+
+    /**
+     * Evaluate the expressions of the whole diagram, as a refresh does.
+     *
+     * @return the values of all the evaluated expressions, in the order of the evaluation
+     */
+    private List<Object> refresh(EasyModExpressionMode mode) {
+        NodeDescription functionNode = new FunctionNodeDescriptionProvider(this.colorProvider, mode).create();
+        NodeDescription functionPortNode = new FunctionPortNodeDescriptionProvider(this.colorProvider, mode).create();
+        EdgeDescription functionalFlowEdge = new FunctionalFlowEdgeDescriptionProvider(this.colorProvider, mode).create();
+
+        List<Object> values = new ArrayList<>();
+        for (Object function : this.evaluateObjects(functionNode.getSemanticCandidatesExpression(), this.model.functionalPackage())) {
+            values.add(function);
+            values.add(this.evaluateString(functionNode.getInsideLabel().getLabelExpression(), function));
+            this.evaluateConditions(functionNode, function, values);
+            for (Object port : this.evaluateObjects(functionPortNode.getSemanticCandidatesExpression(), function)) {
+                values.add(port);
+                this.evaluateConditions(functionPortNode, port, values);
+            }
+        }
+        for (Object flow : this.evaluateObjects(functionalFlowEdge.getSemanticCandidatesExpression(), this.model.functionalPackage())) {
+            values.add(flow);
+            values.add(this.evaluateObjects(functionalFlowEdge.getSourceNodesExpression(), flow));
+            values.add(this.evaluateObjects(functionalFlowEdge.getTargetNodesExpression(), flow));
+            values.add(this.evaluateString(functionalFlowEdge.getCenterLabelExpression(), flow));
+        }
+        return values;
+    }
+
+    private void evaluateConditions(NodeDescription nodeDescription, Object self, List<Object> values) {
+        for (ConditionalNodeStyle conditionalStyle : nodeDescription.getConditionalStyles()) {
+            this.variables.put(EasyModExpressionContext.SELF, self);
+            values.add(this.interpreter.evaluateExpression(this.variables, conditionalStyle.getCondition()).asBoolean().orElse(false));
+        }
+    }
+
+    private List<Object> evaluateObjects(String expression, Object self) {
+        this.variables.put(EasyModExpressionContext.SELF, self);
+        return this.interpreter.evaluateExpression(this.variables, expression).asObjects().orElse(List.of());
+    }
+
+    private String evaluateString(String expression, Object self) {
+        this.variables.put(EasyModExpressionContext.SELF, self);
+        return this.interpreter.evaluateExpression(this.variables, expression).asString().orElse("");
+    }
+}
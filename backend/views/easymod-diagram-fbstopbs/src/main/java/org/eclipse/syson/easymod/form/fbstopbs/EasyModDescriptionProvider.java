@@ -12,18 +12,28 @@
  *******************************************************************************/
 package org.eclipse.syson.easymod.form.fbstopbs;
 
+import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.core.api.IIdentityService;
 import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
 import org.eclipse.syson.easymod.form.fbstopbs.descriptions.FBSToPBSFormDescriptionProvider;
+import org.eclipse.syson.easymod.form.fbstopbs.services.EasymodFBSToPBSService;
+import org.eclipse.syson.sysml.SysmlPackage;
 import org.springframework.stereotype.Service;
 
 /**
  * EasyModDescriptionProvider.
+ * <p>
+ * Each editing context gets its own form description, with its own {@link AQLInterpreter} and services. The
+ * expressions of the forms of an editing context are evaluated on the thread of this editing context only, and the
+ * interpreter keeps the expressions it has parsed for the lifetime of the editing context.
+ * </p>
  * 
  * @author ebausson
  */
@@ -34,15 +44,20 @@ public class EasyModDescriptionProvider implements IEditingContextProcessor {
 
     private final IIdentityService identityService;
 
-    public EasyModDescriptionProvider(IObjectService objectService, IIdentityService identityService) {
+    private final EasyModServiceMetrics serviceMetrics;
+
+    public EasyModDescriptionProvider(IObjectService objectService, IIdentityService identityService, EasyModServiceMetrics serviceMetrics) {
         this.objectService = Objects.requireNonNull(objectService);
         this.identityService = Objects.requireNonNull(identityService);
+        this.serviceMetrics = Objects.requireNonNull(serviceMetrics);
     }
 
     @Override
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            var form = new FBSToPBSFormDescriptionProvider().createFormDescription(objectService, identityService);
+            var fbsToPbsService = new EasymodFBSToPBSService(this.serviceMetrics);
+            var interpreter = new AQLInterpreter(List.of(), List.of(fbsToPbsService), List.of(SysmlPackage.eINSTANCE));
+            var form = new FBSToPBSFormDescriptionProvider(fbsToPbsService, interpreter).createFormDescription(objectService, identityService);
             siriusWebEditingContext.getRepresentationDescriptions().put(form.getId(), form);
         }
     }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.Element;
+
+/**
+ * The filter, sort and page displayed by a FBStoPBS Form Table.
+ *
+ * @param filter
+ *            the text the function or product names should contain, ignored if blank
+ * @param sortKey
+ *            the key used to sort the lines
+ * @param pageIndex
+ *            the index of the displayed page, starting at 0
+ * @param pageSize
+ *            the maximum number of lines of a page
+ * @author ebausson
+ */
+public record AllocationTableQuery(String filter, AllocationTableSortKey sortKey, int pageIndex, int pageSize) {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    public AllocationTableQuery {
+        Objects.requireNonNull(sortKey);
+        filter = Optional.ofNullable(filter).orElse("");
+        pageIndex = Math.max(0, pageIndex);
+        pageSize = Math.max(1, pageSize);
+    }
+
+    public static AllocationTableQuery initial() {
+        return new AllocationTableQuery("", AllocationTableSortKey.FUNCTION, 0, DEFAULT_PAGE_SIZE);
+    }
+
+    public AllocationTableQuery withFilter(String newFilter) {
+        return new AllocationTableQuery(newFilter, this.sortKey, 0, this.pageSize);
+    }
+
+    public AllocationTableQuery withSortKey(AllocationTableSortKey newSortKey) {
+        return new AllocationTableQuery(this.filter, newSortKey, 0, this.pageSize);
+    }
+
+    public AllocationTableQuery withPageIndex(int newPageIndex) {
+        return new AllocationTableQuery(this.filter, this.sortKey, newPageIndex, this.pageSize);
+    }
+
+    /**
+     * Get the functions matching the filter, sorted by the sort key.
+     *
+     * @param statistics
+     *            the allocation statistics of the model
+     * @return the filtered and sorted functions
+     */
+    public List<ActionUsage> select(AllocationStatistics statistics) {
+        String normalizedFilter = this.filter.trim().toLowerCase(Locale.ROOT);
+        return statistics.getFunctions().stream()
+                .filter(function -> normalizedFilter.isEmpty() || this.matches(function, statistics, normalizedFilter))
+                .sorted(this.getComparator(statistics))
+                .toList();
+    }
+
+    /**
+     * Get the number of pages needed to display the given number of lines.
+     *
+     * @param lineCount
+     *            the number of lines
+     * @return the number of pages, at least 1
+     */
+    public int getPageCount(int lineCount) {
+        return Math.max(1, (lineCount + this.pageSize - 1) / this.pageSize);
+    }
+
+    /**
+     * Get the lines of the displayed page.
+     *
+     * @param <T>
+     *            the type of the lines
+     * @param lines
+     *            all the lines of the table
+     * @return the lines of the displayed page, or of the last page if the page index is out of range
+     */
+    public <T> List<T> page(List<T> lines) {
+        int effectivePageIndex = Math.min(this.pageIndex, this.getPageCount(lines.size()) - 1);
+        int fromIndex = effectivePageIndex * this.pageSize;
+        int toIndex = Math.min(lines.size(), fromIndex + this.pageSize);
+        return lines.subList(fromIndex, toIndex);
+    }
+
+    private boolean matches(ActionUsage function, AllocationStatistics statistics, String normalizedFilter) {
+        return contains(function, normalizedFilter) || statistics.getAllocatedProduct(function).filter(product -> contains(product, normalizedFilter)).isPresent();
+    }
+
+    private static boolean contains(Element element, String normalizedFilter) {
+        String name = element.getDeclaredName();
+        return name != null && name.toLowerCase(Locale.ROOT).contains(normalizedFilter);
+    }
+
+    private Comparator<ActionUsage> getComparator(AllocationStatistics statistics) {
+        Comparator<ActionUsage> byFunctionName = Comparator.comparing(AllocationTableQuery::getName, String.CASE_INSENSITIVE_ORDER);
+        Comparator<ActionUsage> comparator = switch (this.sortKey) {
+            case PRODUCT -> Comparator.<ActionUsage, String> comparing(function -> statistics.getAllocatedProduct(function).map(AllocationTableQuery::getName).orElse(""),
+                    String.CASE_INSENSITIVE_ORDER).thenComparing(byFunctionName);
+            case STATUS -> Comparator.<ActionUsage, Boolean> comparing(function -> statistics.getAllocatedFunctions().contains(function)).thenComparing(byFunctionName);
+            default -> byFunctionName;
+        };
+        return comparator;
+    }
+
+    private static String getName(Element element) {
+        return Optional.ofNullable(element.getDeclaredName()).orElse("");
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+/**
+ * The keys available to sort the lines of the FBStoPBS Form Table.
+ *
+ * @author ebausson
+ */
+public enum AllocationTableSortKey {
+
+    FUNCTION("Function"),
+
+    PRODUCT("Product"),
+
+    STATUS("Allocation status");
+
+    private final String label;
+
+    AllocationTableSortKey(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+}
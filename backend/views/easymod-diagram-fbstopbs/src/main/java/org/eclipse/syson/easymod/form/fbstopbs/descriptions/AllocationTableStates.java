@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
+import org.eclipse.syson.sysml.ActionUsage;
+
+/**
+ * The state of the FBStoPBS Form Tables, kept by form id.
+ * <p>
+ * Each opened form has its own query and its own selected lines, two forms displaying the same element do not share
+ * them. Only the queries of the {@link #MAX_STATES} most recently used forms are kept, a form whose query has been
+ * evicted is displayed again with the initial query. The queries do not reference the models: the selected lines are
+ * kept as a derived value of the {@link EasyModModelIndex} of the model, they are dropped on the next semantic change
+ * and released with the editing context.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class AllocationTableStates {
+
+    public static final int MAX_STATES = 256;
+
+    private final Map<String, AllocationTableQuery> queries = new LinkedHashMap<>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AllocationTableQuery> eldest) {
+            return this.size() > MAX_STATES;
+        }
+    };
+
+    /**
+     * Get the query of the table of the given form.
+     *
+     * @param formId
+     *            the id of the form, may be {@code null} if the form has not been created yet
+     * @return the query of the table, or the initial query
+     */
+    public synchronized AllocationTableQuery getQuery(String formId) {
+        AllocationTableQuery query = null;
+        if (formId != null) {
+            query = this.queries.get(formId);
+        }
+        if (query == null) {
+            query = AllocationTableQuery.initial();
+        }
+        return query;
+    }
+
+    /**
+     * Update the query of the table of the given form.
+     *
+     * @param formId
+     *            the id of the form
+     * @param update
+     *            the update of the query
+     */
+    public synchronized void updateQuery(String formId, UnaryOperator<AllocationTableQuery> update) {
+        this.queries.put(Objects.requireNonNull(formId), update.apply(this.getQuery(formId)));
+    }
+
+    /**
+     * Get the filtered and sorted lines of the table of the given form. The selection is only computed again when the
+     * allocation statistics or the query of the table have changed.
+     *
+     * @param formId
+     *            the id of the form, may be {@code null} if the form has not been created yet
+     * @param element
+     *            the element displayed by the form
+     * @param statistics
+     *            the allocation statistics of the model
+     * @return the lines of the table
+     */
+    public Selection getSelection(String formId, EObject element, AllocationStatistics statistics) {
+        AllocationTableQuery query = this.getQuery(formId);
+        Selection selection;
+        if (formId == null) {
+            selection = new Selection(statistics, query, query.select(statistics));
+        } else {
+            selection = EasyModModelIndex.getOrCreate(element).getDerivedValue(new SelectionKey(formId, query, statistics),
+                    () -> new Selection(statistics, query, query.select(statistics)));
+        }
+        return selection;
+    }
+
+    /**
+     * The lines of a table for a given state of the model and a given query.
+     *
+     * @author ebausson
+     */
+    public record Selection(AllocationStatistics statistics, AllocationTableQuery query, List<ActionUsage> lines) {
+    }
+
+    /**
+     * The key of the selection of a form in the derived values of the {@link EasyModModelIndex}.
+     *
+     * @author ebausson
+     */
+    private record SelectionKey(String formId, AllocationTableQuery query, AllocationStatistics statistics) {
+    }
+}
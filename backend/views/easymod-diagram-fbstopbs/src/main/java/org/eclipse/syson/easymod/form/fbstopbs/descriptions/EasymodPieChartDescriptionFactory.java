@@ -24,23 +24,27 @@ import org.eclipse.sirius.components.forms.WidgetIdProvider;
 import org.eclipse.sirius.components.forms.description.AbstractControlDescription;
 import org.eclipse.sirius.components.forms.description.ChartWidgetDescription;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
-import org.eclipse.sirius.components.interpreter.StringValueProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
 
 /**
  * Description of the FBStoPBS Form PieChart .
+ * <p>
+ * The chart reads the allocation statistics computed once for the whole form, see
+ * {@link AllocationStatistics#VARIABLE_NAME}.
+ * </p>
  *
  * @author ebausson
  */
 public class EasymodPieChartDescriptionFactory extends AbstractControlDescription {
 
-    private static final String PIECHART_LABEL_EXPRESSION = "FBS to PBS Allocations";
+    private static final String PIECHART_LABEL = "FBS to PBS Allocations";
 
-    private static final String PIECHART_KEYS_EXPRESSION = "aql:self.getPieChartKeyValue()";
+    private static final String PIECHART_KEYS_EXPRESSION = "aql:" + AllocationStatistics.VARIABLE_NAME + ".getPieChartKeyValue()";
 
-    private static final String PIECHART_VALUES_EXPRESSION = "aql:self.getAttributionPieChartData()";
+    private static final String PIECHART_VALUES_EXPRESSION = "aql:" + AllocationStatistics.VARIABLE_NAME + ".getAttributionPieChartData()";
 
-    private static final String PIECHART_LABEL = "Distribution";
+    private static final String PIECHART_CHART_LABEL = "Distribution";
 
     private static final String VARIABLE_MANAGER = "variableManager";
 
@@ -48,7 +52,7 @@ public class EasymodPieChartDescriptionFactory extends AbstractControlDescriptio
 
     private static final String CHART_WIDGET_DESCRIPTION_ID = "irt://easymod/widget/pieChart";
 
-    private AQLInterpreter interpreter;
+    private final AQLInterpreter interpreter;
 
     public EasymodPieChartDescriptionFactory(AQLInterpreter interpreter, Function<VariableManager, String> targetObjectIdProvider) {
         this.interpreter = Objects.requireNonNull(interpreter);
@@ -59,7 +63,7 @@ public class EasymodPieChartDescriptionFactory extends AbstractControlDescriptio
         Function<VariableManager, PieChartStyle> styleProvider = getPieChartStyleProvider();
 
         IChartDescription chartDescription = PieChartDescription.newPieChartDescription(PIECHART_WIDGET_DESCRIPTION_ID)
-                .label(PIECHART_LABEL)
+                .label(PIECHART_CHART_LABEL)
                 .targetObjectIdProvider(this.targetObjectIdProvider)
                 .keysProvider(this.getMultiValueProvider(PIECHART_KEYS_EXPRESSION, String.class))
                 .valuesProvider(this.getMultiValueProvider(PIECHART_VALUES_EXPRESSION, Number.class))
@@ -67,10 +71,9 @@ public class EasymodPieChartDescriptionFactory extends AbstractControlDescriptio
                 .build();
 
         WidgetIdProvider idProvider = new WidgetIdProvider();
-        StringValueProvider labelProvider = this.getStringValueProvider(PIECHART_LABEL_EXPRESSION);
         ChartWidgetDescription.Builder builder = ChartWidgetDescription.newChartWidgetDescription(CHART_WIDGET_DESCRIPTION_ID)
                 .targetObjectIdProvider(this.targetObjectIdProvider)
-                .labelProvider(labelProvider)
+                .labelProvider(variableManager -> PIECHART_LABEL)
                 .idProvider(idProvider)
                 .chartDescription(chartDescription)
                 .diagnosticsProvider(variableManager -> List.of())
@@ -80,11 +83,6 @@ public class EasymodPieChartDescriptionFactory extends AbstractControlDescriptio
 
     }
 
-    private StringValueProvider getStringValueProvider(String valueExpression) {
-        String safeValueExpression = Optional.ofNullable(valueExpression).orElse("");
-        return new StringValueProvider(this.interpreter, safeValueExpression);
-    }
-
     private <T> Function<VariableManager, List<T>> getMultiValueProvider(String expression, Class<T> type) {
         String safeExpression = Optional.ofNullable(expression).orElse("");
         return variableManager -> {
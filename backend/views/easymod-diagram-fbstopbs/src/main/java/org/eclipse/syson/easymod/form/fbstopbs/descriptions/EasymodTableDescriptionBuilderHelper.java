@@ -26,6 +26,7 @@ import org.eclipse.sirius.components.representations.Success;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.tables.components.SelectCellComponent;
 import org.eclipse.sirius.components.tables.elements.TextfieldCellElementProps;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
 import org.eclipse.syson.easymod.form.fbstopbs.services.EasymodFBSToPBSService;
 import org.eclipse.syson.sysml.ActionUsage;
 import org.eclipse.syson.sysml.PartUsage;
@@ -62,12 +63,12 @@ public class EasymodTableDescriptionBuilderHelper {
                 if (EasymodTableDescriptionFactory.FUNCTIONS_COLUMN_LABEL.equals(columnTargetObject) && eObject instanceof ActionUsage function) {
                     value = function.getDeclaredName();
                 } else if (EasymodTableDescriptionFactory.PRODUCTS_COLUMN_LABEL.equals(columnTargetObject) && eObject instanceof ActionUsage function) {
-                    PartUsage product = easymodFBSToPBSService.getAllocatedProductIfExist(function);
-                    if (product != null) {
-                        value = product.getDeclaredName();
-                    } else {
-                        value = "";
-                    }
+                    value = variableManager.get(AllocationStatistics.VARIABLE_NAME, AllocationStatistics.class)
+                            .map(statistics -> this.easymodFBSToPBSService.getAllocatedProductIfExist(statistics, function))
+                            .map(PartUsage::getDeclaredName)
+                            .orElse("");
+                } else if (EasymodTableDescriptionFactory.COVERAGE_COLUMN_LABEL.equals(columnTargetObject) && eObject instanceof ActionUsage function) {
+                    value = this.easymodFBSToPBSService.getFunctionCoverage(function).getLabel();
                 }
             }
             return value;
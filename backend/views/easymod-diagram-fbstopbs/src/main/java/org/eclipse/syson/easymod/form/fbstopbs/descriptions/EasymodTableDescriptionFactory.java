@@ -17,24 +17,38 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 
 import org.eclipse.sirius.components.core.api.IIdentityService;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.forms.WidgetIdProvider;
+import org.eclipse.sirius.components.forms.components.SelectComponent;
 import org.eclipse.sirius.components.forms.description.AbstractControlDescription;
+import org.eclipse.sirius.components.forms.description.SelectDescription;
 import org.eclipse.sirius.components.forms.description.TableWidgetDescription;
+import org.eclipse.sirius.components.forms.description.TextfieldDescription;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
-import org.eclipse.sirius.components.interpreter.StringValueProvider;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
+import org.eclipse.sirius.components.representations.IStatus;
+import org.eclipse.sirius.components.representations.Success;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.tables.descriptions.CellDescription;
 import org.eclipse.sirius.components.tables.descriptions.ColumnDescription;
 import org.eclipse.sirius.components.tables.descriptions.LineDescription;
 import org.eclipse.sirius.components.tables.descriptions.TableDescription;
+import org.eclipse.syson.easymod.form.fbstopbs.descriptions.AllocationTableStates.Selection;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
 import org.eclipse.syson.easymod.form.fbstopbs.services.EasymodFBSToPBSService;
-import org.eclipse.syson.sysml.ActionUsage;
 
 /**
  * Description of the FBStoPBS Form Table.
+ * <p>
+ * The table is filtered, sorted and paged on the server: only the lines of the displayed page are rendered. The
+ * query of each table is kept by form id, so that each opened form has its own query, and edited with the widgets of
+ * {@link #generateQueryDescriptions()}.
+ * </p>
  *
  * @author ebausson
  */
@@ -44,6 +58,8 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
 
     protected static final String PRODUCTS_COLUMN_LABEL = "Products";
 
+    protected static final String COVERAGE_COLUMN_LABEL = "Branch coverage";
+
     private static final String CELL_DESCRIPTION_ID = "irt://easymod/cell";
 
     private static final String LINE_DESCRIPTION_ID = "irt://easymod/line";
@@ -52,11 +68,21 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
 
     private static final String PRODUCTS_COLUMN_ID = "irt://easymod/column/product";
 
+    private static final String COVERAGE_COLUMN_ID = "irt://easymod/column/coverage";
+
     private static final String TABLE_DESCRIPTION_ID = "irt://easymod/table";
 
     private static final String TABLE_WIDGET_DESCRIPTION_ID = "irt://easymod/widget/table";
 
-    private static final String TABLE_LABEL_EXPRESSION = "FBS to PBS Allocations";
+    private static final String TABLE_LABEL = "FBS to PBS Allocations";
+
+    private static final String FILTER_WIDGET_DESCRIPTION_ID = "irt://easymod/widget/table/filter";
+
+    private static final String SORT_WIDGET_DESCRIPTION_ID = "irt://easymod/widget/table/sort";
+
+    private static final String PAGE_WIDGET_DESCRIPTION_ID = "irt://easymod/widget/table/page";
+
+    private final AllocationTableStates states = new AllocationTableStates();
 
     private final AQLInterpreter interpreter;
 
@@ -66,17 +92,18 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
 
     private final EasymodFBSToPBSService easymodFBSToPBSService;
 
-    public EasymodTableDescriptionFactory(AQLInterpreter interpreter, Function<VariableManager, String> targetObjectIdProvider, IObjectService objectService, IIdentityService identityService) {
+    public EasymodTableDescriptionFactory(AQLInterpreter interpreter, Function<VariableManager, String> targetObjectIdProvider, IObjectService objectService, IIdentityService identityService,
+            EasymodFBSToPBSService easymodFBSToPBSService) {
         this.interpreter = Objects.requireNonNull(interpreter);
         this.targetObjectIdProvider = Objects.requireNonNull(targetObjectIdProvider);
         this.identityService = Objects.requireNonNull(identityService);
         this.objectService = Objects.requireNonNull(objectService);
-        this.easymodFBSToPBSService = new EasymodFBSToPBSService();
+        this.easymodFBSToPBSService = Objects.requireNonNull(easymodFBSToPBSService);
     }
 
     public AbstractControlDescription generateDescription() {
         EasymodTableDescriptionBuilderHelper helper = new EasymodTableDescriptionBuilderHelper(easymodFBSToPBSService);
-        var labelProvider = this.getStringValueProvider(TABLE_LABEL_EXPRESSION);
+        Function<VariableManager, String> labelProvider = variableManager -> TABLE_LABEL;
 
         CellDescription cellDescription = CellDescription.newCellDescription(CELL_DESCRIPTION_ID)
                 .targetObjectIdProvider(vm -> "")
@@ -92,7 +119,7 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
         LineDescription lineDescription = LineDescription.newLineDescription(UUID.nameUUIDFromBytes(LINE_DESCRIPTION_ID.getBytes()))
                 .targetObjectIdProvider(this::getTargetObjectId)
                 .targetObjectKindProvider(this::getTargetObjectId)
-                .semanticElementsProvider(variableManager -> (List<Object>) this.getLineSemanticElements(variableManager, easymodFBSToPBSService))
+                .semanticElementsProvider(variableManager -> (List<Object>) this.getLineSemanticElements(variableManager))
                 .build();
 
         ColumnDescription functionColumnDescription = ColumnDescription.newColumnDescription(UUID.nameUUIDFromBytes(FUNCTIONS_COLUMN_ID.getBytes()))
@@ -109,10 +136,17 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
                 .semanticElementsProvider(variableManager -> List.of(PRODUCTS_COLUMN_LABEL))
                 .build();
 
+        ColumnDescription coverageColumnDescription = ColumnDescription.newColumnDescription(UUID.nameUUIDFromBytes(COVERAGE_COLUMN_ID.getBytes()))
+                .labelProvider(variableManager -> COVERAGE_COLUMN_LABEL) // column title
+                .targetObjectIdProvider(variableManager -> COVERAGE_COLUMN_LABEL)
+                .targetObjectKindProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> List.of(COVERAGE_COLUMN_LABEL))
+                .build();
+
         TableDescription tableDescription = TableDescription.newTableDescription(TABLE_DESCRIPTION_ID)
                 .labelProvider(labelProvider)
                 .lineDescriptions((List<LineDescription>) List.of(lineDescription))
-                .columnDescriptions(List.of(functionColumnDescription, productColumnDescription))
+                .columnDescriptions(List.of(functionColumnDescription, productColumnDescription, coverageColumnDescription))
                 .targetObjectIdProvider(this::getTargetObjectId)
                 .targetObjectKindProvider(this::getTargetObjectKind)
                 .cellDescription(cellDescription)
@@ -131,18 +165,122 @@ public class EasymodTableDescriptionFactory extends AbstractControlDescription {
                 .build();
     }
 
-    private List<? extends Object> getLineSemanticElements(VariableManager variableManager, EasymodFBSToPBSService service) {
-        return variableManager.get(VariableManager.SELF, org.eclipse.syson.sysml.Package.class).stream()
-                .map(service::extractNotifier)
-                .flatMap(List::stream)
-                .filter(ActionUsage.class::isInstance)
-                .map(ActionUsage.class::cast)
-                .toList();
+    /**
+     * Create the widgets used to filter, sort and page the lines of the table.
+     *
+     * @return the filter, sort and page widget descriptions
+     */
+    public List<AbstractControlDescription> generateQueryDescriptions() {
+        AbstractControlDescription filterDescription = TextfieldDescription.newTextfieldDescription(FILTER_WIDGET_DESCRIPTION_ID)
+                .targetObjectIdProvider(this.targetObjectIdProvider)
+                .idProvider(new WidgetIdProvider())
+                .labelProvider(variableManager -> "Filter")
+                .iconURLProvider(variableManager -> List.of())
+                .isReadOnlyProvider(variableManager -> false)
+                .valueProvider(variableManager -> this.getQuery(variableManager).filter())
+                .newValueHandler((variableManager, newValue) -> this.updateQuery(variableManager, query -> query.withFilter(newValue)))
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(object -> "")
+                .messageProvider(object -> "")
+                .build();
+
+        AbstractControlDescription sortDescription = SelectDescription.newSelectDescription(SORT_WIDGET_DESCRIPTION_ID)
+                .targetObjectIdProvider(this.targetObjectIdProvider)
+                .idProvider(new WidgetIdProvider())
+                .labelProvider(variableManager -> "Sort by")
+                .iconURLProvider(variableManager -> List.of())
+                .isReadOnlyProvider(variableManager -> false)
+                .valueProvider(variableManager -> this.getQuery(variableManager).sortKey().name())
+                .optionsProvider(variableManager -> List.of(AllocationTableSortKey.values()))
+                .optionIdProvider(variableManager -> this.getCandidate(variableManager, AllocationTableSortKey.class).map(AllocationTableSortKey::name).orElse(""))
+                .optionLabelProvider(variableManager -> this.getCandidate(variableManager, AllocationTableSortKey.class).map(AllocationTableSortKey::getLabel).orElse(""))
+                .optionIconURLProvider(variableManager -> List.of())
+                .newValueHandler((variableManager, newValue) -> this.updateQuery(variableManager, query -> query.withSortKey(AllocationTableSortKey.valueOf(newValue))))
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(object -> "")
+                .messageProvider(object -> "")
+                .build();
+
+        AbstractControlDescription pageDescription = SelectDescription.newSelectDescription(PAGE_WIDGET_DESCRIPTION_ID)
+                .targetObjectIdProvider(this.targetObjectIdProvider)
+                .idProvider(new WidgetIdProvider())
+                .labelProvider(this::getPageLabel)
+                .iconURLProvider(variableManager -> List.of())
+                .isReadOnlyProvider(variableManager -> false)
+                .valueProvider(variableManager -> String.valueOf(this.getEffectivePageIndex(variableManager)))
+                .optionsProvider(this::getPageIndexes)
+                .optionIdProvider(variableManager -> this.getCandidate(variableManager, Integer.class).map(String::valueOf).orElse(""))
+                .optionLabelProvider(variableManager -> this.getCandidate(variableManager, Integer.class).map(pageIndex -> String.valueOf(pageIndex + 1)).orElse(""))
+                .optionIconURLProvider(variableManager -> List.of())
+                .newValueHandler((variableManager, newValue) -> this.updateQuery(variableManager, query -> query.withPageIndex(Integer.parseInt(newValue))))
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(object -> "")
+                .messageProvider(object -> "")
+                .build();
+
+        return List.of(filterDescription, sortDescription, pageDescription);
+    }
+
+    private List<? extends Object> getLineSemanticElements(VariableManager variableManager) {
+        return this.getSelection(variableManager)
+                .map(selection -> selection.query().page(selection.lines()))
+                .orElse(List.of());
+    }
+
+    private List<Integer> getPageIndexes(VariableManager variableManager) {
+        int pageCount = this.getSelection(variableManager)
+                .map(selection -> selection.query().getPageCount(selection.lines().size()))
+                .orElse(1);
+        return IntStream.range(0, pageCount).boxed().toList();
+    }
+
+    private int getEffectivePageIndex(VariableManager variableManager) {
+        return this.getSelection(variableManager)
+                .map(selection -> Math.min(selection.query().pageIndex(), selection.query().getPageCount(selection.lines().size()) - 1))
+                .orElse(0);
+    }
+
+    private String getPageLabel(VariableManager variableManager) {
+        int lineCount = this.getSelection(variableManager).map(selection -> selection.lines().size()).orElse(0);
+        return "Page (" + lineCount + " functions)";
+    }
+
+    /**
+     * Get the filtered and sorted lines of the table of the current form.
+     *
+     * @param variableManager
+     *            the variable manager of the table, holding the allocation statistics computed once for the whole form
+     * @return the lines of the table, if the current element is a package
+     */
+    private Optional<Selection> getSelection(VariableManager variableManager) {
+        String formId = this.getFormId(variableManager);
+        return variableManager.get(VariableManager.SELF, org.eclipse.syson.sysml.Package.class)
+                .flatMap(pkg -> variableManager.get(AllocationStatistics.VARIABLE_NAME, AllocationStatistics.class)
+                        .map(statistics -> this.states.getSelection(formId, pkg, statistics)));
+    }
+
+    private AllocationTableQuery getQuery(VariableManager variableManager) {
+        return this.states.getQuery(this.getFormId(variableManager));
+    }
+
+    private IStatus updateQuery(VariableManager variableManager, UnaryOperator<AllocationTableQuery> update) {
+        String formId = this.getFormId(variableManager);
+        if (formId == null) {
+            return new Failure("");
+        }
+        this.states.updateQuery(formId, update);
+        return new Success();
+    }
+
+    /**
+     * Get the id of the form being rendered, it is only known once the form has been created.
+     */
+    private String getFormId(VariableManager variableManager) {
+        return variableManager.get(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, String.class).orElse(null);
     }
 
-    private StringValueProvider getStringValueProvider(String valueExpression) {
-        String safeValueExpression = Optional.ofNullable(valueExpression).orElse("");
-        return new StringValueProvider(this.interpreter, safeValueExpression);
+    private <T> Optional<T> getCandidate(VariableManager variableManager, Class<T> type) {
+        return variableManager.get(SelectComponent.CANDIDATE_VARIABLE, type);
     }
 
     private String getTargetObjectId(VariableManager variableManager) {
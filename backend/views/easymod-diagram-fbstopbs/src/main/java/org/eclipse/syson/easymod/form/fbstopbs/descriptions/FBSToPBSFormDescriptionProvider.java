@@ -14,6 +14,7 @@ package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
@@ -30,14 +31,17 @@ import org.eclipse.sirius.components.forms.description.FormDescription;
 import org.eclipse.sirius.components.forms.description.GroupDescription;
 import org.eclipse.sirius.components.forms.description.PageDescription;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
-import org.eclipse.sirius.components.interpreter.Result;
 import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
 import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
 import org.eclipse.syson.easymod.form.fbstopbs.services.EasymodFBSToPBSService;
-import org.eclipse.syson.sysml.SysmlPackage;
 
 /**
  * Description of the FBStoPBS Form.
+ * <p>
+ * The form is created for each editing context, with the interpreter and the services of this editing context. The
+ * constant labels and candidates are plain functions, they are not evaluated by the interpreter.
+ * </p>
  *
  * @author ebausson
  */
@@ -53,6 +57,15 @@ public class FBSToPBSFormDescriptionProvider {
 
     private static final String FBS_TO_PBS_FORM_GROUP_ID = FORM_ID + "_GROUP";
 
+    private final EasymodFBSToPBSService service;
+
+    private final AQLInterpreter interpreter;
+
+    public FBSToPBSFormDescriptionProvider(EasymodFBSToPBSService service, AQLInterpreter interpreter) {
+        this.service = Objects.requireNonNull(service);
+        this.interpreter = Objects.requireNonNull(interpreter);
+    }
+
     public FormDescription createFormDescription(IObjectService objectService, IIdentityService identityService) {
 
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> this.self(variableManager)
@@ -71,32 +84,32 @@ public class FBSToPBSFormDescriptionProvider {
 
     private List<PageDescription> getPageDescriptions(Function<VariableManager, String> targetObjectIdProvider, IObjectService objectService, IIdentityService identityService) {
 
-        AQLInterpreter interpreter = createAQLInterpreter();
-
         var onlyPage = PageDescription.newPageDescription(this.getIdFromName(FBSToPBSFormDescriptionProvider.PAGE_ID))
                 .idProvider(new GetOrCreateRandomIdProvider())
                 .labelProvider(x -> "")
-                .semanticElementsProvider(variableManager -> this.getSelfSemanticElementsProvider(interpreter, variableManager))
+                .semanticElementsProvider(this::getPageSemanticElements)
                 .canCreatePredicate(x -> true)
-                .groupDescriptions(List.of(getGroupDescription(interpreter, targetObjectIdProvider, objectService, identityService)))
+                .groupDescriptions(List.of(this.getGroupDescription(targetObjectIdProvider, objectService, identityService)))
                 .build();
         return List.of(onlyPage);
     }
 
-    private GroupDescription getGroupDescription(AQLInterpreter interpreter, Function<VariableManager, String> targetObjectIdProvider, IObjectService objectService, IIdentityService identityService) {
+    private GroupDescription getGroupDescription(Function<VariableManager, String> targetObjectIdProvider, IObjectService objectService, IIdentityService identityService) {
 
-        AbstractControlDescription piechartDescription = new EasymodPieChartDescriptionFactory(interpreter,
-                targetObjectIdProvider).generateDescription();
+        AbstractControlDescription piechartDescription = new EasymodPieChartDescriptionFactory(this.interpreter, targetObjectIdProvider).generateDescription();
 
-        AbstractControlDescription tableDescription = new EasymodTableDescriptionFactory(interpreter, targetObjectIdProvider, objectService, identityService)
-                .generateDescription();
+        EasymodTableDescriptionFactory tableDescriptionFactory = new EasymodTableDescriptionFactory(this.interpreter, targetObjectIdProvider, objectService, identityService, this.service);
+        List<AbstractControlDescription> controlDescriptions = new ArrayList<>();
+        controlDescriptions.add(piechartDescription);
+        controlDescriptions.addAll(tableDescriptionFactory.generateQueryDescriptions());
+        controlDescriptions.add(tableDescriptionFactory.generateDescription());
 
         return GroupDescription.newGroupDescription(this.getIdFromName(FBSToPBSFormDescriptionProvider.FBS_TO_PBS_FORM_GROUP_ID))
                 .idProvider(new GetOrCreateRandomIdProvider())
                 .labelProvider(x -> "")
                 .displayModeProvider(x -> GroupDisplayMode.LIST)
-                .semanticElementsProvider(variableManager -> this.getSelfSemanticElementsProvider(interpreter, variableManager))
-                .controlDescriptions(List.of(piechartDescription, tableDescription))
+                .semanticElementsProvider(this::getSelfSemanticElements)
+                .controlDescriptions(controlDescriptions)
                 .toolbarActionDescriptions(new ArrayList<ButtonDescription>())
                 .displayModeProvider(variableManager -> GroupDisplayMode.LIST)
                 .borderStyleProvider(this.getBorderStyleProvider())
@@ -111,17 +124,29 @@ public class FBSToPBSFormDescriptionProvider {
         return variableManager.get(VariableManager.SELF, Object.class);
     }
 
-    private List<?> getSelfSemanticElementsProvider(AQLInterpreter interpreter, VariableManager variableManager) {
-        return getSemanticElementsProvider(interpreter, "aql:self", variableManager);
+    /**
+     * Equivalent to the {@code aql:self} semantic candidates expression of the page. The allocation statistics of the
+     * model are computed here, once per rendering of the form, and shared with the pie chart and the table through the
+     * {@link AllocationStatistics#VARIABLE_NAME} variable of the form.
+     */
+    private List<?> getPageSemanticElements(VariableManager variableManager) {
+        List<?> semanticElements = this.getSelfSemanticElements(variableManager);
+        semanticElements.stream()
+                .findFirst()
+                .map(EObject.class::cast)
+                .map(this.service::getAllocationStatistics)
+                .ifPresent(statistics -> variableManager.put(AllocationStatistics.VARIABLE_NAME, statistics));
+        return semanticElements;
     }
 
-    private List<?> getSemanticElementsProvider(AQLInterpreter interpreter, String semanticCandidatesExpression, VariableManager variableManager) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), semanticCandidatesExpression);
-        List<Object> candidates = result.asObjects().orElse(List.of());
-        return candidates.stream()
+    /**
+     * Equivalent to the {@code aql:self} semantic candidates expression, without evaluating it.
+     */
+    private List<?> getSelfSemanticElements(VariableManager variableManager) {
+        return this.self(variableManager)
                 .filter(EObject.class::isInstance)
-                .map(EObject.class::cast)
-                .toList();
+                .map(List::of)
+                .orElse(List.of());
     }
 
     private Function<VariableManager, ContainerBorderStyle> getBorderStyleProvider() {
@@ -132,9 +157,4 @@ public class FBSToPBSFormDescriptionProvider {
         };
     }
 
-    private AQLInterpreter createAQLInterpreter() {
-        EasymodFBSToPBSService service = new EasymodFBSToPBSService();
-        return new AQLInterpreter(List.of(), List.of(service), List.of(SysmlPackage.eINSTANCE));
-    }
-
 }
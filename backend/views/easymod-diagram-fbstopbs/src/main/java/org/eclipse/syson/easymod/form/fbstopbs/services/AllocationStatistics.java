@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModTraversal;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PartUsage;
+
+/**
+ * Snapshot of the allocation of the functions of a model on its products.
+ * <p>
+ * The snapshot is computed with a single traversal of the model and shared by all the widgets of the allocation
+ * cockpit through the {@link #VARIABLE_NAME} variable.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class AllocationStatistics {
+
+    /**
+     * The name of the variable holding the statistics of the current form.
+     */
+    public static final String VARIABLE_NAME = "allocationStatistics";
+
+    private final List<ActionUsage> functions;
+
+    private final Set<ActionUsage> allocatedFunctions;
+
+    private final Set<ActionUsage> unallocatedFunctions;
+
+    private final Map<PartUsage, Integer> allocatedFunctionCountByProduct;
+
+    private final Map<ActionUsage, PartUsage> productByFunction;
+
+    private AllocationStatistics(List<ActionUsage> functions, Set<ActionUsage> allocatedFunctions, Set<ActionUsage> unallocatedFunctions, Map<PartUsage, Integer> allocatedFunctionCountByProduct,
+            Map<ActionUsage, PartUsage> productByFunction) {
+        this.functions = Objects.requireNonNull(functions);
+        this.allocatedFunctions = Objects.requireNonNull(allocatedFunctions);
+        this.unallocatedFunctions = Objects.requireNonNull(unallocatedFunctions);
+        this.allocatedFunctionCountByProduct = Objects.requireNonNull(allocatedFunctionCountByProduct);
+        this.productByFunction = Objects.requireNonNull(productByFunction);
+    }
+
+    /**
+     * Compute the statistics of the model containing the given element.
+     *
+     * @param element
+     *            an element of the model
+     * @return the allocation statistics of the model
+     */
+    public static AllocationStatistics compute(EObject element) {
+        List<ActionUsage> functions = new ArrayList<>();
+        Set<ActionUsage> allocatedFunctions = new LinkedHashSet<>();
+        Map<PartUsage, Integer> allocatedFunctionCountByProduct = new LinkedHashMap<>();
+        Map<ActionUsage, PartUsage> productByFunction = new HashMap<>();
+
+        EasyModTraversal.ofModel(element).skippingStandardLibraries().forEach(content -> {
+            if (content instanceof ActionUsage function) {
+                functions.add(function);
+            }
+            if (content instanceof AllocationUsage allocation) {
+                registerProduct(allocation, productByFunction);
+            }
+            if (content instanceof AllocationUsage allocation && EasyModModelIndex.isSingleAllocation(allocation)) {
+                Element source = allocation.getSource().get(0);
+                if (source instanceof ActionUsage function) {
+                    allocatedFunctions.add(function);
+                    if (allocation.getTarget().get(0) instanceof PartUsage product) {
+                        allocatedFunctionCountByProduct.merge(product, 1, Integer::sum);
+                    }
+                }
+            }
+        });
+
+        Set<ActionUsage> unallocatedFunctions = new LinkedHashSet<>();
+        for (ActionUsage function : functions) {
+            if (!allocatedFunctions.contains(function)) {
+                unallocatedFunctions.add(function);
+            }
+        }
+        return new AllocationStatistics(Collections.unmodifiableList(functions), Collections.unmodifiableSet(allocatedFunctions), Collections.unmodifiableSet(unallocatedFunctions),
+                Collections.unmodifiableMap(allocatedFunctionCountByProduct), productByFunction);
+    }
+
+    private static void registerProduct(AllocationUsage allocation, Map<ActionUsage, PartUsage> productByFunction) {
+        allocation.getTarget().stream()
+                .filter(PartUsage.class::isInstance)
+                .map(PartUsage.class::cast)
+                .findFirst()
+                .ifPresent(product -> allocation.getSource().stream()
+                        .filter(ActionUsage.class::isInstance)
+                        .map(ActionUsage.class::cast)
+                        .forEach(function -> productByFunction.putIfAbsent(function, product)));
+    }
+
+    /**
+     * Get all the functions of the model, in the order of the model.
+     *
+     * @return the functions of the model
+     */
+    public List<ActionUsage> getFunctions() {
+        return this.functions;
+    }
+
+    public Set<ActionUsage> getAllocatedFunctions() {
+        return this.allocatedFunctions;
+    }
+
+    public Set<ActionUsage> getUnallocatedFunctions() {
+        return this.unallocatedFunctions;
+    }
+
+    /**
+     * Get the number of functions allocated on each product.
+     *
+     * @return the number of functions allocated on each product
+     */
+    public Map<PartUsage, Integer> getAllocatedFunctionCountByProduct() {
+        return this.allocatedFunctionCountByProduct;
+    }
+
+    /**
+     * Get the product on which the given function is allocated.
+     *
+     * @param function
+     *            a function of the model
+     * @return the first product on which the given function is allocated, if any
+     */
+    public Optional<PartUsage> getAllocatedProduct(ActionUsage function) {
+        return Optional.ofNullable(this.productByFunction.get(function));
+    }
+}
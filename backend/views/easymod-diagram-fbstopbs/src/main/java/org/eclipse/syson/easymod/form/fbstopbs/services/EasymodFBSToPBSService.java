@@ -14,11 +14,13 @@ package org.eclipse.syson.easymod.form.fbstopbs.services;
 
 import java.util.List;
 
-import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.syson.easymod.diagram.services.AllocationCoverage;
+import org.eclipse.syson.easymod.diagram.services.AllocationCoverageRollup;
 import org.eclipse.syson.easymod.diagram.services.EasyModCommonServices;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
 import org.eclipse.syson.sysml.ActionUsage;
-import org.eclipse.syson.sysml.AllocationUsage;
-import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.PartUsage;
 
 /**
@@ -28,74 +30,132 @@ import org.eclipse.syson.sysml.PartUsage;
  */
 public class EasymodFBSToPBSService extends EasyModCommonServices {
 
+    /**
+     * Constructor.
+     *
+     * @param serviceMetrics
+     *            the instrumentation of the calls of the services
+     */
+    public EasymodFBSToPBSService(EasyModServiceMetrics serviceMetrics) {
+        super(serviceMetrics);
+    }
+
+    /**
+     * Return the allocation statistics of the model containing the given element.
+     * <p>
+     * The statistics are computed once and kept by the model index until the next semantic change.
+     * </p>
+     *
+     * @param element
+     *            the Element the form is part of.
+     * @return the allocation statistics of the model of the given element.
+     */
+    public AllocationStatistics getAllocationStatistics(EObject element) {
+        return this.measure("getAllocationStatistics", () -> this.getCachedAllocationStatistics(element));
+    }
+
     /**
      * Return the PieChart Data.
      * 
-     * @param element
-     *            the Element the piechart form is part of.
+     * @param statistics
+     *            the allocation statistics of the form.
      * @return A list of 2 numbers: the number of allocated functions followed by the number of unallocated functions.
      */
-    public List<Number> getAttributionPieChartData(Element element) {
-        List<Notifier> notifiers = this.extractNotifier(element);
-        List<ActionUsage> allocatedFunctions = this.getAllocatedFunctions(notifiers);
-        List<ActionUsage> unallocatedFunctions = this.getUnallocatedFunctions(notifiers);
-        return List.of(allocatedFunctions.size(), unallocatedFunctions.size());
+    public List<Number> getAttributionPieChartData(AllocationStatistics statistics) {
+        return this.measure("getAttributionPieChartData", () -> List.of(statistics.getAllocatedFunctions().size(), statistics.getUnallocatedFunctions().size()));
     }
 
     /**
      * Return the PieChart key values.
      * 
-     * @param element
-     *            the Element the piechart form is part of.
+     * @param statistics
+     *            the allocation statistics of the form.
      * @return the list of key value : {Allocated, To allocate}
      */
-    public List<String> getPieChartKeyValue(Element element) {
-        String toAllocate = "To allocate";
-        String allocated = "Allocated";
-        List<Notifier> notifiers = this.extractNotifier(element);
-        List<ActionUsage> allocatedFunctions = this.getAllocatedFunctions(notifiers);
-        List<ActionUsage> unallocatedFunctions = this.getUnallocatedFunctions(notifiers);
-        if (allocatedFunctions.size() == 0) {
-            allocated = "";
-        }
-        if (unallocatedFunctions.size() == 0) {
-            toAllocate = "";
-        }
-        return List.of(allocated, toAllocate);
+    public List<String> getPieChartKeyValue(AllocationStatistics statistics) {
+        return this.measure("getPieChartKeyValue", () -> {
+            String toAllocate = "To allocate";
+            String allocated = "Allocated";
+            if (statistics.getAllocatedFunctions().isEmpty()) {
+                allocated = "";
+            }
+            if (statistics.getUnallocatedFunctions().isEmpty()) {
+                toAllocate = "";
+            }
+            return List.of(allocated, toAllocate);
+        });
     }
 
-    private List<ActionUsage> getAllocatedFunctions(List<Notifier> notifiers) {
-        return notifiers.stream()
-                .filter(AllocationUsage.class::isInstance)
-                .map(AllocationUsage.class::cast)
-                .filter(allocation -> allocation.getTarget().size() == 1)
-                .filter(allocation -> allocation.getSource().size() == 1)
-                .map(allocation -> allocation.getSource().get(0))
-                .filter(ActionUsage.class::isInstance)
-                .map(ActionUsage.class::cast)
-                .toList();
+    /**
+     * Return the product on which the given function is allocated.
+     * 
+     * @param statistics
+     *            the allocation statistics of the form.
+     * @param function
+     *            the function.
+     * @return the product on which the function is allocated, or {@code null} if the function is not allocated.
+     */
+    public PartUsage getAllocatedProductIfExist(AllocationStatistics statistics, ActionUsage function) {
+        return this.measure("getAllocatedProductIfExist", () -> statistics.getAllocatedProduct(function).orElse(null));
     }
 
-    private List<ActionUsage> getUnallocatedFunctions(List<Notifier> notifiers) {
-        List<ActionUsage> allocatedFunctions = this.getAllocatedFunctions(notifiers);
-        return notifiers.stream()
-                .filter(ActionUsage.class::isInstance)
-                .map(ActionUsage.class::cast)
-                .filter(function -> !allocatedFunctions.contains(function))
-                .toList();
+    /**
+     * Return the product on which the given function is allocated, using the allocation statistics of its model.
+     *
+     * @param function
+     *            the function.
+     * @return the product on which the function is allocated, or {@code null} if the function is not allocated.
+     */
+    public PartUsage getAllocatedProductIfExist(ActionUsage function) {
+        return this.measure("getAllocatedProductIfExist", () -> this.getCachedAllocationStatistics(function).getAllocatedProduct(function).orElse(null));
     }
 
-    public PartUsage getAllocatedProductIfExist(ActionUsage function) {
-        return extractNotifier(function).stream()
-                .filter(AllocationUsage.class::isInstance)
-                .map(AllocationUsage.class::cast)
-                .filter(allocation -> allocation.getSource().contains(function))
-                .map(AllocationUsage::getTarget)
-                .flatMap(List::stream)
-                .filter(PartUsage.class::isInstance)
-                .map(PartUsage.class::cast)
-                .findFirst()
-                .orElse(null);
+    /**
+     * Return the allocation coverage of the given function and of its sub-functions.
+     * <p>
+     * The coverage of all the branches of the model is computed once and then updated when allocations are added or
+     * removed, see {@link AllocationCoverageRollup}.
+     * </p>
+     *
+     * @param function
+     *            the function.
+     * @return the allocation coverage of the subtree of the function.
+     */
+    public AllocationCoverage getFunctionCoverage(ActionUsage function) {
+        return this.measure("getFunctionCoverage", () -> AllocationCoverageRollup.getOrCreate(function).getFunctionCoverage(function));
     }
 
+    /**
+     * Return the number of functions allocated on the given logical constituent and on its sub-constituents.
+     *
+     * @param constituent
+     *            the logical constituent.
+     * @return the allocation coverage of the subtree of the constituent, compared to all the functions of the model.
+     */
+    public AllocationCoverage getConstituentCoverage(PartUsage constituent) {
+        return this.measure("getConstituentCoverage", () -> AllocationCoverageRollup.getOrCreate(constituent).getConstituentCoverage(constituent));
+    }
+
+    /**
+     * Return the allocation coverage of the model containing the given element.
+     *
+     * @param element
+     *            the Element the form is part of.
+     * @return the allocation coverage of all the functions of the model.
+     */
+    public AllocationCoverage getModelCoverage(EObject element) {
+        return this.measure("getModelCoverage", () -> AllocationCoverageRollup.getOrCreate(element).getModelCoverage());
+    }
+
+    /**
+     * Get the allocation statistics kept by the model index, without measuring the call, so that the measured services
+     * using them are only counted once.
+     */
+    private AllocationStatistics getCachedAllocationStatistics(EObject element) {
+        Object scope = element;
+        if (element.eResource() != null) {
+            scope = element.eResource();
+        }
+        return EasyModModelIndex.getOrCreate(element).getDerivedValue(List.of(AllocationStatistics.class, scope), () -> AllocationStatistics.compute(element));
+    }
 }
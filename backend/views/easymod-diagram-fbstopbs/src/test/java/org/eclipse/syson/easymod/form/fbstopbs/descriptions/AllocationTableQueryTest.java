@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.PartUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the filter, sort and paging of {@link AllocationTableQuery} on a generated SEIM model.
+ *
+ * @author ebausson
+ */
+public class AllocationTableQueryTest {
+
+    private static final int PAGE_SIZE = 17;
+
+    private AllocationStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        SEIMModelResource model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(2_000)), new ResourceSetImpl());
+        this.statistics = AllocationStatistics.compute(model.functionalPackage());
+    }
+
+    @Test
+    public void testPagesCoverAllTheLines() {
+        AllocationTableQuery query = new AllocationTableQuery("", AllocationTableSortKey.FUNCTION, 0, PAGE_SIZE);
+        List<ActionUsage> lines = query.select(this.statistics);
+        assertThat(lines).hasSameSizeAs(this.statistics.getFunctions()).hasSizeGreaterThan(PAGE_SIZE * 2);
+
+        int pageCount = query.getPageCount(lines.size());
+        assertThat(pageCount).isEqualTo((lines.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        List<ActionUsage> pagedLines = new ArrayList<>();
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            List<ActionUsage> page = query.withPageIndex(pageIndex).page(lines);
+            assertThat(page).isNotEmpty().hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            pagedLines.addAll(page);
+        }
+        assertThat(pagedLines).containsExactlyElementsOf(lines);
+    }
+
+    @Test
+    public void testPageIndexOutOfRange() {
+        AllocationTableQuery query = new AllocationTableQuery("", AllocationTableSortKey.FUNCTION, 0, PAGE_SIZE);
+        List<ActionUsage> lines = query.select(this.statistics);
+        int lastPageIndex = query.getPageCount(lines.size()) - 1;
+
+        assertThat(query.withPageIndex(lastPageIndex + 10).page(lines)).isEqualTo(query.withPageIndex(lastPageIndex).page(lines));
+        assertThat(query.withPageIndex(-1).pageIndex()).isZero();
+        assertThat(query.getPageCount(0)).isEqualTo(1);
+        assertThat(query.withPageIndex(3).page(List.of())).isEmpty();
+    }
+
+    @Test
+    public void testFilterOnFunctionNames() {
+        AllocationTableQuery query = AllocationTableQuery.initial().withPageIndex(2).withFilter(" f1_2 ");
+
+        assertThat(query.pageIndex()).isZero();
+        assertThat(query.select(this.statistics)).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(this.statistics.getFunctions().stream().filter(function -> this.contains(function.getDeclaredName(), "f1_2")).toList());
+    }
+
+    @Test
+    public void testFilterOnProductNames() {
+        AllocationTableQuery query = AllocationTableQuery.initial().withFilter("C2_");
+
+        assertThat(query.select(this.statistics)).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(this.statistics.getFunctions().stream()
+                        .filter(function -> this.contains(function.getDeclaredName(), "c2_")
+                                || this.statistics.getAllocatedProduct(function).filter(product -> this.contains(product.getDeclaredName(), "c2_")).isPresent())
+                        .toList());
+    }
+
+    @Test
+    public void testSortByFunction() {
+        List<ActionUsage> lines = AllocationTableQuery.initial().select(this.statistics);
+
+        assertThat(lines).extracting(ActionUsage::getDeclaredName).isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    @Test
+    public void testSortByProduct() {
+        List<ActionUsage> lines = AllocationTableQuery.initial().withSortKey(AllocationTableSortKey.PRODUCT).select(this.statistics);
+
+        assertThat(lines).hasSameSizeAs(this.statistics.getFunctions())
+                .extracting(function -> this.statistics.getAllocatedProduct(function).map(PartUsage::getDeclaredName).orElse(""))
+                .isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER);
+    }
+
+    @Test
+    public void testSortByStatus() {
+        List<ActionUsage> lines = AllocationTableQuery.initial().withSortKey(AllocationTableSortKey.STATUS).select(this.statistics);
+        int unallocatedCount = this.statistics.getUnallocatedFunctions().size();
+
+        assertThat(lines.subList(0, unallocatedCount)).containsExactlyInAnyOrderElementsOf(this.statistics.getUnallocatedFunctions())
+                .extracting(ActionUsage::getDeclaredName)
+                .isSortedAccordingTo(String.CASE_INSENSITIVE_ORDER);
+        assertThat(lines.subList(unallocatedCount, lines.size())).containsExactlyInAnyOrderElementsOf(this.statistics.getAllocatedFunctions())
+                .isSortedAccordingTo(Comparator.comparing(ActionUsage::getDeclaredName, String.CASE_INSENSITIVE_ORDER));
+    }
+
+    private boolean contains(String name, String normalizedFilter) {
+        return name != null && name.toLowerCase(Locale.ROOT).contains(normalizedFilter);
+    }
+}
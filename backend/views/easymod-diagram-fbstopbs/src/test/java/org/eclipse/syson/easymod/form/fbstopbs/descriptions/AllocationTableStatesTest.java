@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.form.fbstopbs.descriptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.syson.easymod.form.fbstopbs.descriptions.AllocationTableStates.Selection;
+import org.eclipse.syson.easymod.form.fbstopbs.services.AllocationStatistics;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the queries and of the selections kept by {@link AllocationTableStates}.
+ *
+ * @author ebausson
+ */
+public class AllocationTableStatesTest {
+
+    private static final String FORM_ID = "formId";
+
+    private static final String OTHER_FORM_ID = "otherFormId";
+
+    private final AllocationTableStates states = new AllocationTableStates();
+
+    private SEIMModelResource model;
+
+    private AllocationStatistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(500)), new ResourceSetImpl());
+        this.statistics = AllocationStatistics.compute(this.model.functionalPackage());
+    }
+
+    @Test
+    public void testQueriesAreKeptByForm() {
+        this.states.updateQuery(FORM_ID, query -> query.withFilter("F1"));
+
+        assertThat(this.states.getQuery(FORM_ID).filter()).isEqualTo("F1");
+        assertThat(this.states.getQuery(OTHER_FORM_ID)).isEqualTo(AllocationTableQuery.initial());
+        assertThat(this.states.getQuery(null)).isEqualTo(AllocationTableQuery.initial());
+    }
+
+    @Test
+    public void testOldestQueriesAreEvicted() {
+        this.states.updateQuery(FORM_ID, query -> query.withFilter("F1"));
+        for (int i = 0; i < AllocationTableStates.MAX_STATES; i++) {
+            this.states.updateQuery(OTHER_FORM_ID + i, query -> query.withFilter("F2"));
+        }
+
+        assertThat(this.states.getQuery(FORM_ID)).isEqualTo(AllocationTableQuery.initial());
+        assertThat(this.states.getQuery(OTHER_FORM_ID + 1).filter()).isEqualTo("F2");
+    }
+
+    @Test
+    public void testSelectionIsReusedUntilTheQueryChanges() {
+        Selection selection = this.states.getSelection(FORM_ID, this.model.functionalPackage(), this.statistics);
+
+        assertThat(this.states.getSelection(FORM_ID, this.model.functionalPackage(), this.statistics)).isSameAs(selection);
+        assertThat(selection.lines()).hasSameSizeAs(this.statistics.getFunctions());
+
+        this.states.updateQuery(FORM_ID, query -> query.withFilter("F1_"));
+        Selection filteredSelection = this.states.getSelection(FORM_ID, this.model.functionalPackage(), this.statistics);
+
+        assertThat(filteredSelection).isNotSameAs(selection);
+        assertThat(filteredSelection.lines()).isEqualTo(this.states.getQuery(FORM_ID).select(this.statistics));
+        assertThat(this.states.getSelection(OTHER_FORM_ID, this.model.functionalPackage(), this.statistics).lines()).isEqualTo(selection.lines());
+    }
+
+    @Test
+    public void testSelectionIsDroppedOnModelChanges() {
+        Selection selection = this.states.getSelection(FORM_ID, this.model.functionalPackage(), this.statistics);
+
+        this.model.functions().get(0).setDeclaredName("Renamed");
+
+        assertThat(this.states.getSelection(FORM_ID, this.model.functionalPackage(), this.statistics)).isNotSameAs(selection);
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.syson.easymod.diagram.pbs;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.sirius.components.view.builder.IViewDiagramElementFinder;
 import org.eclipse.sirius.components.view.builder.generated.diagram.InsideLabelDescriptionBuilder;
@@ -28,7 +29,13 @@ import org.eclipse.sirius.components.view.diagram.NodeStyleDescription;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.sirius.components.view.diagram.UserResizableDirection;
 import org.eclipse.syson.diagram.common.view.nodes.AbstractNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.pbs.services.EasymodPBSService;
 import org.eclipse.syson.easymod.diagram.utils.EasyModColorConstants;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressions;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpression;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpressions;
+import org.eclipse.syson.sysml.Element;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.AQLConstants;
 import org.eclipse.syson.util.AQLUtils;
@@ -43,8 +50,19 @@ public class FunctionNodeDescriptionProvider extends AbstractNodeDescriptionProv
 
     public static final String NODE_NAME = "Function";
 
+    private static final String CANDIDATES_EXPRESSION = EasyModJavaExpressions.register("pbs.Function.candidates",
+            EasyModJavaExpression.ofService(EasymodPBSService.class, Element.class,
+                    (service, logicalConstituent, context) -> service.getFunctionsAllocatedOnLogicalConstituent(logicalConstituent)));
+
+    private final EasyModExpressionMode expressionMode;
+
     public FunctionNodeDescriptionProvider(IColorProvider colorProvider) {
+        this(colorProvider, EasyModExpressionMode.AQL);
+    }
+
+    public FunctionNodeDescriptionProvider(IColorProvider colorProvider, EasyModExpressionMode expressionMode) {
         super(colorProvider);
+        this.expressionMode = Objects.requireNonNull(expressionMode);
     }
 
     @Override
@@ -53,8 +71,8 @@ public class FunctionNodeDescriptionProvider extends AbstractNodeDescriptionProv
         return this.diagramBuilderHelper.newNodeDescription()
                 .domainType(domainType)
                 .name(this.getName())
-                .semanticCandidatesExpression(AQLUtils.getSelfServiceCallExpression("getFunctionsAllocatedOnLogicalConstituent"))
-                .insideLabel(this.generateDefaultLabel(AQLConstants.AQL_SELF + ".name"))
+                .semanticCandidatesExpression(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("getFunctionsAllocatedOnLogicalConstituent"), CANDIDATES_EXPRESSION))
+                .insideLabel(this.generateDefaultLabel(this.expressionMode.select(AQLConstants.AQL_SELF + ".name", EasyModExpressions.NAME)))
                 .defaultHeightExpression("70")
                 .defaultWidthExpression("150")
                 .userResizable(UserResizableDirection.BOTH)
@@ -14,7 +14,9 @@ package org.eclipse.syson.easymod.diagram.pbs;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.view.ChangeContext;
@@ -37,10 +39,18 @@ import org.eclipse.sirius.components.view.diagram.NodePalette;
 import org.eclipse.sirius.components.view.diagram.NodeStyleDescription;
 import org.eclipse.sirius.components.view.diagram.NodeTool;
 import org.eclipse.sirius.components.view.diagram.NodeToolSection;
+import org.eclipse.sirius.components.view.diagram.SelectionDialogDescription;
+import org.eclipse.sirius.components.view.diagram.SelectionDialogTreeDescription;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.sirius.components.view.diagram.UserResizableDirection;
 import org.eclipse.syson.diagram.common.view.nodes.AbstractNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.pbs.services.EasymodPBSService;
 import org.eclipse.syson.easymod.diagram.utils.EasyModColorConstants;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressions;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpression;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpressions;
+import org.eclipse.syson.sysml.PartUsage;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.AQLConstants;
 import org.eclipse.syson.util.AQLUtils;
@@ -55,8 +65,22 @@ public class LogicalConstituentNodeDescriptionProvider extends AbstractNodeDescr
 
     public static final String NODE_NAME = "LogicalConstituent";
 
+    private static final String CANDIDATES_EXPRESSION = EasyModJavaExpressions.register("pbs.LogicalConstituent.candidates",
+            EasyModJavaExpression.ofService(EasymodPBSService.class, EObject.class, (service, self, context) -> service.getLogicalConstituents(self, context.getEditingContext())));
+
+    private static final String OF_INTEREST_EXPRESSION = EasyModJavaExpressions.register("pbs.LogicalConstituent.ofInterest",
+            EasyModJavaExpression.ofService(EasymodPBSService.class, PartUsage.class,
+                    (service, logicalConstituent, context) -> service.isLogicalConstituentOfInterest(logicalConstituent)));
+
+    private final EasyModExpressionMode expressionMode;
+
     public LogicalConstituentNodeDescriptionProvider(IColorProvider colorProvider) {
+        this(colorProvider, EasyModExpressionMode.AQL);
+    }
+
+    public LogicalConstituentNodeDescriptionProvider(IColorProvider colorProvider, EasyModExpressionMode expressionMode) {
         super(colorProvider);
+        this.expressionMode = Objects.requireNonNull(expressionMode);
     }
 
     @Override
@@ -65,8 +89,8 @@ public class LogicalConstituentNodeDescriptionProvider extends AbstractNodeDescr
         return this.diagramBuilderHelper.newNodeDescription()
                 .domainType(domainType)
                 .name(this.getName())
-                .semanticCandidatesExpression(AQLUtils.getSelfServiceCallExpression("getLogicalConstituents", IEditingContext.EDITING_CONTEXT))
-                .insideLabel(this.generateDefaultLabel(AQLConstants.AQL_SELF + ".name"))
+                .semanticCandidatesExpression(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("getLogicalConstituents", IEditingContext.EDITING_CONTEXT), CANDIDATES_EXPRESSION))
+                .insideLabel(this.generateDefaultLabel(this.expressionMode.select(AQLConstants.AQL_SELF + ".name", EasyModExpressions.NAME)))
                 .defaultHeightExpression("70")
                 .defaultWidthExpression("150")
                 .userResizable(UserResizableDirection.BOTH)
@@ -96,7 +120,7 @@ public class LogicalConstituentNodeDescriptionProvider extends AbstractNodeDescr
 
         return this.diagramBuilderHelper
                 .newConditionalNodeStyle()
-                .condition(AQLUtils.getSelfServiceCallExpression("isLogicalConstituentOfInterest"))
+                .condition(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("isLogicalConstituentOfInterest"), OF_INTEREST_EXPRESSION))
                 .style(nodeStyleDescription)
                 .build();
     }
@@ -190,7 +214,7 @@ public class LogicalConstituentNodeDescriptionProvider extends AbstractNodeDescr
 
         NodeToolSectionBuilder sectionBuilder = this.diagramBuilderHelper.newNodeToolSection()
                 .name("MainTool")
-                .nodeTools(this.createLogicalConstituentTool());
+                .nodeTools(this.createLogicalConstituentTool(), this.createAllocateFunctionsTool());
         sections.add(sectionBuilder.build());
         sections.add(this.defaultToolsFactory.createDefaultHideRevealNodeToolSection());
 
@@ -206,6 +230,24 @@ public class LogicalConstituentNodeDescriptionProvider extends AbstractNodeDescr
         return nodeTool;
     }
 
+    private NodeTool createAllocateFunctionsTool() {
+        SelectionDialogTreeDescription selectionDialogTree = DiagramFactory.eINSTANCE.createSelectionDialogTreeDescription();
+        selectionDialogTree.setElementsExpression(AQLUtils.getSelfServiceCallExpression("getAllocatableRootFunctions"));
+        selectionDialogTree.setChildrenExpression(AQLUtils.getSelfServiceCallExpression("getAllocatableSubFunctions"));
+
+        SelectionDialogDescription selectionDialog = DiagramFactory.eINSTANCE.createSelectionDialogDescription();
+        selectionDialog.setSelectionMessage("Select the function to allocate with all its sub functions:");
+        selectionDialog.setSelectionDialogTreeDescription(selectionDialogTree);
+
+        NodeTool nodeTool = DiagramFactory.eINSTANCE.createNodeTool();
+        nodeTool.setName("Allocate functions");
+        nodeTool.setDialogDescription(selectionDialog);
+        ChangeContext allocateFunctions = ViewFactory.eINSTANCE.createChangeContext();
+        allocateFunctions.setExpression(AQLUtils.getSelfServiceCallExpression("allocateFunctionBreakdown", "selectedObject"));
+        nodeTool.getBody().add(allocateFunctions);
+        return nodeTool;
+    }
+
     private NodeTool createToogleOfInterestTool() {
         NodeTool nodeTool = DiagramFactory.eINSTANCE.createNodeTool();
         nodeTool.setName("Toogle isOfInterest");
@@ -13,6 +13,7 @@
 package org.eclipse.syson.easymod.diagram.pbs;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.sirius.components.view.builder.providers.IColorProvider;
 import org.eclipse.sirius.components.view.diagram.ConditionalNodeStyle;
@@ -22,6 +23,8 @@ import org.eclipse.sirius.components.view.diagram.NodeStyleDescription;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.sirius.components.view.diagram.UserResizableDirection;
 import org.eclipse.syson.diagram.common.view.nodes.AbstractNodeDescriptionProvider;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressions;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.AQLConstants;
 import org.eclipse.syson.util.AQLUtils;
@@ -44,8 +47,15 @@ public class LogicalConstituentPortNodeDescriptionProvider extends AbstractNodeD
 
     public static final String OUT_PORT_IMAGE_PATH = "/images/LogicalConstituentPortOutArrow.svg";
 
+    private final EasyModExpressionMode expressionMode;
+
     public LogicalConstituentPortNodeDescriptionProvider(IColorProvider colorProvider) {
+        this(colorProvider, EasyModExpressionMode.AQL);
+    }
+
+    public LogicalConstituentPortNodeDescriptionProvider(IColorProvider colorProvider, EasyModExpressionMode expressionMode) {
         super(colorProvider);
+        this.expressionMode = Objects.requireNonNull(expressionMode);
     }
 
     @Override
@@ -54,7 +64,7 @@ public class LogicalConstituentPortNodeDescriptionProvider extends AbstractNodeD
         return this.diagramBuilderHelper.newNodeDescription()
                 .domainType(domainType)
                 .name(this.getName())
-                .semanticCandidatesExpression(AQLConstants.AQL_SELF + ".nestedPort")
+                .semanticCandidatesExpression(this.expressionMode.select(AQLConstants.AQL_SELF + ".nestedPort", EasyModExpressions.NESTED_PORTS))
                 .insideLabel(null)
                 .defaultHeightExpression("10")
                 .defaultWidthExpression("10")
@@ -89,15 +99,15 @@ public class LogicalConstituentPortNodeDescriptionProvider extends AbstractNodeD
     private List<ConditionalNodeStyle> createLogicalConstituentPortConditionalNodeStyles() {
         return List.of(
                 this.diagramBuilderHelper.newConditionalNodeStyle()
-                        .condition(AQLUtils.getSelfServiceCallExpression("isInFeature"))
+                        .condition(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("isInFeature"), EasyModExpressions.IS_IN_FEATURE))
                         .style(this.createPortNodeStyleDescription(IN_PORT_IMAGE_PATH))
                         .build(),
                 this.diagramBuilderHelper.newConditionalNodeStyle()
-                        .condition(AQLUtils.getSelfServiceCallExpression("isOutFeature"))
+                        .condition(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("isOutFeature"), EasyModExpressions.IS_OUT_FEATURE))
                         .style(this.createPortNodeStyleDescription(OUT_PORT_IMAGE_PATH))
                         .build(),
                 this.diagramBuilderHelper.newConditionalNodeStyle()
-                        .condition(AQLUtils.getSelfServiceCallExpression("isInOutFeature"))
+                        .condition(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("isInOutFeature"), EasyModExpressions.IS_IN_OUT_FEATURE))
                         .style(this.createPortNodeStyleDescription(INOUT_PORT_IMAGE_PATH))
                         .build());
     }
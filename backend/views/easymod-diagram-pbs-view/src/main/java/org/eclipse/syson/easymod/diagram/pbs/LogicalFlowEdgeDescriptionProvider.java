@@ -14,6 +14,7 @@ package org.eclipse.syson.easymod.diagram.pbs;
 
 import java.util.Objects;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.view.builder.IViewDiagramElementFinder;
 import org.eclipse.sirius.components.view.builder.generated.diagram.DiagramBuilders;
@@ -28,7 +29,12 @@ import org.eclipse.sirius.components.view.diagram.EdgeStyle;
 import org.eclipse.sirius.components.view.diagram.LineStyle;
 import org.eclipse.sirius.components.view.diagram.SynchronizationPolicy;
 import org.eclipse.sirius.components.view.diagram.provider.DefaultToolsFactory;
+import org.eclipse.syson.easymod.diagram.pbs.services.EasymodPBSService;
 import org.eclipse.syson.easymod.diagram.utils.EasyModColorConstants;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressions;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpression;
+import org.eclipse.syson.easymod.diagram.view.EasyModJavaExpressions;
 import org.eclipse.syson.sysml.SysmlPackage;
 import org.eclipse.syson.util.AQLConstants;
 import org.eclipse.syson.util.AQLUtils;
@@ -41,10 +47,15 @@ import org.eclipse.syson.util.SysMLMetamodelHelper;
  */
 public class LogicalFlowEdgeDescriptionProvider implements IEdgeDescriptionProvider {
 
-    private static final String EDGE_NAME = "LogicalFlow";
+    public static final String EDGE_NAME = "LogicalFlow";
+
+    private static final String CANDIDATES_EXPRESSION = EasyModJavaExpressions.register("pbs.LogicalFlow.candidates",
+            EasyModJavaExpression.ofService(EasymodPBSService.class, EObject.class, (service, self, context) -> service.getLogicalFlows(self, context.getEditingContext())));
 
     protected final IColorProvider colorProvider;
 
+    private final EasyModExpressionMode expressionMode;
+
     private final ViewBuilders viewBuilderHelper = new ViewBuilders();
 
     private final DefaultToolsFactory defaultToolsFactory = new DefaultToolsFactory();
@@ -52,7 +63,12 @@ public class LogicalFlowEdgeDescriptionProvider implements IEdgeDescriptionProvi
     private final DiagramBuilders diagramBuilderHelper = new DiagramBuilders();
 
     public LogicalFlowEdgeDescriptionProvider(IColorProvider colorProvider) {
+        this(colorProvider, EasyModExpressionMode.AQL);
+    }
+
+    public LogicalFlowEdgeDescriptionProvider(IColorProvider colorProvider, EasyModExpressionMode expressionMode) {
         this.colorProvider = Objects.requireNonNull(colorProvider);
+        this.expressionMode = Objects.requireNonNull(expressionMode);
     }
 
     @Override
@@ -61,11 +77,11 @@ public class LogicalFlowEdgeDescriptionProvider implements IEdgeDescriptionProvi
         return this.diagramBuilderHelper.newEdgeDescription()
                 .domainType(domainType)
                 .name(EDGE_NAME)
-                .semanticCandidatesExpression(AQLUtils.getSelfServiceCallExpression("getLogicalFlows", IEditingContext.EDITING_CONTEXT))
-                .sourceNodesExpression(AQLConstants.AQL_SELF + ".source")
-                .targetNodesExpression(AQLConstants.AQL_SELF + ".target")
+                .semanticCandidatesExpression(this.expressionMode.select(AQLUtils.getSelfServiceCallExpression("getLogicalFlows", IEditingContext.EDITING_CONTEXT), CANDIDATES_EXPRESSION))
+                .sourceNodesExpression(this.expressionMode.select(AQLConstants.AQL_SELF + ".source", EasyModExpressions.SOURCES))
+                .targetNodesExpression(this.expressionMode.select(AQLConstants.AQL_SELF + ".target", EasyModExpressions.TARGETS))
                 .synchronizationPolicy(SynchronizationPolicy.SYNCHRONIZED)
-                .centerLabelExpression("aql:self.name")
+                .centerLabelExpression(this.expressionMode.select("aql:self.name", EasyModExpressions.NAME))
                 .isDomainBasedEdge(true)
                 .style(this.generateEdgeSytle())
                 .build();
@@ -12,9 +12,16 @@
  *******************************************************************************/
 package org.eclipse.syson.easymod.diagram.pbs.services;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.eclipse.emf.common.util.EList;
@@ -24,6 +31,9 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.syson.easymod.diagram.services.EasyModCommonServices;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.diagram.services.EasyModTraversal;
 import org.eclipse.syson.easymod.diagram.utils.EasyModConstants;
 import org.eclipse.syson.sysml.ActionUsage;
 import org.eclipse.syson.sysml.AllocationDefinition;
@@ -61,8 +71,11 @@ public class EasymodPBSService extends EasyModCommonServices {
      * 
      * @param objectService
      *            objectService used to retrieve semantic element from graphical node
+     * @param serviceMetrics
+     *            the instrumentation of the calls of the services
      */
-    public EasymodPBSService(IObjectService objectService) {
+    public EasymodPBSService(IObjectService objectService, EasyModServiceMetrics serviceMetrics) {
+        super(serviceMetrics);
         this.objectService = Objects.requireNonNull(objectService);
     }
 
@@ -74,7 +87,7 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return {@code true} if the diagram can be created on the provided {@code element}
      */
     public boolean canCreateDiagram(Element element) {
-        return element instanceof Package || element instanceof PartUsage;
+        return this.measure("canCreateDiagram", () -> element instanceof Package || element instanceof PartUsage);
     }
 
     /**
@@ -87,34 +100,29 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the list of {@link PartUsage} typed by SEIM::LogicalConstituent
      */
     public List<PartUsage> getLogicalConstituents(EObject eObject, IEditingContext editingContext) {
-        List<PartUsage> partUsages = List.of();
-        if (eObject instanceof Usage usage) {
-            partUsages = getSubLogicalConstituents(usage);
-        } else if (eObject instanceof Package pkg) {
-            partUsages = getMainLogicalConstituents(pkg);
-        }
-        return partUsages;
+        return this.measure("getLogicalConstituents", () -> this.getRootLogicalConstituents(eObject));
     }
 
     /**
-     * Get list of {@link InterfaceUsage} typed by SEIM::LogicalFlow contained by a given eObject.
+     * Get list of {@link InterfaceUsage} typed by SEIM::LogicalFlow connecting the logical constituents displayed on
+     * the diagram of a given eObject.
      * 
      * @param eObject
-     *            element which contain SEIM::LogicalFlow
+     *            the root of the diagram
      * @param editingContext
      *            the editing context
      * @return the list of {@link InterfaceUsage} typed by SEIM::LogicalFlow
      */
     public List<InterfaceUsage> getLogicalFlows(EObject eObject, IEditingContext editingContext) {
-        return extractNotifier(eObject).stream()
-                .filter(notifier -> notifier instanceof InterfaceUsage)
-                .map(InterfaceUsage.class::cast)
-                .filter(isTypedWith(EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME))
-                .toList();
+        return this.measure("getLogicalFlows", () -> this.getFlowsBetween(eObject, this.getVisibleLogicalConstituents(eObject), EasyModConstants.LOGICAL_CONSTITUENT_FLOW_QUALIFIED_NAME));
     }
 
     /**
      * Retrieve the list of {@link ActionUsage} typed by SEIM::Function that are allocated to the logiclaConstituent.
+     * <p>
+     * The allocations are read from the {@link EasyModModelIndex}, this service is called for each logical constituent
+     * displayed on a PBS diagram.
+     * </p>
      * 
      * @param logicalConstituent
      *            the {@link Element} expected to be a {@link PartUsage} typed by SEIM::LogicalConstituent to check
@@ -122,19 +130,15 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the list of {@link ActionUsage} typed by SEIM::Function that are allocated to the logiclaConstituent.
      */
     public List<ActionUsage> getFunctionsAllocatedOnLogicalConstituent(Element logicalConstituent) {
-        if (!(logicalConstituent instanceof PartUsage)) {
-            return List.of();
-        }
-        return extractNotifier(logicalConstituent).stream()
-                .filter(e -> e instanceof AllocationUsage)
-                .map(AllocationUsage.class::cast)
-                .filter(allocation -> allocation.getTarget().size() == 1)
-                .filter(allocation -> allocation.getTarget().get(0).equals(logicalConstituent))
-                .filter(allocation -> allocation.getSource().size() == 1)
-                .map(allocation -> allocation.getSource().get(0))
-                .filter(t -> t instanceof ActionUsage)
-                .map(ActionUsage.class::cast)
-                .toList();
+        return this.measure("getFunctionsAllocatedOnLogicalConstituent", () -> {
+            if (!(logicalConstituent instanceof PartUsage)) {
+                return List.of();
+            }
+            return EasyModModelIndex.getOrCreate(logicalConstituent).getAllocatedElements(logicalConstituent).stream()
+                    .filter(t -> t instanceof ActionUsage)
+                    .map(ActionUsage.class::cast)
+                    .toList();
+        });
     }
 
     /**
@@ -147,27 +151,29 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the new {@link PartUsage} typed by SEIM::LogicalConstituent.
      */
     public PartUsage createLogicalConstituent(EObject parent, IEditingContext editingContext) {
-        Optional<PartDefinition> optSeimLogicalConstituentDefinition = getOptionalSeimLogicalConstituentDefinition(parent);
-        if (parent == null || optSeimLogicalConstituentDefinition.isEmpty()) {
-            return null;
-        }
-        PartUsage newpartUsage = SysmlFactory.eINSTANCE.createPartUsage();
-        this.elementInitializer(newpartUsage);
-        if (parent instanceof Usage usage) {
-            var featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
-            featureMembership.getOwnedRelatedElement().add(newpartUsage);
-            usage.getOwnedRelationship().add(featureMembership);
-        } else if (parent instanceof Package pkg) {
-            OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
-            pkg.getOwnedRelationship().add(owningMembership);
-            owningMembership.getOwnedRelatedElement().add(newpartUsage);
-        }
-        newpartUsage.setDeclaredName("myLogicalConstituent");
-        setType(optSeimLogicalConstituentDefinition.get(), newpartUsage);
+        return this.measure("createLogicalConstituent", () -> {
+            Optional<PartDefinition> optSeimLogicalConstituentDefinition = getOptionalSeimLogicalConstituentDefinition(parent);
+            if (parent == null || optSeimLogicalConstituentDefinition.isEmpty()) {
+                return null;
+            }
+            PartUsage newpartUsage = SysmlFactory.eINSTANCE.createPartUsage();
+            this.elementInitializer(newpartUsage);
+            if (parent instanceof Usage usage) {
+                var featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+                featureMembership.getOwnedRelatedElement().add(newpartUsage);
+                usage.getOwnedRelationship().add(featureMembership);
+            } else if (parent instanceof Package pkg) {
+                OwningMembership owningMembership = SysmlFactory.eINSTANCE.createOwningMembership();
+                pkg.getOwnedRelationship().add(owningMembership);
+                owningMembership.getOwnedRelatedElement().add(newpartUsage);
+            }
+            newpartUsage.setDeclaredName("myLogicalConstituent");
+            setType(optSeimLogicalConstituentDefinition.get(), newpartUsage);
 
-        createOfInterestAttribute(newpartUsage);
+            createOfInterestAttribute(newpartUsage);
 
-        return newpartUsage;
+            return newpartUsage;
+        });
     }
 
     /**
@@ -178,7 +184,7 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the source {@link PortUsage}
      */
     public PortUsage getSEIMLogicalConstituentSourcePort(InterfaceUsage logicalConstituentalFlow) {
-        return getFirstAsPortUsageOrNull(logicalConstituentalFlow.getSource());
+        return this.measure("getSEIMLogicalConstituentSourcePort", () -> getFirstAsPortUsageOrNull(logicalConstituentalFlow.getSource()));
     }
 
     /**
@@ -189,7 +195,7 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the target {@link PortUsage}
      */
     public PortUsage getSEIMLogicalConstituentTargetPort(InterfaceUsage logicalConstituentalFlow) {
-        return getFirstAsPortUsageOrNull(logicalConstituentalFlow.getTarget());
+        return this.measure("getSEIMLogicalConstituentTargetPort", () -> getFirstAsPortUsageOrNull(logicalConstituentalFlow.getTarget()));
     }
 
     private PortUsage getFirstAsPortUsageOrNull(EList<Element> list) {
@@ -210,26 +216,34 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the new {@link InterfaceUsage} typed by SEIM::LogicalFlow.
      */
     public InterfaceUsage createLogicalFlow(PartUsage source, PartUsage target) {
-        Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(source);
-        Optional<PortDefinition> optSeimLogicalConstituentalPortDefinition = getOptionalLogicalConstituentPortDefinition(source);
-        Optional<InterfaceDefinition> optSeimLogicalConstituentFlowDefinition = getOptionalLogicalConstituentFlowDefinition(source);
-        if (namespace == null || optSeimLogicalConstituentalPortDefinition.isEmpty() || optSeimLogicalConstituentFlowDefinition.isEmpty()) {
-            return null;
-        }
+        return this.measure("createLogicalFlow", () -> {
+            Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(source);
+            Optional<PortDefinition> optSeimLogicalConstituentalPortDefinition = getOptionalLogicalConstituentPortDefinition(source);
+            Optional<InterfaceDefinition> optSeimLogicalConstituentFlowDefinition = getOptionalLogicalConstituentFlowDefinition(source);
+            if (namespace == null || optSeimLogicalConstituentalPortDefinition.isEmpty() || optSeimLogicalConstituentFlowDefinition.isEmpty()) {
+                return null;
+            }
 
-        PortUsage newSourcePortUsage = createPortUsage(optSeimLogicalConstituentalPortDefinition.get(), source, FeatureDirectionKind.IN);
-        PortUsage newTargetPortUsage = createPortUsage(optSeimLogicalConstituentalPortDefinition.get(), target, FeatureDirectionKind.OUT);
+            PortUsage newSourcePortUsage = createPortUsage(optSeimLogicalConstituentalPortDefinition.get(), source, FeatureDirectionKind.IN);
+            PortUsage newTargetPortUsage = createPortUsage(optSeimLogicalConstituentalPortDefinition.get(), target, FeatureDirectionKind.OUT);
 
-        InterfaceUsage newInterfaceUsage = createInterfaceUsage(optSeimLogicalConstituentFlowDefinition.get(), namespace, "LogicalFlow");
-        newInterfaceUsage.getSource().add(newSourcePortUsage);
-        newInterfaceUsage.getTarget().add(newTargetPortUsage);
-        return newInterfaceUsage;
+            InterfaceUsage newInterfaceUsage = createInterfaceUsage(optSeimLogicalConstituentFlowDefinition.get(), namespace, "LogicalFlow");
+            newInterfaceUsage.getSource().add(newSourcePortUsage);
+            newInterfaceUsage.getTarget().add(newTargetPortUsage);
+            return newInterfaceUsage;
+        });
     }
 
     /**
      * Allocate {@link ActionUsage} on the semantic element represented by a given node.
+     * <p>
+     * When several elements are dropped at once, this service is called for each of them within the same command and
+     * the diagram is refreshed once. A function which is already allocated on the target logical constituent is not
+     * allocated a second time, the drop is then ignored and {@code null} is returned. To allocate several functions
+     * with a single change of the model, see {@link #allocateFunctions(PartUsage, Collection)}.
+     * </p>
      * 
-     * @param droppedFunction
+     * @param droppedElement
      *            {@link ActionUsage} dropped from explorer on Node
      * @param editingContext
      *            the editing context
@@ -237,51 +251,132 @@ public class EasymodPBSService extends EasyModCommonServices {
      *            the diagram context
      * @param selectedNode
      *            the target node
-     * @return allocated {@link ActionUsage} typed by SEIM::Function.
+     * @return allocated {@link ActionUsage} typed by SEIM::Function, or {@code null} if the dropped element is not a
+     *         function, if the target is not a logical constituent or if the function is already allocated on it
      */
     public ActionUsage dropFunctionOnPartFromExplorer(Element droppedElement, IEditingContext editingContext, IDiagramContext diagramContext, Node selectedNode) {
-        Optional<Object> optTargetElement;
-        if (selectedNode != null) {
-            optTargetElement = this.objectService.getObject(editingContext, selectedNode.getTargetObjectId());
-        } else {
-            optTargetElement = this.objectService.getObject(editingContext, diagramContext.getDiagram().getTargetObjectId());
-        }
-        if (optTargetElement.isPresent() && optTargetElement.get() instanceof PartUsage part) {
-            if (droppedElement instanceof ActionUsage actionUsage) {
-                return createAllocatedFunction(part, actionUsage);
+        return this.measure("dropFunctionOnPartFromExplorer", () -> {
+            Optional<Object> optTargetElement;
+            if (selectedNode != null) {
+                optTargetElement = this.objectService.getObject(editingContext, selectedNode.getTargetObjectId());
+            } else {
+                optTargetElement = this.objectService.getObject(editingContext, diagramContext.getDiagram().getTargetObjectId());
             }
-        }
-        return null;
+            if (optTargetElement.isPresent() && optTargetElement.get() instanceof PartUsage part) {
+                if (droppedElement instanceof ActionUsage actionUsage && !this.createAllocatedFunctions(part, List.of(actionUsage)).isEmpty()) {
+                    return actionUsage;
+                }
+            }
+            return null;
+        });
+    }
 
+    /**
+     * Allocate the given functions on a logical constituent with a single change of the model.
+     * <p>
+     * The SEIM::AllocatedFunction definition and the containing namespace are resolved once, then all the
+     * {@link AllocationUsage} are created before being added to the namespace at once, so that the model, its index
+     * and the diagrams are notified a single time. The elements which are not {@link ActionUsage} and the functions
+     * already allocated on the logical constituent are ignored.
+     * </p>
+     *
+     * @param logicalConstituent
+     *            the {@link PartUsage} typed by SEIM::LogicalConstituent on which the functions are allocated
+     * @param functions
+     *            the functions to allocate
+     * @return the functions which have been allocated
+     */
+    public List<ActionUsage> allocateFunctions(PartUsage logicalConstituent, Collection<? extends Element> functions) {
+        return this.measure("allocateFunctions", () -> this.createAllocatedFunctions(logicalConstituent, functions));
     }
 
-    private ActionUsage createAllocatedFunction(PartUsage part, ActionUsage function) {
-        Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(part);
-        AllocationDefinition seimAllocationDefinition = getSEIMAllocatedFunction(part);
-        if (namespace == null || seimAllocationDefinition == null) {
-            return null;
-        }
-        FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
-        namespace.getOwnedRelationship().add(featureMembership);
+    /**
+     * Allocate the function selected in the dialog of the "Allocate functions" tool and all its sub functions on a
+     * logical constituent with a single change of the model.
+     *
+     * @param logicalConstituent
+     *            the {@link PartUsage} typed by SEIM::LogicalConstituent on which the functions are allocated
+     * @param selectedFunction
+     *            the function selected in the dialog
+     * @return the functions which have been allocated
+     */
+    public List<ActionUsage> allocateFunctionBreakdown(PartUsage logicalConstituent, Element selectedFunction) {
+        return this.measure("allocateFunctionBreakdown", () -> {
+            List<ActionUsage> functions = new ArrayList<>();
+            if (selectedFunction instanceof ActionUsage function) {
+                Deque<ActionUsage> functionsToVisit = new ArrayDeque<>();
+                functionsToVisit.add(function);
+                while (!functionsToVisit.isEmpty()) {
+                    ActionUsage functionToVisit = functionsToVisit.poll();
+                    functions.add(functionToVisit);
+                    functionsToVisit.addAll(this.getSubFunctions(functionToVisit));
+                }
+            }
+            return this.createAllocatedFunctions(logicalConstituent, functions);
+        });
+    }
 
-        AllocationUsage allocationUsage = SysmlFactory.eINSTANCE.createAllocationUsage();
-        allocationUsage.setDeclaredName("myAllocatedFunction");
-        featureMembership.getOwnedRelatedElement().add(allocationUsage);
+    /**
+     * Get the functions displayed at the root of the dialog of the "Allocate functions" tool.
+     *
+     * @param logicalConstituent
+     *            the logical constituent on which the functions will be allocated
+     * @return the SEIM::Function owned by the packages of the model
+     */
+    public List<ActionUsage> getAllocatableRootFunctions(PartUsage logicalConstituent) {
+        return this.measure("getAllocatableRootFunctions", () -> EasyModTraversal.ofModel(logicalConstituent).skippingStandardLibraries()
+                .pruning(ActionUsage.class::isInstance)
+                .ofType(Package.class)
+                .stream()
+                .flatMap(pkg -> pkg.getOwnedMember().stream())
+                .filter(ActionUsage.class::isInstance)
+                .map(ActionUsage.class::cast)
+                .filter(isTypedWith(EasyModConstants.FUNCTION_QUALIFIED_NAME))
+                .toList());
+    }
 
-        setType(seimAllocationDefinition, allocationUsage);
-        allocationUsage.getSource().add(function);
-        allocationUsage.getTarget().add(part);
+    /**
+     * Get the children of a function in the dialog of the "Allocate functions" tool.
+     *
+     * @param function
+     *            a function displayed in the dialog
+     * @return the sub functions of the given function
+     */
+    public List<ActionUsage> getAllocatableSubFunctions(ActionUsage function) {
+        return this.measure("getAllocatableSubFunctions", () -> this.getSubFunctions(function));
+    }
 
-        return function;
+    private List<ActionUsage> getSubFunctions(Usage usage) {
+        return usage.getNestedAction().stream().filter(isTypedWith(EasyModConstants.FUNCTION_QUALIFIED_NAME))
+                .toList();
     }
 
-    private AllocationDefinition getSEIMAllocatedFunction(Element sourceElement) {
-        return extractGlobalNotifier(sourceElement).stream()
-                .filter(notifier -> notifier instanceof AllocationDefinition)
-                .map(AllocationDefinition.class::cast)
-                .filter(allocationDefinition -> EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME.equals(allocationDefinition.getQualifiedName()))
-                .findFirst()
-                .orElse(null);
+    private List<ActionUsage> createAllocatedFunctions(PartUsage part, Collection<? extends Element> elements) {
+        Namespace namespace = this.getClosestContainingDefinitionOrPackageFrom(part);
+        Optional<AllocationDefinition> optSeimAllocationDefinition = getOptionalSeimAllocatedFunctionDefinition(part);
+        if (namespace == null || optSeimAllocationDefinition.isEmpty()) {
+            return List.of();
+        }
+        Set<Element> allocatedElements = new HashSet<>(EasyModModelIndex.getOrCreate(part).getAllocatedElements(part));
+        List<ActionUsage> allocatedFunctions = new ArrayList<>();
+        List<FeatureMembership> featureMemberships = new ArrayList<>();
+        for (Element element : elements) {
+            if (element instanceof ActionUsage function && allocatedElements.add(function)) {
+                FeatureMembership featureMembership = SysmlFactory.eINSTANCE.createFeatureMembership();
+                AllocationUsage allocationUsage = SysmlFactory.eINSTANCE.createAllocationUsage();
+                allocationUsage.setDeclaredName("myAllocatedFunction");
+                featureMembership.getOwnedRelatedElement().add(allocationUsage);
+
+                setType(optSeimAllocationDefinition.get(), allocationUsage);
+                allocationUsage.getSource().add(function);
+                allocationUsage.getTarget().add(part);
+
+                featureMemberships.add(featureMembership);
+                allocatedFunctions.add(function);
+            }
+        }
+        namespace.getOwnedRelationship().addAll(featureMemberships);
+        return allocatedFunctions;
     }
 
     private void createOfInterestAttribute(PartUsage parent) {
@@ -317,12 +412,8 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return boolean
      */
     public boolean isSEIMLogicalConstituentAllocated(PartUsage seimLogicalConstituent) {
-
-        return extractNotifier(seimLogicalConstituent).stream()
-                .filter(notifier -> notifier instanceof AllocationUsage)
-                .map(AllocationUsage.class::cast)
-                .filter(isTypedWith(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME))
-                .anyMatch(allocatedLogicalConstituent -> allocatedLogicalConstituent.getTarget().contains(seimLogicalConstituent));
+        return this.measure("isSEIMLogicalConstituentAllocated", () -> EasyModModelIndex.getOrCreate(seimLogicalConstituent).getAllocationsTo(seimLogicalConstituent).stream()
+                .anyMatch(isTypedWith(EasyModConstants.SEIM_ALLOCATED_FUNCTION_QUALIFIED_NAME)));
     }
 
     /**
@@ -333,14 +424,13 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return boolean
      */
     public boolean isLogicalConstituentOfInterest(PartUsage seimLogicalConstituent) {
-
-        return seimLogicalConstituent.getNestedAttribute().stream()
+        return this.measure("isLogicalConstituentOfInterest", () -> seimLogicalConstituent.getNestedAttribute().stream()
                 .filter(isSystemOfInterestPredicate())
                 .map(attribute -> attribute.getValuation())
                 .map(featureValue -> featureValue.getOwnedMemberElement())
                 .filter(literal -> literal instanceof LiteralBoolean)
                 .map(LiteralBoolean.class::cast)
-                .anyMatch(literalBoolean -> literalBoolean.isValue());
+                .anyMatch(literalBoolean -> literalBoolean.isValue()));
     }
 
     private Predicate<? super AttributeUsage> isSystemOfInterestPredicate() {
@@ -356,20 +446,22 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return PartUsage the impacted PartUsage
      */
     public PartUsage toogleLogicalConsitituentIsOfInterest(PartUsage seimLogicalConstituent) {
-        Optional<LiteralBoolean> optLiteralBoolean = seimLogicalConstituent.getNestedAttribute().stream()
-                .filter(isSystemOfInterestPredicate())
-                .map(attribute -> attribute.getValuation())
-                .map(featureValue -> featureValue.getOwnedMemberElement())
-                .filter(literal -> literal instanceof LiteralBoolean)
-                .map(LiteralBoolean.class::cast)
-                .findFirst();
-
-        if (optLiteralBoolean.isPresent()) {
-            var literalBoolean = optLiteralBoolean.get();
-            var currentValue = literalBoolean.isValue();
-            literalBoolean.setValue(!currentValue);
-        }
-        return seimLogicalConstituent;
+        return this.measure("toogleLogicalConsitituentIsOfInterest", () -> {
+            Optional<LiteralBoolean> optLiteralBoolean = seimLogicalConstituent.getNestedAttribute().stream()
+                    .filter(isSystemOfInterestPredicate())
+                    .map(attribute -> attribute.getValuation())
+                    .map(featureValue -> featureValue.getOwnedMemberElement())
+                    .filter(literal -> literal instanceof LiteralBoolean)
+                    .map(LiteralBoolean.class::cast)
+                    .findFirst();
+
+            if (optLiteralBoolean.isPresent()) {
+                var literalBoolean = optLiteralBoolean.get();
+                var currentValue = literalBoolean.isValue();
+                literalBoolean.setValue(!currentValue);
+            }
+            return seimLogicalConstituent;
+        });
     }
 
     /**
@@ -380,7 +472,29 @@ public class EasymodPBSService extends EasyModCommonServices {
      * @return the label to display when user activate direct edit.
      */
     public String getDefaultEasyModInitialDirectEditLabel(Element element) {
-        return element.getDeclaredName();
+        return this.measure("getDefaultEasyModInitialDirectEditLabel", element::getDeclaredName);
+    }
+
+    private List<PartUsage> getRootLogicalConstituents(EObject eObject) {
+        List<PartUsage> partUsages = List.of();
+        if (eObject instanceof Usage usage) {
+            partUsages = getSubLogicalConstituents(usage);
+        } else if (eObject instanceof Package pkg) {
+            partUsages = getMainLogicalConstituents(pkg);
+        }
+        return partUsages;
+    }
+
+    private Set<PartUsage> getVisibleLogicalConstituents(EObject diagramRoot) {
+        Set<PartUsage> visibleLogicalConstituents = new LinkedHashSet<>();
+        Deque<PartUsage> logicalConstituentsToVisit = new ArrayDeque<>(this.getRootLogicalConstituents(diagramRoot));
+        while (!logicalConstituentsToVisit.isEmpty()) {
+            PartUsage logicalConstituent = logicalConstituentsToVisit.poll();
+            if (visibleLogicalConstituents.add(logicalConstituent)) {
+                logicalConstituentsToVisit.addAll(this.getSubLogicalConstituents(logicalConstituent));
+            }
+        }
+        return visibleLogicalConstituents;
     }
 
     private List<PartUsage> getMainLogicalConstituents(Package pkg) {
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.pbs.view;
+
+import org.eclipse.syson.easymod.diagram.services.EasyModChangeClassifier;
+import org.eclipse.syson.easymod.diagram.services.EasyModChangeScope;
+import org.eclipse.syson.easymod.diagram.view.AbstractEasyModDiagramRefreshPolicyProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * The representation refresh policy provider of the Logical flow diagrams.
+ *
+ * @author ebausson
+ */
+@Service
+public class PBSViewRefreshPolicyProvider extends AbstractEasyModDiagramRefreshPolicyProvider {
+
+    public PBSViewRefreshPolicyProvider(EasyModChangeClassifier changeClassifier) {
+        super(changeClassifier, PBSViewsDiagramDescriptionProvider.DIAGRAM_NAME, EasyModChangeScope.LOGICAL);
+    }
+}
@@ -14,6 +14,7 @@ package org.eclipse.syson.easymod.diagram.pbs.view;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.sirius.components.view.ChangeContext;
 import org.eclipse.sirius.components.view.RepresentationDescription;
@@ -41,6 +42,8 @@ import org.eclipse.syson.easymod.diagram.pbs.LogicalConstituentPortNodeDescripti
 import org.eclipse.syson.easymod.diagram.pbs.LogicalFlowEdgeDescriptionProvider;
 import org.eclipse.syson.easymod.diagram.view.AbstractEasyModDiagramDescriptionProvider;
 import org.eclipse.syson.easymod.diagram.view.EasyModDescriptionNameGenerator;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionMode;
+import org.eclipse.syson.easymod.diagram.view.EasyModExpressionModes;
 import org.eclipse.syson.util.AQLUtils;
 
 /**
@@ -56,12 +59,31 @@ public class PBSViewsDiagramDescriptionProvider extends AbstractEasyModDiagramDe
 
     private static final String TOOL_SECTION_NAME = "MainTools";
 
+    private static final String EXPRESSION_MODE_KEY_PREFIX = "pbs.";
+
     private final DiagramBuilders diagramBuilderHelper = new DiagramBuilders();
 
     private final ToolDescriptionService toolDescriptionService = new ToolDescriptionService(new EasyModDescriptionNameGenerator());
 
     private ViewBuilders viewBuilderHelper = new ViewBuilders();
 
+    private final EasyModExpressionModes expressionModes;
+
+    public PBSViewsDiagramDescriptionProvider() {
+        this(EasyModExpressionModes.AQL);
+    }
+
+    /**
+     * Create the provider of the diagram description.
+     *
+     * @param expressionModes
+     *            the kind of expressions used by the candidates, labels and conditions of each diagram element, by
+     *            {@code pbs.<element name>} key
+     */
+    public PBSViewsDiagramDescriptionProvider(EasyModExpressionModes expressionModes) {
+        this.expressionModes = Objects.requireNonNull(expressionModes);
+    }
+
     @Override
     public RepresentationDescription create(IColorProvider colorProvider) {
 
@@ -85,13 +107,20 @@ public class PBSViewsDiagramDescriptionProvider extends AbstractEasyModDiagramDe
 
     @Override
     protected List<IDiagramElementDescriptionProvider<? extends DiagramElementDescription>> getDiagramElements(IColorProvider easyModColorProvider) {
-        LogicalConstituentNodeDescriptionProvider lcNodeDescriptionProvider = new LogicalConstituentNodeDescriptionProvider(easyModColorProvider);
-        LogicalConstituentPortNodeDescriptionProvider lcPortNodeDescriptionProvider = new LogicalConstituentPortNodeDescriptionProvider(easyModColorProvider);
-        LogicalFlowEdgeDescriptionProvider logicalFlowEdgeDescriptionProvider = new LogicalFlowEdgeDescriptionProvider(easyModColorProvider);
-        FunctionNodeDescriptionProvider functionNodeDescriptionProvider = new FunctionNodeDescriptionProvider(easyModColorProvider);
+        LogicalConstituentNodeDescriptionProvider lcNodeDescriptionProvider = new LogicalConstituentNodeDescriptionProvider(easyModColorProvider,
+                this.getExpressionMode(LogicalConstituentNodeDescriptionProvider.NODE_NAME));
+        LogicalConstituentPortNodeDescriptionProvider lcPortNodeDescriptionProvider = new LogicalConstituentPortNodeDescriptionProvider(easyModColorProvider,
+                this.getExpressionMode(LogicalConstituentPortNodeDescriptionProvider.NODE_NAME));
+        LogicalFlowEdgeDescriptionProvider logicalFlowEdgeDescriptionProvider = new LogicalFlowEdgeDescriptionProvider(easyModColorProvider,
+                this.getExpressionMode(LogicalFlowEdgeDescriptionProvider.EDGE_NAME));
+        FunctionNodeDescriptionProvider functionNodeDescriptionProvider = new FunctionNodeDescriptionProvider(easyModColorProvider, this.getExpressionMode(FunctionNodeDescriptionProvider.NODE_NAME));
         return List.of(lcNodeDescriptionProvider, lcPortNodeDescriptionProvider, logicalFlowEdgeDescriptionProvider, functionNodeDescriptionProvider);
     }
 
+    private EasyModExpressionMode getExpressionMode(String elementName) {
+        return this.expressionModes.get(EXPRESSION_MODE_KEY_PREFIX + elementName);
+    }
+
     @Override
     protected String getName() {
         return DIAGRAM_NAME;
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.pbs.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.core.api.IObjectService;
+import org.eclipse.syson.easymod.diagram.services.EasyModModelIndex;
+import org.eclipse.syson.easymod.diagram.services.EasyModServiceMetrics;
+import org.eclipse.syson.easymod.generator.SEIMModelConfiguration;
+import org.eclipse.syson.easymod.generator.SEIMModelGenerator;
+import org.eclipse.syson.easymod.generator.SEIMModelResource;
+import org.eclipse.syson.easymod.generator.SEIMResourceWriter;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.SysmlPackage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the allocation of several functions at once by {@link EasymodPBSService}.
+ *
+ * @author ebausson
+ */
+public class EasymodPBSServiceTest {
+
+    private final EasymodPBSService service = new EasymodPBSService(new IObjectService.NoOp(), EasyModServiceMetrics.DISABLED);
+
+    private final List<Notification> relationshipNotifications = new ArrayList<>();
+
+    private SEIMModelResource model;
+
+    private EasyModModelIndex index;
+
+    private PartUsage logicalConstituent;
+
+    @BeforeEach
+    public void setUp() {
+        this.model = new SEIMResourceWriter().write(new SEIMModelGenerator().generate(SEIMModelConfiguration.DEFAULT.ofSize(500)), new ResourceSetImpl());
+        this.index = EasyModModelIndex.getOrCreate(this.model.logicalPackage());
+        this.logicalConstituent = this.model.logicalConstituents().get(0);
+        this.model.logicalPackage().eAdapters().add(new AdapterImpl() {
+            @Override
+            public void notifyChanged(Notification notification) {
+                if (notification.getFeature() == SysmlPackage.eINSTANCE.getElement_OwnedRelationship()) {
+                    EasymodPBSServiceTest.this.relationshipNotifications.add(notification);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testAllocateFunctionsWithASingleChange() {
+        List<ActionUsage> functions = this.getFunctionsNotAllocatedOn(this.logicalConstituent).subList(0, 5);
+
+        List<ActionUsage> allocatedFunctions = this.service.allocateFunctions(this.logicalConstituent, functions);
+
+        assertThat(allocatedFunctions).containsExactlyElementsOf(functions);
+        assertThat(this.index.getAllocatedElements(this.logicalConstituent)).containsAll(functions);
+        assertThat(this.relationshipNotifications).hasSize(1).allMatch(notification -> notification.getEventType() == Notification.ADD_MANY);
+    }
+
+    @Test
+    public void testAllocateFunctionsIgnoresAllocatedFunctionsAndOtherElements() {
+        List<ActionUsage> functions = this.getFunctionsNotAllocatedOn(this.logicalConstituent).subList(0, 2);
+        this.service.allocateFunctions(this.logicalConstituent, List.of(functions.get(0)));
+        this.relationshipNotifications.clear();
+
+        List<Element> elements = List.of(functions.get(0), this.model.logicalConstituents().get(1), functions.get(1), functions.get(1));
+        List<ActionUsage> allocatedFunctions = this.service.allocateFunctions(this.logicalConstituent, elements);
+
+        assertThat(allocatedFunctions).containsExactly(functions.get(1));
+        assertThat(this.index.getAllocatedElements(this.logicalConstituent)).containsOnlyOnce(functions.get(0), functions.get(1));
+        assertThat(this.relationshipNotifications).hasSize(1);
+    }
+
+    @Test
+    public void testAllocateFunctionBreakdown() {
+        ActionUsage rootFunction = this.service.getAllocatableRootFunctions(this.logicalConstituent).get(0);
+        List<ActionUsage> breakdown = new ArrayList<>();
+        this.collectBreakdown(rootFunction, breakdown);
+        List<Element> previouslyAllocatedElements = this.index.getAllocatedElements(this.logicalConstituent);
+        List<ActionUsage> expectedFunctions = breakdown.stream().filter(function -> !previouslyAllocatedElements.contains(function)).toList();
+
+        List<ActionUsage> allocatedFunctions = this.service.allocateFunctionBreakdown(this.logicalConstituent, rootFunction);
+
+        assertThat(breakdown).hasSizeGreaterThan(1);
+        assertThat(allocatedFunctions).containsExactlyInAnyOrderElementsOf(expectedFunctions);
+        assertThat(this.index.getAllocatedElements(this.logicalConstituent)).containsAll(breakdown);
+        assertThat(this.relationshipNotifications).hasSize(1);
+    }
+
+    @Test
+    public void testAllocatableFunctions() {
+        List<ActionUsage> rootFunctions = this.service.getAllocatableRootFunctions(this.logicalConstituent);
+        List<ActionUsage> allFunctions = new ArrayList<>();
+        rootFunctions.forEach(rootFunction -> this.collectBreakdown(rootFunction, allFunctions));
+
+        assertThat(rootFunctions).allMatch(function -> function.getOwningNamespace() == this.model.functionalPackage());
+        assertThat(allFunctions).containsExactlyInAnyOrderElementsOf(this.model.functions());
+    }
+
+    @Test
+    public void testAllocateNothing() {
+        assertThat(this.service.allocateFunctions(this.logicalConstituent, List.of())).isEmpty();
+        assertThat(this.service.allocateFunctionBreakdown(this.logicalConstituent, this.model.logicalConstituents().get(1))).isEmpty();
+    }
+
+    private List<ActionUsage> getFunctionsNotAllocatedOn(PartUsage part) {
+        List<Element> allocatedElements = this.index.getAllocatedElements(part);
+        return this.model.functions().stream().filter(function -> !allocatedElements.contains(function)).toList();
+    }
+
+    private void collectBreakdown(ActionUsage function, List<ActionUsage> breakdown) {
+        breakdown.add(function);
+        this.service.getAllocatableSubFunctions(function).forEach(subFunction -> this.collectBreakdown(subFunction, breakdown));
+    }
+}
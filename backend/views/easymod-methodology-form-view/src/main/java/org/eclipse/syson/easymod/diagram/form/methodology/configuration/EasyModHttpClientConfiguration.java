@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.form.methodology.configuration;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Configuration of the HTTP client used by the methodology form to call the GraphQL API of the server.
+ * <p>
+ * The client and its connection pool are created once and shared by all the requests. They are closed gracefully
+ * when the application context is closed: pending requests are allowed to complete.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Configuration
+public class EasyModHttpClientConfiguration {
+
+    private static final String POOL_METRIC_PREFIX = "easymod.http.client.pool.";
+
+    /**
+     * The connection pool of the HTTP client. {@link PoolingAsyncClientConnectionManager#close()} closes the pool
+     * gracefully.
+     *
+     * @param maxTotal
+     *            the maximum number of connections
+     * @param maxPerRoute
+     *            the maximum number of connections to the same route
+     * @param connectTimeout
+     *            the connection timeout in milliseconds
+     * @param keepAlive
+     *            the duration in seconds during which an idle connection is kept in the pool
+     * @return the connection pool
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingAsyncClientConnectionManager easyModHttpConnectionManager(@Value("${easymod.http.client.max-total:20}") int maxTotal,
+            @Value("${easymod.http.client.max-per-route:10}") int maxPerRoute, @Value("${easymod.http.client.connect-timeout:1000}") long connectTimeout,
+            @Value("${easymod.http.client.keep-alive:30}") long keepAlive) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout, TimeUnit.MILLISECONDS))
+                .setTimeToLive(TimeValue.ofSeconds(keepAlive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(keepAlive))
+                .build();
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    /**
+     * The HTTP client, started and ready to use. {@link CloseableHttpAsyncClient#close()} closes the client
+     * gracefully, the connection pool is closed afterwards by its own bean.
+     *
+     * @param connectionManager
+     *            the connection pool
+     * @param connectionRequestTimeout
+     *            the maximum time in milliseconds to wait for a connection of the pool
+     * @param responseTimeout
+     *            the response timeout in milliseconds
+     * @param keepAlive
+     *            the duration in seconds during which an idle connection is kept in the pool
+     * @param ioThreadCount
+     *            the number of I/O dispatch threads
+     * @return the HTTP client
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient easyModHttpAsyncClient(PoolingAsyncClientConnectionManager connectionManager,
+            @Value("${easymod.http.client.connection-request-timeout:1000}") long connectionRequestTimeout, @Value("${easymod.http.client.response-timeout:5000}") long responseTimeout,
+            @Value("${easymod.http.client.keep-alive:30}") long keepAlive, @Value("${easymod.http.client.io-threads:2}") int ioThreadCount) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout, TimeUnit.MILLISECONDS))
+                .setResponseTimeout(Timeout.of(responseTimeout, TimeUnit.MILLISECONDS))
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAlive))
+                .build();
+        IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setIoThreadCount(ioThreadCount)
+                .build();
+        CloseableHttpAsyncClient client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(requestConfig)
+                .setIOReactorConfig(ioReactorConfig)
+                .evictIdleConnections(TimeValue.ofSeconds(keepAlive))
+                .build();
+        client.start();
+        return client;
+    }
+
+    /**
+     * Publishes the usage of the connection pool: leased, available and pending connections.
+     *
+     * @param connectionManager
+     *            the connection pool
+     * @return the binder of the connection pool metrics
+     */
+    @Bean
+    public MeterBinder easyModHttpConnectionPoolMetrics(PoolingAsyncClientConnectionManager connectionManager) {
+        return registry -> {
+            Gauge.builder(POOL_METRIC_PREFIX + "leased", connectionManager, manager -> manager.getTotalStats().getLeased())
+                    .description("The number of connections of the EasyMod HTTP client currently in use")
+                    .register(registry);
+            Gauge.builder(POOL_METRIC_PREFIX + "available", connectionManager, manager -> manager.getTotalStats().getAvailable())
+                    .description("The number of idle connections of the EasyMod HTTP client")
+                    .register(registry);
+            Gauge.builder(POOL_METRIC_PREFIX + "pending", connectionManager, manager -> manager.getTotalStats().getPending())
+                    .description("The number of requests of the EasyMod HTTP client waiting for a connection")
+                    .register(registry);
+            Gauge.builder(POOL_METRIC_PREFIX + "max", connectionManager, manager -> manager.getTotalStats().getMax())
+                    .description("The maximum number of connections of the EasyMod HTTP client")
+                    .register(registry);
+        };
+    }
+}
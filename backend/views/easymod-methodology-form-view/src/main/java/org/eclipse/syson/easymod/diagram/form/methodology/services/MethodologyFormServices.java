@@ -21,35 +21,31 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
-import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
-import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.util.Timeout;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
 import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput;
+import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationSuccessPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IObjectService;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.core.api.IURLParser;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.web.application.representation.dto.RepresentationMetadataDTO;
-import org.eclipse.sirius.web.application.representation.services.RepresentationApplicationService;
 import org.eclipse.syson.easymod.diagram.form.methodology.utils.CreateRepresentationVariables;
+import org.eclipse.syson.easymod.diagram.form.methodology.utils.RepresentationDescriptionIds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -65,9 +61,20 @@ public class MethodologyFormServices {
 
     public static final String EOL = "\n"; //$NON-NLS-1$
 
+    /**
+     * The value of the {@code easymod.representation.creation.mode} property sending the creation requests to the
+     * GraphQL API of the server instead of the event processor of the editing context.
+     */
+    public static final String CREATION_MODE_HTTP = "http";
+
+    /**
+     * The default value of the {@code easymod.representation.creation.mode} property.
+     */
+    public static final String CREATION_MODE_IN_PROCESS = "in-process";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodologyFormServices.class);
 
-    private RepresentationApplicationService representationApplicationService;
+    private final RepresentationMetadataCache representationMetadataCache;
 
     private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
 
@@ -75,12 +82,22 @@ public class MethodologyFormServices {
 
     private final IObjectService objectService;
 
+    private final CloseableHttpAsyncClient httpClient;
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final String creationMode;
+
     public MethodologyFormServices(IRepresentationDescriptionSearchService representationDescriptionSearchService,
-            IURLParser urlParser, IObjectService objectService, RepresentationApplicationService representationApplicationService) {
+            IURLParser urlParser, IObjectService objectService, RepresentationMetadataCache representationMetadataCache, CloseableHttpAsyncClient httpClient,
+            IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, @Value("${easymod.representation.creation.mode:" + CREATION_MODE_IN_PROCESS + "}") String creationMode) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.urlParser = Objects.requireNonNull(urlParser);
         this.objectService = Objects.requireNonNull(objectService);
-        this.representationApplicationService = representationApplicationService;
+        this.representationMetadataCache = Objects.requireNonNull(representationMetadataCache);
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.creationMode = Objects.requireNonNull(creationMode);
     }
 
     /**
@@ -95,24 +112,13 @@ public class MethodologyFormServices {
      * @return all diagrams existing in the editing context that have the given representation description ids.
      */
     public List<RepresentationMetadataDTO> getAllRepresentations(EObject object, List<String> representationDescriptionIds, IEditingContext editingContext) {
-        Page<RepresentationMetadataDTO> representationsPage = representationApplicationService.findAllByEditingContextId(editingContext.getId(), Pageable.ofSize(20));
-
-        return representationsPage.stream()
+        return this.representationMetadataCache.getRepresentations(editingContext.getId()).stream()
                 .filter(desc -> representationDescriptionIds.contains(getSourceElementIdFromRepresentationMetadataDTO(desc)))
                 .toList();
     }
 
     private String getSourceElementIdFromRepresentationMetadataDTO(RepresentationMetadataDTO representationMetadataDTO) {
-        String result = null;
-        if (representationMetadataDTO.descriptionId().contains("&")) {
-            List<String> sourceElementIds = this.urlParser.getParameterValues(representationMetadataDTO.descriptionId()).get("sourceElementId");
-            if (sourceElementIds != null && !sourceElementIds.isEmpty()) {
-                result = sourceElementIds.get(0);
-            }
-        } else {
-            result = representationMetadataDTO.descriptionId();
-        }
-        return result;
+        return RepresentationDescriptionIds.getSourceElementId(this.urlParser, representationMetadataDTO.descriptionId());
     }
 
     /**
@@ -135,26 +141,59 @@ public class MethodologyFormServices {
      *            id of the representation to create
      * @param editingContext
      *            the editing context
-     * @return {@code true} if the representation has been created, {@code false} otherwise
+     * @return {@code true} if the creation of the representation has been requested, {@code false} otherwise
      */
     public boolean createRepresentation(EObject object, String representationDescriptionId,
             IEditingContext editingContext) {
-        Optional<IRepresentationDescription> representationDescription = this.representationDescriptionSearchService
+        Optional<IRepresentationDescription> optionalRepresentationDescription = this.representationDescriptionSearchService
                 .findById(editingContext, representationDescriptionId);
-        try {
-            this.createRepresentation(object, representationDescription.get(), editingContext);
-        } catch (IOException e) {
-            LOGGER.error("Error while creating representation", e);
+        if (optionalRepresentationDescription.isEmpty()) {
+            LOGGER.warn("Unable to create a representation: unknown representation description {}", representationDescriptionId);
             return false;
         }
-        return true;
-    }
+        IRepresentationDescription representationDescription = optionalRepresentationDescription.get();
+        CreateRepresentationInput input = new CreateRepresentationInput(UUID.randomUUID(), editingContext.getId(),
+                representationDescription.getId(), this.objectService.getId(object), representationDescription.getLabel());
 
-    private void createRepresentation(EObject object, IRepresentationDescription representationDescription,
-            IEditingContext editingContext) throws IOException {
+        boolean created = false;
+        if (CREATION_MODE_HTTP.equals(this.creationMode)) {
+            try {
+                created = this.sendHttpGraphQLRequest(this.createGraphQLRequest(input), () -> this.representationMetadataCache.invalidate(input.editingContextId()));
+            } catch (IOException e) {
+                LOGGER.error("Error while creating representation", e);
+            }
+        } else {
+            created = this.dispatchCreateRepresentation(input);
+        }
+        return created;
+    }
 
-        Gson gson = new Gson();
+    /**
+     * Send the creation input to the event processor of its editing context.
+     * <p>
+     * This service is itself executed by the event processor of the editing context, which handles its inputs one at a
+     * time: the input is queued and handled after the current one, waiting for its payload here would block the
+     * processor forever. The payload is thus only logged once the representation has been created.
+     * </p>
+     *
+     * @param input
+     *            the creation input
+     * @return {@code true} once the input has been dispatched
+     */
+    private boolean dispatchCreateRepresentation(CreateRepresentationInput input) {
+        this.editingContextEventProcessorRegistry.dispatchEvent(input.editingContextId(), input)
+                .subscribe(payload -> {
+                    if (payload instanceof CreateRepresentationSuccessPayload successPayload) {
+                        this.representationMetadataCache.invalidate(input.editingContextId());
+                        LOGGER.debug("Representation created: {}", successPayload.representation());
+                    } else {
+                        LOGGER.warn("Unable to create a representation of {} on {}: {}", input.representationDescriptionId(), input.objectId(), payload);
+                    }
+                }, throwable -> LOGGER.error("Error while creating representation", throwable));
+        return true;
+    }
 
+    private String createGraphQLRequest(CreateRepresentationInput input) {
         StringBuilder query = new StringBuilder();
         query.append("mutation createRepresentation($input: CreateRepresentationInput!) {").append(EOL);
         query.append("    createRepresentation(input: $input) {").append(EOL);
@@ -169,10 +208,6 @@ public class MethodologyFormServices {
         query.append("    }").append(EOL);
         query.append("}");
 
-        String objectId = this.objectService.getId(object);
-        UUID randomUUID = UUID.randomUUID();
-        CreateRepresentationInput input = new CreateRepresentationInput(randomUUID, editingContext.getId(),
-                representationDescription.getId(), objectId, representationDescription.getLabel());
         CreateRepresentationVariables createRepresentationVariables = new CreateRepresentationVariables(input);
 
         HashMap<String, Object> map = new LinkedHashMap<>();
@@ -180,14 +215,11 @@ public class MethodologyFormServices {
         map.put("query", query.toString());
         map.put("variables", createRepresentationVariables);
 
-        String jsonMap = gson.toJson(map);
-
-        this.sendHttpGraphQLRequest(jsonMap);
-
+        return new Gson().toJson(map);
     }
 
-    private void sendHttpGraphQLRequest(String requestContent) throws IOException {
-        RequestAttributes currentRequestAttributes = RequestContextHolder.currentRequestAttributes();
+    private boolean sendHttpGraphQLRequest(String requestContent, Runnable onSuccess) throws IOException {
+        RequestAttributes currentRequestAttributes = RequestContextHolder.getRequestAttributes();
         if (currentRequestAttributes instanceof ServletRequestAttributes sra) {
             HttpServletRequest request = sra.getRequest();
             String scheme = request.getScheme();
@@ -199,22 +231,47 @@ public class MethodologyFormServices {
             entryPoint.append(serverName).append(":");
             entryPoint.append(serverPort);
             entryPoint.append(requestURI);
-            CloseableHttpAsyncClient client = HttpAsyncClients.createDefault();
-            client.start();
             try (StringEntity stringEntity = new StringEntity(requestContent, ContentType.APPLICATION_JSON)) {
                 SimpleHttpRequest httpRequest = SimpleRequestBuilder.post(entryPoint.toString())
                         .setBody(stringEntity.getContent().readAllBytes(), ContentType.APPLICATION_JSON).build();
-                RequestConfig requestConfig = RequestConfig.custom()
-                        .setConnectionRequestTimeout(Timeout.of(100, TimeUnit.MILLISECONDS))
-                        .setResponseTimeout(Timeout.of(100, TimeUnit.MILLISECONDS)).build();
-                HttpClientContext httpContext = HttpClientContext.create();
-                httpContext.setRequestConfig(requestConfig);
-                Future<SimpleHttpResponse> response = client.execute(httpRequest, httpContext, null);
-                response.get(50, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            } finally {
-                client.close();
+                this.httpClient.execute(httpRequest, HttpClientContext.create(), new LoggingCallback(onSuccess));
+            }
+            return true;
+        }
+        LOGGER.warn("Unable to create a representation over HTTP outside of an HTTP request");
+        return false;
+    }
+
+    /**
+     * Logs the failures of the creation requests sent over HTTP.
+     *
+     * @author ebausson
+     */
+    private static final class LoggingCallback implements FutureCallback<SimpleHttpResponse> {
+
+        private final Runnable onSuccess;
+
+        LoggingCallback(Runnable onSuccess) {
+            this.onSuccess = Objects.requireNonNull(onSuccess);
+        }
+
+        @Override
+        public void completed(SimpleHttpResponse response) {
+            if (response.getCode() >= HttpStatus.SC_CLIENT_ERROR) {
+                LOGGER.warn("Unable to create a representation: HTTP {} {}", response.getCode(), response.getBodyText());
+            } else {
+                this.onSuccess.run();
             }
         }
+
+        @Override
+        public void failed(Exception exception) {
+            LOGGER.error("Error while creating representation", exception);
+        }
+
+        @Override
+        public void cancelled() {
+            LOGGER.warn("Representation creation request cancelled");
+        }
     }
 }
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.form.methodology.services;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Emit the change refreshing the methodology forms of an editing context for a {@link RefreshMethodologyFormInput}.
+ * <p>
+ * The model is not modified, the change only has the {@link #METHODOLOGY_FORM_REFRESH} kind handled by the refresh
+ * policy of the methodology form.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class RefreshMethodologyFormEventHandler implements IEditingContextEventHandler {
+
+    /**
+     * The kind of the change refreshing the methodology forms.
+     */
+    public static final String METHODOLOGY_FORM_REFRESH = "EASYMOD_METHODOLOGY_FORM_REFRESH";
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof RefreshMethodologyFormInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        changeDescriptionSink.tryEmitNext(new ChangeDescription(METHODOLOGY_FORM_REFRESH, editingContext.getId(), input));
+        payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+    }
+}
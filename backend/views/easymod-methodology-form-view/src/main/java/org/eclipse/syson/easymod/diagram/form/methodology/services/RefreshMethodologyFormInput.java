@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.form.methodology.services;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input used to refresh the methodology forms of an editing context once a burst of representation events is
+ * over.
+ *
+ * @param id
+ *            the id of the input
+ * @param editingContextId
+ *            the id of the editing context
+ * @author ebausson
+ */
+public record RefreshMethodologyFormInput(UUID id, String editingContextId) implements IInput {
+}
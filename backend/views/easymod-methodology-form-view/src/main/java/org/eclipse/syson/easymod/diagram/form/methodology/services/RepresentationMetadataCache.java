@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.form.methodology.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.sirius.web.application.representation.dto.RepresentationMetadataDTO;
+import org.eclipse.sirius.web.application.representation.services.RepresentationApplicationService;
+import org.eclipse.syson.easymod.concurrent.EasyModBlockingExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache of the metadata of the representations of each editing context.
+ * <p>
+ * The metadata are read once, page by page, and then kept until the representations of the editing context change.
+ * The cache is invalidated by {@code MethodologyFormRefreshPolicyProvider} on the representation events and by
+ * {@link MethodologyFormServices} once it has created a representation. Since those events are only seen while a
+ * methodology form is opened, entries also expire after a configurable delay.
+ * </p>
+ * <p>
+ * The metadata of an editing context are read on the calling thread the first time only. Once an entry has expired,
+ * it is still returned while the metadata are read again by the {@link EasyModBlockingExecutor}, so that the event
+ * processor rendering the methodology form does not wait for the database.
+ * </p>
+ *
+ * @author ebausson
+ */
+@Service
+public class RepresentationMetadataCache {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final RepresentationApplicationService representationApplicationService;
+
+    private final Duration timeToLive;
+
+    private final EasyModBlockingExecutor blockingExecutor;
+
+    private final Map<String, CachedRepresentations> representationsByEditingContextId = new ConcurrentHashMap<>();
+
+    private final Set<String> refreshedEditingContextIds = ConcurrentHashMap.newKeySet();
+
+    public RepresentationMetadataCache(RepresentationApplicationService representationApplicationService, EasyModBlockingExecutor blockingExecutor,
+            @Value("${easymod.methodology.representation-cache.ttl:60}") long timeToLiveInSeconds) {
+        this.representationApplicationService = Objects.requireNonNull(representationApplicationService);
+        this.blockingExecutor = Objects.requireNonNull(blockingExecutor);
+        this.timeToLive = Duration.ofSeconds(timeToLiveInSeconds);
+    }
+
+    /**
+     * Get the metadata of all the representations of the given editing context.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @return the metadata of all the representations of the editing context
+     */
+    public List<RepresentationMetadataDTO> getRepresentations(String editingContextId) {
+        CachedRepresentations cachedRepresentations = this.representationsByEditingContextId.get(editingContextId);
+        if (cachedRepresentations == null) {
+            cachedRepresentations = this.representationsByEditingContextId.computeIfAbsent(editingContextId, this::readRepresentations);
+        } else if (cachedRepresentations.expiration().isBefore(Instant.now())) {
+            this.refresh(editingContextId, cachedRepresentations);
+        }
+        return cachedRepresentations.representations();
+    }
+
+    /**
+     * Read again the metadata of the representations of the given editing context in the background. The expired
+     * entry is only replaced if it has not been invalidated in the meantime.
+     */
+    private void refresh(String editingContextId, CachedRepresentations expiredRepresentations) {
+        if (this.refreshedEditingContextIds.add(editingContextId)) {
+            this.blockingExecutor.submit("representation-metadata",
+                    () -> this.representationsByEditingContextId.replace(editingContextId, expiredRepresentations, this.readRepresentations(editingContextId)))
+                    .whenComplete((replaced, throwable) -> this.refreshedEditingContextIds.remove(editingContextId));
+        }
+    }
+
+    private CachedRepresentations readRepresentations(String editingContextId) {
+        return new CachedRepresentations(this.streamRepresentations(editingContextId).toList(), Instant.now().plus(this.timeToLive));
+    }
+
+    /**
+     * Find the metadata of a representation in the cache.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @param representationId
+     *            the id of the representation
+     * @return the metadata of the representation if it is in the cache
+     */
+    public Optional<RepresentationMetadataDTO> findCachedRepresentation(String editingContextId, String representationId) {
+        return Optional.ofNullable(this.representationsByEditingContextId.get(editingContextId)).stream()
+                .flatMap(cached -> cached.representations().stream())
+                .filter(representation -> Objects.equals(representation.id().toString(), representationId))
+                .findFirst();
+    }
+
+    /**
+     * Find the metadata of a representation in the cache of any editing context.
+     *
+     * @param representationId
+     *            the id of the representation
+     * @return the metadata of the representation if it is in the cache
+     */
+    public Optional<RepresentationMetadataDTO> findCachedRepresentation(String representationId) {
+        return this.representationsByEditingContextId.keySet().stream()
+                .flatMap(editingContextId -> this.findCachedRepresentation(editingContextId, representationId).stream())
+                .findFirst();
+    }
+
+    /**
+     * Find the editing context of a representation in the cache.
+     *
+     * @param representationId
+     *            the id of the representation
+     * @return the id of the editing context of the representation if it is in the cache
+     */
+    public Optional<String> findEditingContextId(String representationId) {
+        return this.representationsByEditingContextId.keySet().stream()
+                .filter(editingContextId -> this.findCachedRepresentation(editingContextId, representationId).isPresent())
+                .findFirst();
+    }
+
+    /**
+     * Check if the representations of the given editing context are cached.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @return {@code true} if the representations of the editing context are cached, {@code false} otherwise
+     */
+    public boolean isCached(String editingContextId) {
+        return this.representationsByEditingContextId.containsKey(editingContextId);
+    }
+
+    public void invalidate(String editingContextId) {
+        this.representationsByEditingContextId.remove(editingContextId);
+    }
+
+    public void invalidateAll() {
+        this.representationsByEditingContextId.clear();
+    }
+
+    /**
+     * Lazily read all the pages of representations of the given editing context, the next page is only requested once
+     * the previous one has been consumed.
+     *
+     * @param editingContextId
+     *            the id of the editing context
+     * @return the metadata of all the representations of the editing context
+     */
+    private Stream<RepresentationMetadataDTO> streamRepresentations(String editingContextId) {
+        Page<RepresentationMetadataDTO> firstPage = this.representationApplicationService.findAllByEditingContextId(editingContextId, PageRequest.of(0, PAGE_SIZE));
+        return Stream.iterate(firstPage, Objects::nonNull, page -> this.nextPage(editingContextId, page))
+                .flatMap(Page::stream);
+    }
+
+    private Page<RepresentationMetadataDTO> nextPage(String editingContextId, Page<RepresentationMetadataDTO> page) {
+        Page<RepresentationMetadataDTO> nextPage = null;
+        if (page.hasNext()) {
+            Pageable nextPageable = page.nextPageable();
+            nextPage = this.representationApplicationService.findAllByEditingContextId(editingContextId, nextPageable);
+        }
+        return nextPage;
+    }
+
+    /**
+     * The representations of an editing context and the instant at which they should be read again.
+     *
+     * @author ebausson
+     */
+    private record CachedRepresentations(List<RepresentationMetadataDTO> representations, Instant expiration) {
+    }
+}
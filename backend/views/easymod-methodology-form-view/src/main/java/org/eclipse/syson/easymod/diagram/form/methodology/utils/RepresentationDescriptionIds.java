@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.diagram.form.methodology.utils;
+
+import java.util.List;
+
+import org.eclipse.sirius.components.core.api.IURLParser;
+
+/**
+ * Utility methods for representation description ids.
+ *
+ * @author ebausson
+ */
+public final class RepresentationDescriptionIds {
+
+    private static final String SOURCE_ELEMENT_ID_PARAMETER = "sourceElementId";
+
+    private RepresentationDescriptionIds() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the id of the view element from which a representation description has been created.
+     *
+     * @param urlParser
+     *            the URL parser
+     * @param representationDescriptionId
+     *            the id of a representation description, either an URL with a {@code sourceElementId} parameter for
+     *            the descriptions created from a view or a plain id
+     * @return the id of the view element of the description, the given id itself if it is not an URL, or
+     *         {@code null} if it is an URL without {@code sourceElementId}
+     */
+    public static String getSourceElementId(IURLParser urlParser, String representationDescriptionId) {
+        String result = null;
+        if (representationDescriptionId != null && representationDescriptionId.contains("&")) {
+            List<String> sourceElementIds = urlParser.getParameterValues(representationDescriptionId).get(SOURCE_ELEMENT_ID_PARAMETER);
+            if (sourceElementIds != null && !sourceElementIds.isEmpty()) {
+                result = sourceElementIds.get(0);
+            }
+        } else {
+            result = representationDescriptionId;
+        }
+        return result;
+    }
+}
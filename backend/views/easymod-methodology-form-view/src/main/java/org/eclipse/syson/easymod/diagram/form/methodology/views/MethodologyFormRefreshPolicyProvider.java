@@ -12,20 +12,74 @@
  *******************************************************************************/
 package org.eclipse.syson.easymod.diagram.form.methodology.views;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyProvider;
+import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput;
+import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput;
+import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
+import org.eclipse.sirius.components.core.api.IURLParser;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.syson.easymod.diagram.form.methodology.services.RefreshMethodologyFormEventHandler;
+import org.eclipse.syson.easymod.diagram.form.methodology.services.RefreshMethodologyFormInput;
+import org.eclipse.syson.easymod.diagram.form.methodology.services.RepresentationMetadataCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.eclipse.syson.easymod.diagram.form.methodology.utils.RepresentationDescriptionIds;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import reactor.core.publisher.Mono;
+
 /**
  * The representation refresh policy provider for the Methodology representation.
+ * <p>
+ * The form only lists the representations of the descriptions of {@link MethodologyFormView}, it is only refreshed
+ * when one of those representations is created, deleted or renamed. When the description of the representation
+ * cannot be found, the form is refreshed.
+ * </p>
+ * <p>
+ * The events of an editing context are debounced: the first event of a burst refreshes the forms immediately, the
+ * following events received within the debounce delay are coalesced into a single trailing refresh, dispatched with a
+ * {@link RefreshMethodologyFormInput} once the delay is over. The last event of a burst is thus always followed by a
+ * refresh.
+ * </p>
  *
  * @author arichard
  */
 @Service
 public class MethodologyFormRefreshPolicyProvider implements IRepresentationRefreshPolicyProvider {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodologyFormRefreshPolicyProvider.class);
+
+    private final RepresentationMetadataCache representationMetadataCache;
+
+    private final IURLParser urlParser;
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final long debounceDelay;
+
+    private final Map<String, DebounceWindow> debounceWindows = new ConcurrentHashMap<>();
+
+    public MethodologyFormRefreshPolicyProvider(RepresentationMetadataCache representationMetadataCache, IURLParser urlParser,
+            IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, @Value("${easymod.methodology.refresh.debounce:300}") long debounceDelay) {
+        this.representationMetadataCache = Objects.requireNonNull(representationMetadataCache);
+        this.urlParser = Objects.requireNonNull(urlParser);
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.debounceDelay = debounceDelay;
+    }
+
     @Override
     public boolean canHandle(IRepresentationDescription representationDescription) {
         return "siriusComponents://representationDescription?kind=formDescription&sourceKind=view&sourceId=8c459c3a-6a2a-341b-ad5f-9483cebf821f&sourceElementId=b7d4e7ae-f2bf-33e2-ad37-36045f743e57"
@@ -36,25 +90,175 @@ public class MethodologyFormRefreshPolicyProvider implements IRepresentationRefr
     public IRepresentationRefreshPolicy getRepresentationRefreshPolicy(IRepresentationDescription representationDescription) {
         return (changeDescription) -> {
             boolean shouldRefresh = false;
+            boolean isRepresentationEvent = true;
 
             switch (changeDescription.getKind()) {
                 case ChangeKind.REPRESENTATION_CREATION:
-                    shouldRefresh = true;
+                    shouldRefresh = this.concernsListedRepresentation(changeDescription);
                     break;
                 case ChangeKind.REPRESENTATION_DELETION:
-                    shouldRefresh = true;
+                    shouldRefresh = this.concernsListedRepresentation(changeDescription);
                     break;
                 case ChangeKind.REPRESENTATION_RENAMING:
-                    shouldRefresh = true;
+                    shouldRefresh = this.concernsListedRepresentation(changeDescription);
                     break;
                 case ChangeKind.REPRESENTATION_TO_DELETE:
+                    shouldRefresh = this.concernsListedRepresentation(changeDescription);
+                    break;
+                case RefreshMethodologyFormEventHandler.METHODOLOGY_FORM_REFRESH:
+                    // The trailing refresh of a burst, the representations have already been invalidated
                     shouldRefresh = true;
+                    isRepresentationEvent = false;
                     break;
                 default:
                     shouldRefresh = false;
             }
+            if (shouldRefresh && isRepresentationEvent) {
+                Optional<String> editingContextId = this.getEditingContextId(changeDescription);
+                this.invalidateRepresentations(changeDescription);
+                shouldRefresh = editingContextId.map(id -> this.isLeadingEvent(id, changeDescription)).orElse(true);
+            }
             return shouldRefresh;
         };
     }
 
+    private boolean concernsListedRepresentation(ChangeDescription changeDescription) {
+        return this.getDescriptionId(changeDescription)
+                .map(descriptionId -> RepresentationDescriptionIds.getSourceElementId(this.urlParser, descriptionId))
+                .map(MethodologyFormView.LISTED_DESCRIPTION_ELEMENT_IDS::contains)
+                .orElse(true);
+    }
+
+    /**
+     * Get the id of the description of the representation concerned by the given change. The description of a
+     * deleted or renamed representation is found in the cache of the representations listed by the form.
+     *
+     * @param changeDescription
+     *            the change description
+     * @return the id of the description of the representation, if it can be found
+     */
+    private Optional<String> getDescriptionId(ChangeDescription changeDescription) {
+        Optional<String> descriptionId = Optional.empty();
+        if (changeDescription.getInput() instanceof CreateRepresentationInput createRepresentationInput) {
+            descriptionId = Optional.ofNullable(createRepresentationInput.representationDescriptionId());
+        } else {
+            descriptionId = this.getRepresentationId(changeDescription)
+                    .flatMap(this.representationMetadataCache::findCachedRepresentation)
+                    .map(representation -> representation.descriptionId());
+        }
+        return descriptionId;
+    }
+
+    private Optional<String> getRepresentationId(ChangeDescription changeDescription) {
+        Optional<String> representationId = Optional.empty();
+        if (changeDescription.getInput() instanceof DeleteRepresentationInput deleteRepresentationInput) {
+            representationId = Optional.of(deleteRepresentationInput.representationId());
+        } else if (changeDescription.getInput() instanceof RenameRepresentationInput renameRepresentationInput) {
+            representationId = Optional.of(renameRepresentationInput.representationId());
+        } else if (changeDescription.getKind().equals(ChangeKind.REPRESENTATION_TO_DELETE)) {
+            representationId = Optional.ofNullable(changeDescription.getSourceId());
+        }
+        return representationId.map(Object::toString);
+    }
+
+    private void invalidateRepresentations(ChangeDescription changeDescription) {
+        if (changeDescription.getInput() instanceof CreateRepresentationInput createRepresentationInput) {
+            this.representationMetadataCache.invalidate(createRepresentationInput.editingContextId());
+        } else if (this.representationMetadataCache.isCached(changeDescription.getSourceId())) {
+            this.representationMetadataCache.invalidate(changeDescription.getSourceId());
+        } else {
+            this.representationMetadataCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Get the id of the editing context of the representation concerned by the given change. It has to be computed
+     * before the representations are invalidated, the editing context of a representation to delete is found in the
+     * cache.
+     *
+     * @param changeDescription
+     *            the change description
+     * @return the id of the editing context, if it can be found
+     */
+    private Optional<String> getEditingContextId(ChangeDescription changeDescription) {
+        Optional<String> editingContextId;
+        if (changeDescription.getInput() instanceof CreateRepresentationInput createRepresentationInput) {
+            editingContextId = Optional.ofNullable(createRepresentationInput.editingContextId());
+        } else if (changeDescription.getKind().equals(ChangeKind.REPRESENTATION_TO_DELETE)) {
+            editingContextId = this.getRepresentationId(changeDescription).flatMap(this.representationMetadataCache::findEditingContextId);
+        } else {
+            editingContextId = Optional.ofNullable(changeDescription.getSourceId());
+        }
+        return editingContextId;
+    }
+
+    /**
+     * Check if the given change opens a new debounce window for its editing context, i.e. if it should refresh the
+     * forms now. The other changes received during the window are coalesced into the trailing refresh dispatched when
+     * the window closes. The same change description is evaluated once by each opened form, it is always the leading
+     * event for all of them.
+     *
+     * @param editingContextId
+     *            the id of the editing context of the change
+     * @param changeDescription
+     *            the change description
+     * @return {@code true} if the forms should be refreshed now, {@code false} if the change is left to the trailing
+     *         refresh
+     */
+    private boolean isLeadingEvent(String editingContextId, ChangeDescription changeDescription) {
+        if (this.debounceDelay <= 0) {
+            return true;
+        }
+        DebounceWindow newWindow = new DebounceWindow(changeDescription);
+        DebounceWindow window = this.debounceWindows.compute(editingContextId, (key, currentWindow) -> {
+            DebounceWindow result = currentWindow;
+            if (currentWindow == null) {
+                result = newWindow;
+            } else if (currentWindow.leadingChange() != changeDescription) {
+                currentWindow.markPending();
+            }
+            return result;
+        });
+        if (window == newWindow) {
+            Mono.delay(Duration.ofMillis(this.debounceDelay)).subscribe(tick -> this.closeWindow(editingContextId, newWindow));
+        }
+        return window.leadingChange() == changeDescription;
+    }
+
+    private void closeWindow(String editingContextId, DebounceWindow window) {
+        if (this.debounceWindows.remove(editingContextId, window) && window.isPending()) {
+            this.editingContextEventProcessorRegistry.dispatchEvent(editingContextId, new RefreshMethodologyFormInput(UUID.randomUUID(), editingContextId))
+                    .subscribe(payload -> LOGGER.debug("Methodology forms of {} refreshed after a burst of representation events", editingContextId),
+                            throwable -> LOGGER.warn("The methodology forms of {} could not be refreshed: {}", editingContextId, throwable.getMessage()));
+        }
+    }
+
+    /**
+     * The debounce window of the representation events of an editing context, opened by its leading change.
+     *
+     * @author ebausson
+     */
+    private static final class DebounceWindow {
+
+        private final ChangeDescription leadingChange;
+
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        DebounceWindow(ChangeDescription leadingChange) {
+            this.leadingChange = leadingChange;
+        }
+
+        ChangeDescription leadingChange() {
+            return this.leadingChange;
+        }
+
+        void markPending() {
+            this.pending.set(true);
+        }
+
+        boolean isPending() {
+            return this.pending.get();
+        }
+    }
+
 }
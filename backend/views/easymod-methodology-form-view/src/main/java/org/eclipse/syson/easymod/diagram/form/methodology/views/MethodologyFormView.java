@@ -71,11 +71,16 @@ public class MethodologyFormView {
 
     private static final String ALLOCATION_FORM_ID = "5fb6a51c-bacd-395b-a021-ecf81e8ffa41";
 
-    private static final String FUNCTION_DIAGRAM_ELEMENT_ID = "42c7d51d-ddc0-3f80-ba8f-d41bd05bb069";
+    public static final String FUNCTION_DIAGRAM_ELEMENT_ID = "42c7d51d-ddc0-3f80-ba8f-d41bd05bb069";
 
-    private static final String PRODUCT_DIAGRAM_ELEMENT_ID = "ae994350-3a1e-392b-94f7-cf2377699ca5";
+    public static final String PRODUCT_DIAGRAM_ELEMENT_ID = "ae994350-3a1e-392b-94f7-cf2377699ca5";
 
-    private static final String ALLOCATION_FORM_ELEMENT_ID = "08472616-8f25-3e05-8e9b-a51b890bb71f";
+    public static final String ALLOCATION_FORM_ELEMENT_ID = "08472616-8f25-3e05-8e9b-a51b890bb71f";
+
+    /**
+     * The ids of the descriptions of the representations listed by the form.
+     */
+    public static final List<String> LISTED_DESCRIPTION_ELEMENT_IDS = List.of(FUNCTION_DIAGRAM_ELEMENT_ID, PRODUCT_DIAGRAM_ELEMENT_ID, ALLOCATION_FORM_ELEMENT_ID);
 
     public FormDescription createFormDescription() {
         String domainType = SysMLMetamodelHelper.buildQualifiedName(SysmlPackage.eINSTANCE.getNamespace());
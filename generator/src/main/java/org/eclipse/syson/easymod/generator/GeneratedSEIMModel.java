@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The content of a synthetic SEIM model, independent of its serialization.
+ * <p>
+ * The model is made of a function breakdown and of a logical constituent breakdown. Their elements own ports
+ * connected by flows, and functions are allocated on logical constituents. Names are unique among siblings and are
+ * valid SysML identifiers.
+ * </p>
+ *
+ * @param configuration
+ *            the configuration used to generate the model
+ * @param functions
+ *            the top-level functions
+ * @param logicalConstituents
+ *            the top-level logical constituents
+ * @param functionalFlows
+ *            the flows between function ports
+ * @param logicalFlows
+ *            the flows between logical constituent ports
+ * @param allocations
+ *            the allocations of functions on logical constituents
+ * @author ebausson
+ */
+public record GeneratedSEIMModel(SEIMModelConfiguration configuration, List<Node> functions, List<Node> logicalConstituents, List<Flow> functionalFlows, List<Flow> logicalFlows,
+        List<Allocation> allocations) {
+
+    /**
+     * A function or a logical constituent.
+     * <p>
+     * Elements reference both their parent and their children, they are compared by identity.
+     * </p>
+     *
+     * @author ebausson
+     */
+    public static final class Node {
+
+        private final String name;
+
+        private final Node parent;
+
+        private final List<Port> ports = new ArrayList<>();
+
+        private final List<Node> children = new ArrayList<>();
+
+        Node(String name, Node parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public String name() {
+            return this.name;
+        }
+
+        /**
+         * Get the parent element.
+         *
+         * @return the parent element, {@code null} for top-level elements
+         */
+        public Node parent() {
+            return this.parent;
+        }
+
+        public List<Port> ports() {
+            return this.ports;
+        }
+
+        public List<Node> children() {
+            return this.children;
+        }
+
+        /**
+         * Get the names of the element and of its ancestors, starting from the top-level element.
+         *
+         * @return the path of the element
+         */
+        public List<String> getPath() {
+            List<String> path = new ArrayList<>();
+            for (Node node = this; node != null; node = node.parent()) {
+                path.add(0, node.name());
+            }
+            return path;
+        }
+
+        @Override
+        public String toString() {
+            return String.join(".", this.getPath());
+        }
+    }
+
+    /**
+     * A port of a function or of a logical constituent.
+     *
+     * @author ebausson
+     */
+    public record Port(String name, Node owner, boolean isIn) {
+
+        @Override
+        public String toString() {
+            return this.owner + "." + this.name;
+        }
+    }
+
+    /**
+     * A flow from an out port to an in port.
+     *
+     * @author ebausson
+     */
+    public record Flow(String name, Port source, Port target) {
+    }
+
+    /**
+     * The allocation of a function on a logical constituent.
+     *
+     * @author ebausson
+     */
+    public record Allocation(String name, Node function, Node logicalConstituent) {
+    }
+
+    /**
+     * Get all the functions of the breakdown, parents first.
+     *
+     * @return all the functions
+     */
+    public List<Node> getAllFunctions() {
+        return flatten(this.functions);
+    }
+
+    /**
+     * Get all the logical constituents of the breakdown, parents first.
+     *
+     * @return all the logical constituents
+     */
+    public List<Node> getAllLogicalConstituents() {
+        return flatten(this.logicalConstituents);
+    }
+
+    static List<Node> flatten(List<Node> roots) {
+        List<Node> nodes = new ArrayList<>(roots);
+        for (int i = 0; i < nodes.size(); i++) {
+            nodes.addAll(nodes.get(i).children());
+        }
+        return nodes;
+    }
+}
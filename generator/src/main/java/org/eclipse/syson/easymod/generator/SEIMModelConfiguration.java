@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+/**
+ * The parameters of a synthetic SEIM model.
+ *
+ * @param name
+ *            the name of the root package of the model
+ * @param seed
+ *            the seed of the generator, the same configuration always produces the same model
+ * @param depth
+ *            the depth of the function breakdown, the logical constituent breakdown is one level less deep
+ * @param fanOut
+ *            the number of children of each function and of each logical constituent
+ * @param portsPerFunction
+ *            the number of ports of each function and of each logical constituent, alternately in and out
+ * @param flowDensity
+ *            the number of flows per function, or per logical constituent
+ * @param allocationRatio
+ *            the ratio of allocated functions, between 0 and 1
+ * @author ebausson
+ */
+public record SEIMModelConfiguration(String name, long seed, int depth, int fanOut, int portsPerFunction, double flowDensity, double allocationRatio) {
+
+    /**
+     * The configuration of a model of about 2000 elements.
+     */
+    public static final SEIMModelConfiguration DEFAULT = new SEIMModelConfiguration("Synthetic", 42L, 4, 4, 2, 1.0, 0.8);
+
+    private static final int MAX_FAN_OUT = 32;
+
+    private static final int MAX_DEPTH = 8;
+
+    public SEIMModelConfiguration {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("The name of the model is required");
+        }
+        if (depth < 1 || fanOut < 1) {
+            throw new IllegalArgumentException("The depth and the fan-out must be greater than 0");
+        }
+        if (portsPerFunction < 0 || flowDensity < 0) {
+            throw new IllegalArgumentException("The number of ports and the flow density must be positive");
+        }
+        if (allocationRatio < 0 || allocationRatio > 1) {
+            throw new IllegalArgumentException("The allocation ratio must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Get the configuration of the default shape whose number of elements is the closest to the given one.
+     *
+     * @param elementCount
+     *            the expected number of elements
+     * @return a configuration producing about the given number of elements
+     */
+    public SEIMModelConfiguration ofSize(int elementCount) {
+        SEIMModelConfiguration closest = this;
+        long smallestDelta = Long.MAX_VALUE;
+        for (int candidateDepth = 2; candidateDepth <= MAX_DEPTH; candidateDepth++) {
+            for (int candidateFanOut = 2; candidateFanOut <= MAX_FAN_OUT; candidateFanOut++) {
+                SEIMModelConfiguration candidate = this.withDepth(candidateDepth).withFanOut(candidateFanOut);
+                long delta = Math.abs(candidate.estimateElementCount() - elementCount);
+                if (delta < smallestDelta) {
+                    smallestDelta = delta;
+                    closest = candidate;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Estimate the number of usages of the generated model: functions, logical constituents, ports, flows and
+     * allocations.
+     *
+     * @return the expected number of usages
+     */
+    public long estimateElementCount() {
+        long functionCount = this.getBreakdownSize(this.depth);
+        long constituentCount = this.getBreakdownSize(this.getConstituentDepth());
+        long nodeCount = functionCount + constituentCount;
+        return nodeCount * (1 + this.portsPerFunction) + Math.round(nodeCount * this.flowDensity) + Math.round(functionCount * this.allocationRatio);
+    }
+
+    /**
+     * Get the depth of the logical constituent breakdown.
+     *
+     * @return the depth of the logical constituent breakdown
+     */
+    public int getConstituentDepth() {
+        return Math.max(1, this.depth - 1);
+    }
+
+    public SEIMModelConfiguration withName(String newName) {
+        return new SEIMModelConfiguration(newName, this.seed, this.depth, this.fanOut, this.portsPerFunction, this.flowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withSeed(long newSeed) {
+        return new SEIMModelConfiguration(this.name, newSeed, this.depth, this.fanOut, this.portsPerFunction, this.flowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withDepth(int newDepth) {
+        return new SEIMModelConfiguration(this.name, this.seed, newDepth, this.fanOut, this.portsPerFunction, this.flowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withFanOut(int newFanOut) {
+        return new SEIMModelConfiguration(this.name, this.seed, this.depth, newFanOut, this.portsPerFunction, this.flowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withPortsPerFunction(int newPortsPerFunction) {
+        return new SEIMModelConfiguration(this.name, this.seed, this.depth, this.fanOut, newPortsPerFunction, this.flowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withFlowDensity(double newFlowDensity) {
+        return new SEIMModelConfiguration(this.name, this.seed, this.depth, this.fanOut, this.portsPerFunction, newFlowDensity, this.allocationRatio);
+    }
+
+    public SEIMModelConfiguration withAllocationRatio(double newAllocationRatio) {
+        return new SEIMModelConfiguration(this.name, this.seed, this.depth, this.fanOut, this.portsPerFunction, this.flowDensity, newAllocationRatio);
+    }
+
+    private long getBreakdownSize(int breakdownDepth) {
+        long size = 0;
+        long levelSize = 1;
+        for (int level = 1; level <= breakdownDepth; level++) {
+            levelSize *= this.fanOut;
+            size += levelSize;
+        }
+        return size;
+    }
+}
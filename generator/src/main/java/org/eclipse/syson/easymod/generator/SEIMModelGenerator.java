@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Allocation;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Flow;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Node;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Port;
+
+/**
+ * Generate the content of synthetic SEIM models.
+ * <p>
+ * The generation only depends on the configuration: the random choices (the ends of the flows, the allocated
+ * functions and their logical constituents) are drawn from a generator initialized with the seed of the
+ * configuration, in a fixed order.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class SEIMModelGenerator {
+
+    /**
+     * Generate the content of a model.
+     *
+     * @param configuration
+     *            the configuration of the model
+     * @return the content of the model
+     */
+    public GeneratedSEIMModel generate(SEIMModelConfiguration configuration) {
+        SplittableRandom random = new SplittableRandom(configuration.seed());
+
+        List<Node> functions = this.createBreakdown("F", configuration.depth(), configuration);
+        List<Node> logicalConstituents = this.createBreakdown("C", configuration.getConstituentDepth(), configuration);
+        List<Node> allFunctions = GeneratedSEIMModel.flatten(functions);
+        List<Node> allLogicalConstituents = GeneratedSEIMModel.flatten(logicalConstituents);
+
+        List<Flow> functionalFlows = this.createFlows("ff", allFunctions, configuration.flowDensity(), random);
+        List<Flow> logicalFlows = this.createFlows("lf", allLogicalConstituents, configuration.flowDensity(), random);
+
+        List<Allocation> allocations = new ArrayList<>();
+        for (Node function : allFunctions) {
+            if (random.nextDouble() < configuration.allocationRatio()) {
+                Node logicalConstituent = allLogicalConstituents.get(random.nextInt(allLogicalConstituents.size()));
+                allocations.add(new Allocation("a" + (allocations.size() + 1), function, logicalConstituent));
+            }
+        }
+        return new GeneratedSEIMModel(configuration, functions, logicalConstituents, functionalFlows, logicalFlows, allocations);
+    }
+
+    private List<Node> createBreakdown(String prefix, int depth, SEIMModelConfiguration configuration) {
+        List<Node> roots = this.createChildren(prefix, null, configuration);
+        List<Node> level = roots;
+        for (int currentDepth = 2; currentDepth <= depth; currentDepth++) {
+            List<Node> nextLevel = new ArrayList<>();
+            for (Node node : level) {
+                node.children().addAll(this.createChildren(node.name() + "_", node, configuration));
+                nextLevel.addAll(node.children());
+            }
+            level = nextLevel;
+        }
+        return roots;
+    }
+
+    private List<Node> createChildren(String prefix, Node parent, SEIMModelConfiguration configuration) {
+        List<Node> children = new ArrayList<>();
+        for (int i = 1; i <= configuration.fanOut(); i++) {
+            Node node = new Node(prefix + i, parent);
+            for (int j = 1; j <= configuration.portsPerFunction(); j++) {
+                node.ports().add(new Port("p" + j, node, j % 2 == 1));
+            }
+            children.add(node);
+        }
+        return children;
+    }
+
+    /**
+     * Create flows from an out port of a random element to an in port of another random element. No flow is created
+     * when the elements do not have both in and out ports.
+     */
+    private List<Flow> createFlows(String prefix, List<Node> nodes, double flowDensity, SplittableRandom random) {
+        List<Flow> flows = new ArrayList<>();
+        long flowCount = Math.round(nodes.size() * flowDensity);
+        if (nodes.size() > 1 && nodes.get(0).ports().size() > 1) {
+            for (long i = 1; i <= flowCount; i++) {
+                int sourceIndex = random.nextInt(nodes.size());
+                int targetIndex = (sourceIndex + 1 + random.nextInt(nodes.size() - 1)) % nodes.size();
+                Port source = this.pickPort(nodes.get(sourceIndex), false, random);
+                Port target = this.pickPort(nodes.get(targetIndex), true, random);
+                flows.add(new Flow(prefix + i, source, target));
+            }
+        }
+        return flows;
+    }
+
+    private Port pickPort(Node node, boolean isIn, SplittableRandom random) {
+        List<Port> candidates = node.ports().stream()
+                .filter(port -> port.isIn() == isIn)
+                .toList();
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
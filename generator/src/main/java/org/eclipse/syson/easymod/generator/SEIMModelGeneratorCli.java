@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Command line interface of the {@link SEIMModelGenerator}, writing a synthetic model in a {@code .sysml} file.
+ *
+ * <pre>
+ * mvn -pl generator exec:java -Dexec.args="--size=10000 --seed=7 --output=synthetic.sysml"
+ * </pre>
+ *
+ * <p>
+ * The options are {@code --name}, {@code --seed}, {@code --size} (which chooses the depth and the fan-out),
+ * {@code --depth}, {@code --fan-out}, {@code --ports}, {@code --flow-density}, {@code --allocation-ratio} and
+ * {@code --output}. Without {@code --output}, the model is written on the standard output. Unspecified options
+ * keep the values of {@link SEIMModelConfiguration#DEFAULT}.
+ * </p>
+ *
+ * @author ebausson
+ */
+public final class SEIMModelGeneratorCli {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SEIMModelGeneratorCli.class);
+
+    private static final String OPTION_PREFIX = "--";
+
+    private SEIMModelGeneratorCli() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) {
+        try {
+            SEIMModelConfiguration configuration = parse(args);
+            GeneratedSEIMModel model = new SEIMModelGenerator().generate(configuration);
+            String output = getOption(args, "output");
+            if (output != null) {
+                try (Writer writer = Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+                    new SEIMTextWriter().write(model, writer);
+                }
+                LOGGER.info("Model {} with about {} elements written in {}", configuration, configuration.estimateElementCount(), output);
+            } else {
+                Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+                new SEIMTextWriter().write(model, writer);
+                writer.flush();
+            }
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getMessage());
+            System.exit(1);
+        } catch (IOException | UncheckedIOException exception) {
+            LOGGER.error("The model cannot be written", exception);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Get the configuration described by the given arguments.
+     *
+     * @param args
+     *            the arguments of the command line
+     * @return the configuration of the model
+     */
+    static SEIMModelConfiguration parse(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith(OPTION_PREFIX) || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg + ", options are expected as --name=value");
+            }
+        }
+        SEIMModelConfiguration configuration = SEIMModelConfiguration.DEFAULT;
+        String name = getOption(args, "name");
+        if (name != null) {
+            configuration = configuration.withName(name);
+        }
+        String seed = getOption(args, "seed");
+        if (seed != null) {
+            configuration = configuration.withSeed(parseNumber(seed, Long::parseLong));
+        }
+        String ports = getOption(args, "ports");
+        if (ports != null) {
+            configuration = configuration.withPortsPerFunction(parseNumber(ports, Integer::parseInt));
+        }
+        String flowDensity = getOption(args, "flow-density");
+        if (flowDensity != null) {
+            configuration = configuration.withFlowDensity(parseNumber(flowDensity, Double::parseDouble));
+        }
+        String allocationRatio = getOption(args, "allocation-ratio");
+        if (allocationRatio != null) {
+            configuration = configuration.withAllocationRatio(parseNumber(allocationRatio, Double::parseDouble));
+        }
+        String size = getOption(args, "size");
+        if (size != null) {
+            configuration = configuration.ofSize(parseNumber(size, Integer::parseInt));
+        }
+        String depth = getOption(args, "depth");
+        if (depth != null) {
+            configuration = configuration.withDepth(parseNumber(depth, Integer::parseInt));
+        }
+        String fanOut = getOption(args, "fan-out");
+        if (fanOut != null) {
+            configuration = configuration.withFanOut(parseNumber(fanOut, Integer::parseInt));
+        }
+        return configuration;
+    }
+
+    private static String getOption(String[] args, String option) {
+        String prefix = OPTION_PREFIX + option + "=";
+        String value = null;
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                value = arg.substring(prefix.length());
+            }
+        }
+        return value;
+    }
+
+    private static <T> T parseNumber(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid number " + value, exception);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+
+/**
+ * A synthetic SEIM model written in a {@link Resource}.
+ *
+ * @param resource
+ *            the resource containing the model
+ * @param functionalPackage
+ *            the package of the function breakdown and of the functional flows
+ * @param logicalPackage
+ *            the package of the logical constituent breakdown, of the logical flows and of the allocations
+ * @param functions
+ *            all the functions, parents first
+ * @param logicalConstituents
+ *            all the logical constituents, parents first
+ * @author ebausson
+ */
+public record SEIMModelResource(Resource resource, Package functionalPackage, Package logicalPackage, List<ActionUsage> functions, List<PartUsage> logicalConstituents) {
+}
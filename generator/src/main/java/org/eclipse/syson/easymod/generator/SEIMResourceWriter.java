@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Allocation;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Flow;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Node;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Port;
+import org.eclipse.syson.sysml.ActionUsage;
+import org.eclipse.syson.sysml.AllocationUsage;
+import org.eclipse.syson.sysml.AttributeUsage;
+import org.eclipse.syson.sysml.Element;
+import org.eclipse.syson.sysml.FeatureDirectionKind;
+import org.eclipse.syson.sysml.FeatureMembership;
+import org.eclipse.syson.sysml.FeatureTyping;
+import org.eclipse.syson.sysml.InterfaceUsage;
+import org.eclipse.syson.sysml.LibraryPackage;
+import org.eclipse.syson.sysml.Namespace;
+import org.eclipse.syson.sysml.OwningMembership;
+import org.eclipse.syson.sysml.Package;
+import org.eclipse.syson.sysml.PartUsage;
+import org.eclipse.syson.sysml.PortUsage;
+import org.eclipse.syson.sysml.SysmlFactory;
+import org.eclipse.syson.sysml.Type;
+import org.eclipse.syson.sysml.Usage;
+
+/**
+ * Write a synthetic SEIM model in a {@link Resource}.
+ * <p>
+ * The SEIM definitions are looked up by name in the {@code SEIM} packages at the root of the resources of the resource
+ * set. When the resource set does not contain the SEIM library, a resource with the definitions of {@code seim.sysml}
+ * is added first.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class SEIMResourceWriter {
+
+    private static final String FUNCTIONAL_PACKAGE_NAME = "Functional Analysis";
+
+    private static final String LOGICAL_PACKAGE_NAME = "Constituent Analysis";
+
+    private static final String SEIM_PACKAGE_NAME = "SEIM";
+
+    private static final String FUNCTION = "Function";
+
+    private static final String ALLOCATED_FUNCTION = "AllocatedFunction";
+
+    private static final String FUNCTIONAL_FLOW = "FunctionalFlow";
+
+    private static final String LOGICAL_FLOW = "LogicalFlow";
+
+    private static final String LOGICAL_CONSTITUENT = "LogicalConstituent";
+
+    private static final String FUNCTION_PORT = "FunctionPort";
+
+    private static final String CONSTITUENT_PORT = "ConstituentPort";
+
+    private final SysmlFactory factory = SysmlFactory.eINSTANCE;
+
+    /**
+     * Write the given model in a new resource of the given resource set.
+     *
+     * @param model
+     *            the content of the model
+     * @param resourceSet
+     *            the resource set of the new resource
+     * @return the new resource and its main elements
+     */
+    public SEIMModelResource write(GeneratedSEIMModel model, ResourceSet resourceSet) {
+        Namespace root = this.createRoot(resourceSet, model.configuration().name() + ".sysml");
+        Map<String, Type> definitions = this.getDefinitions(resourceSet);
+        if (!definitions.containsKey(FUNCTION)) {
+            this.createLibrary(resourceSet);
+            definitions = this.getDefinitions(resourceSet);
+        }
+
+        Package modelPackage = this.addOwnedMember(root, this.factory.createPackage(), model.configuration().name());
+        Package functionalPackage = this.addOwnedMember(modelPackage, this.factory.createPackage(), FUNCTIONAL_PACKAGE_NAME);
+        Package logicalPackage = this.addOwnedMember(modelPackage, this.factory.createPackage(), LOGICAL_PACKAGE_NAME);
+
+        Map<Node, Usage> functions = new HashMap<>();
+        Map<Node, Usage> logicalConstituents = new HashMap<>();
+        Map<Port, PortUsage> ports = new HashMap<>();
+        Type functionPortDefinition = this.getDefinition(definitions, FUNCTION_PORT);
+        Type constituentPortDefinition = this.getDefinition(definitions, CONSTITUENT_PORT);
+
+        for (Node node : model.getAllFunctions()) {
+            ActionUsage function = this.factory.createActionUsage();
+            this.addNode(node, function, functionalPackage, functions, this.getDefinition(definitions, FUNCTION));
+            this.addPorts(node, function, functionPortDefinition, ports);
+        }
+        for (Node node : model.getAllLogicalConstituents()) {
+            PartUsage logicalConstituent = this.factory.createPartUsage();
+            this.addNode(node, logicalConstituent, logicalPackage, logicalConstituents, this.getDefinition(definitions, LOGICAL_CONSTITUENT));
+            this.addPorts(node, logicalConstituent, constituentPortDefinition, ports);
+        }
+
+        Type functionalFlowDefinition = this.getDefinition(definitions, FUNCTIONAL_FLOW);
+        for (Flow flow : model.functionalFlows()) {
+            this.addFlow(flow, functionalPackage, functionalFlowDefinition, ports);
+        }
+        Type logicalFlowDefinition = this.getDefinition(definitions, LOGICAL_FLOW);
+        for (Flow flow : model.logicalFlows()) {
+            this.addFlow(flow, logicalPackage, logicalFlowDefinition, ports);
+        }
+
+        Type allocationDefinition = this.getDefinition(definitions, ALLOCATED_FUNCTION);
+        for (Allocation allocation : model.allocations()) {
+            AllocationUsage allocationUsage = this.factory.createAllocationUsage();
+            allocationUsage.setDeclaredName(allocation.name());
+            this.addOwnedFeature(logicalPackage, allocationUsage);
+            this.setType(allocationUsage, allocationDefinition);
+            allocationUsage.getSource().add(functions.get(allocation.function()));
+            allocationUsage.getTarget().add(logicalConstituents.get(allocation.logicalConstituent()));
+        }
+
+        List<ActionUsage> allFunctions = new ArrayList<>();
+        model.getAllFunctions().forEach(node -> allFunctions.add((ActionUsage) functions.get(node)));
+        List<PartUsage> allLogicalConstituents = new ArrayList<>();
+        model.getAllLogicalConstituents().forEach(node -> allLogicalConstituents.add((PartUsage) logicalConstituents.get(node)));
+        return new SEIMModelResource(root.eResource(), functionalPackage, logicalPackage, List.copyOf(allFunctions), List.copyOf(allLogicalConstituents));
+    }
+
+    private void createLibrary(ResourceSet resourceSet) {
+        Namespace root = this.createRoot(resourceSet, "seim.sysml");
+        LibraryPackage seim = this.addOwnedMember(root, this.factory.createLibraryPackage(), SEIM_PACKAGE_NAME);
+        this.addOwnedMember(seim, this.factory.createActionDefinition(), FUNCTION);
+        this.addOwnedMember(seim, this.factory.createAllocationDefinition(), ALLOCATED_FUNCTION);
+        this.addOwnedMember(seim, this.factory.createInterfaceDefinition(), FUNCTIONAL_FLOW);
+        this.addOwnedMember(seim, this.factory.createInterfaceDefinition(), LOGICAL_FLOW);
+        var logicalConstituent = this.addOwnedMember(seim, this.factory.createPartDefinition(), LOGICAL_CONSTITUENT);
+        this.addOwnedMember(seim, this.factory.createPortDefinition(), FUNCTION_PORT);
+        this.addOwnedMember(seim, this.factory.createPortDefinition(), CONSTITUENT_PORT);
+
+        AttributeUsage isSystemOfInterest = this.factory.createAttributeUsage();
+        isSystemOfInterest.setDeclaredName("isSystemOfInterest");
+        this.addOwnedFeature(logicalConstituent, isSystemOfInterest);
+    }
+
+    /**
+     * Get the types owned by the {@code SEIM} packages at the root of the resources, by name.
+     */
+    private Map<String, Type> getDefinitions(ResourceSet resourceSet) {
+        Map<String, Type> definitions = new HashMap<>();
+        for (Resource resource : resourceSet.getResources()) {
+            for (EObject root : resource.getContents()) {
+                if (root instanceof Namespace namespace) {
+                    namespace.getOwnedMember().stream()
+                            .filter(Package.class::isInstance)
+                            .filter(member -> SEIM_PACKAGE_NAME.equals(member.getDeclaredName()))
+                            .flatMap(seim -> ((Package) seim).getOwnedMember().stream())
+                            .filter(Type.class::isInstance)
+                            .forEach(definition -> definitions.putIfAbsent(definition.getDeclaredName(), (Type) definition));
+                }
+            }
+        }
+        return definitions;
+    }
+
+    private Type getDefinition(Map<String, Type> definitions, String name) {
+        Type definition = definitions.get(name);
+        if (definition == null) {
+            throw new IllegalStateException("The SEIM library does not contain " + SEIM_PACKAGE_NAME + "::" + name);
+        }
+        return definition;
+    }
+
+    private Namespace createRoot(ResourceSet resourceSet, String name) {
+        Resource resource = new ResourceImpl(URI.createURI(name));
+        resourceSet.getResources().add(resource);
+        Namespace root = this.factory.createNamespace();
+        resource.getContents().add(root);
+        return root;
+    }
+
+    private void addNode(Node node, Usage usage, Package pkg, Map<Node, Usage> usages, Type definition) {
+        usage.setDeclaredName(node.name());
+        if (node.parent() == null) {
+            this.addOwnedMember(pkg, usage);
+        } else {
+            this.addOwnedFeature(usages.get(node.parent()), usage);
+        }
+        this.setType(usage, definition);
+        usages.put(node, usage);
+    }
+
+    private void addPorts(Node node, Usage owner, Type portDefinition, Map<Port, PortUsage> ports) {
+        for (Port port : node.ports()) {
+            PortUsage portUsage = this.factory.createPortUsage();
+            portUsage.setDeclaredName(port.name());
+            if (port.isIn()) {
+                portUsage.setDirection(FeatureDirectionKind.IN);
+            } else {
+                portUsage.setDirection(FeatureDirectionKind.OUT);
+            }
+            this.addOwnedFeature(owner, portUsage);
+            this.setType(portUsage, portDefinition);
+            ports.put(port, portUsage);
+        }
+    }
+
+    private void addFlow(Flow flow, Package pkg, Type flowDefinition, Map<Port, PortUsage> ports) {
+        InterfaceUsage interfaceUsage = this.factory.createInterfaceUsage();
+        interfaceUsage.setDeclaredName(flow.name());
+        this.addOwnedFeature(pkg, interfaceUsage);
+        this.setType(interfaceUsage, flowDefinition);
+        interfaceUsage.getSource().add(ports.get(flow.source()));
+        interfaceUsage.getTarget().add(ports.get(flow.target()));
+    }
+
+    private <T extends Element> T addOwnedMember(Namespace owner, T member, String name) {
+        member.setDeclaredName(name);
+        OwningMembership owningMembership = this.factory.createOwningMembership();
+        owner.getOwnedRelationship().add(owningMembership);
+        owningMembership.getOwnedRelatedElement().add(member);
+        return member;
+    }
+
+    private void addOwnedFeature(Namespace owner, Usage feature) {
+        FeatureMembership featureMembership = this.factory.createFeatureMembership();
+        owner.getOwnedRelationship().add(featureMembership);
+        featureMembership.getOwnedRelatedElement().add(feature);
+    }
+
+    private void setType(Usage usage, Type type) {
+        FeatureTyping featureTyping = this.factory.createFeatureTyping();
+        featureTyping.setType(type);
+        usage.getOwnedRelationship().add(featureTyping);
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Allocation;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Flow;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Node;
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Port;
+
+/**
+ * Write a synthetic SEIM model in the SysML textual notation, with the layout of {@code aida-drone.sysml}.
+ * <p>
+ * The written model imports {@code SEIM::**}, the {@code seim.sysml} library has to be loaded with it.
+ * </p>
+ *
+ * @author ebausson
+ */
+public class SEIMTextWriter {
+
+    private static final String FUNCTIONAL_PACKAGE_NAME = "'Functional Analysis'";
+
+    private static final String LOGICAL_PACKAGE_NAME = "'Constituent Analysis'";
+
+    private static final String INDENTATION = "    ";
+
+    /**
+     * Get the textual notation of the given model.
+     *
+     * @param model
+     *            the content of the model
+     * @return the textual notation of the model
+     */
+    public String toSysML(GeneratedSEIMModel model) {
+        StringBuilder builder = new StringBuilder();
+        this.write(model, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Write the textual notation of the given model.
+     *
+     * @param model
+     *            the content of the model
+     * @param output
+     *            the output of the textual notation
+     */
+    public void write(GeneratedSEIMModel model, Appendable output) {
+        try {
+            output.append("package ").append(this.toName(model.configuration().name())).append(" {\n");
+            this.line(output, 1, "import SEIM::**;");
+            output.append('\n');
+
+            this.line(output, 1, "package " + FUNCTIONAL_PACKAGE_NAME + " {");
+            for (Node function : model.functions()) {
+                this.writeNode(output, 2, "action", "Function", "FunctionPort", function);
+            }
+            for (Flow flow : model.functionalFlows()) {
+                this.writeFlow(output, "FunctionalFlow", flow);
+            }
+            this.line(output, 1, "}");
+            output.append('\n');
+
+            this.line(output, 1, "package " + LOGICAL_PACKAGE_NAME + " {");
+            for (Node logicalConstituent : model.logicalConstituents()) {
+                this.writeNode(output, 2, "part", "LogicalConstituent", "ConstituentPort", logicalConstituent);
+            }
+            for (Flow flow : model.logicalFlows()) {
+                this.writeFlow(output, "LogicalFlow", flow);
+            }
+            for (Allocation allocation : model.allocations()) {
+                this.line(output, 2, "allocation " + allocation.name() + " : AllocatedFunction {");
+                this.line(output, 3, "allocate function ::> " + FUNCTIONAL_PACKAGE_NAME + "::" + allocation.function() + " to component ::> " + allocation.logicalConstituent() + ";");
+                this.line(output, 2, "}");
+            }
+            this.line(output, 1, "}");
+            output.append("}\n");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeNode(Appendable output, int level, String keyword, String type, String portType, Node node) throws IOException {
+        List<Port> ports = node.ports();
+        if (ports.isEmpty() && node.children().isEmpty()) {
+            this.line(output, level, keyword + " " + node.name() + " : " + type + ";");
+        } else {
+            this.line(output, level, keyword + " " + node.name() + " : " + type + " {");
+            for (Port port : ports) {
+                this.line(output, level + 1, this.getDirection(port) + " port " + port.name() + " : " + portType + ";");
+            }
+            for (Node child : node.children()) {
+                this.writeNode(output, level + 1, keyword, type, portType, child);
+            }
+            this.line(output, level, "}");
+        }
+    }
+
+    private String getDirection(Port port) {
+        String direction = "out";
+        if (port.isIn()) {
+            direction = "in";
+        }
+        return direction;
+    }
+
+    private void writeFlow(Appendable output, String type, Flow flow) throws IOException {
+        this.line(output, 2, "interface " + flow.name() + " : " + type + " {");
+        this.line(output, 3, "connect source ::> " + flow.source() + " to target ::> " + flow.target() + ";");
+        this.line(output, 2, "}");
+    }
+
+    private String toName(String name) {
+        String sysmlName = name;
+        if (!name.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+            sysmlName = "'" + name.replace("\\", "\\\\").replace("'", "\\'") + "'";
+        }
+        return sysmlName;
+    }
+
+    private void line(Appendable output, int level, String content) throws IOException {
+        output.append(INDENTATION.repeat(level)).append(content).append('\n');
+    }
+}
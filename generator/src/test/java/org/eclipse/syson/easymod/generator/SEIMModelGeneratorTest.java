@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.syson.easymod.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.syson.easymod.generator.GeneratedSEIMModel.Flow;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link SEIMModelGenerator}.
+ *
+ * @author ebausson
+ */
+public class SEIMModelGeneratorTest {
+
+    private final SEIMModelConfiguration configuration = SEIMModelConfiguration.DEFAULT.ofSize(1_000);
+
+    @Test
+    public void testSameSeedGeneratesTheSameModel() {
+        String first = new SEIMTextWriter().toSysML(new SEIMModelGenerator().generate(this.configuration));
+        String second = new SEIMTextWriter().toSysML(new SEIMModelGenerator().generate(this.configuration));
+
+        assertThat(first).contains("allocation a1 : AllocatedFunction").isEqualTo(second);
+    }
+
+    @Test
+    public void testOtherSeedGeneratesAnotherModel() {
+        String first = new SEIMTextWriter().toSysML(new SEIMModelGenerator().generate(this.configuration));
+        String second = new SEIMTextWriter().toSysML(new SEIMModelGenerator().generate(this.configuration.withSeed(this.configuration.seed() + 1)));
+
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    public void testWriteAndToSysMLAreIdentical() {
+        GeneratedSEIMModel model = new SEIMModelGenerator().generate(this.configuration);
+        StringBuilder builder = new StringBuilder();
+        new SEIMTextWriter().write(model, builder);
+
+        assertThat(builder).hasToString(new SEIMTextWriter().toSysML(model));
+    }
+
+    @Test
+    public void testModelFollowsTheConfiguration() {
+        SEIMModelConfiguration smallConfiguration = SEIMModelConfiguration.DEFAULT.withDepth(3).withFanOut(3).withPortsPerFunction(2).withFlowDensity(0.5);
+        GeneratedSEIMModel model = new SEIMModelGenerator().generate(smallConfiguration);
+
+        assertThat(model.functions()).hasSize(3);
+        assertThat(model.getAllFunctions()).hasSize(3 + 9 + 27).allSatisfy(function -> assertThat(function.ports()).hasSize(2));
+        assertThat(model.getAllLogicalConstituents()).hasSize(3 + 9);
+        assertThat(model.functionalFlows()).hasSize(20);
+        assertThat(model.logicalFlows()).hasSize(6);
+        assertThat(model.getAllFunctions().get(3).getPath()).containsExactly("F1", "F1_1");
+        assertThat(smallConfiguration.estimateElementCount()).isEqualTo((39 + 12) * 3 + Math.round(51 * 0.5) + Math.round(39 * 0.8));
+    }
+
+    @Test
+    public void testFlowsGoFromAnOutPortToAnInPortOfAnotherElement() {
+        GeneratedSEIMModel model = new SEIMModelGenerator().generate(this.configuration);
+
+        List<Flow> flows = model.functionalFlows();
+        assertThat(flows).isNotEmpty().allSatisfy(flow -> {
+            assertThat(flow.source().isIn()).isFalse();
+            assertThat(flow.target().isIn()).isTrue();
+            assertThat(flow.source().owner()).isNotSameAs(flow.target().owner());
+        });
+    }
+
+    @Test
+    public void testAllocationRatio() {
+        GeneratedSEIMModel allAllocated = new SEIMModelGenerator().generate(this.configuration.withAllocationRatio(1));
+        GeneratedSEIMModel noneAllocated = new SEIMModelGenerator().generate(this.configuration.withAllocationRatio(0));
+
+        assertThat(allAllocated.allocations()).extracting(GeneratedSEIMModel.Allocation::function).containsExactlyElementsOf(allAllocated.getAllFunctions());
+        assertThat(noneAllocated.allocations()).isEmpty();
+    }
+
+    @Test
+    public void testOfSizeIsCloseToTheExpectedSize() {
+        for (int elementCount : List.of(1_000, 10_000, 100_000)) {
+            long estimatedElementCount = SEIMModelConfiguration.DEFAULT.ofSize(elementCount).estimateElementCount();
+            assertThat(estimatedElementCount).isBetween(elementCount / 2L, elementCount * 2L);
+        }
+    }
+}